@@ -22,6 +22,24 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 
@@ -162,6 +180,235 @@ class FileIOManager {
 
 
 
+
+/**
+ * NIO backend for file I/O under a root directory, with an explicit charset.
+ * <p>
+ * Unlike {@link FileIOManager}, nothing is rewritten or swallowed: {@link #read} returns the
+ * file exactly as stored (line endings included), {@link #lines} streams a file of any size
+ * one line at a time, writes encode the text in {@value #BUFFER_BYTES}-byte blocks straight
+ * into a {@link FileChannel} (no full-size byte copy of the content), and failures surface
+ * as {@link IOException}s.
+ * </p>
+ */
+class NioFileIOManager {
+    /** How {@link #write} treats an existing file. */
+    enum WriteMode {
+        /** truncate and overwrite the file in place */
+        REPLACE,
+        /** add to the end of the file */
+        APPEND,
+        /**
+         * write a temporary file next to the target, flush it to disk, then move it over the
+         * target, so readers see either the old or the new content, never a partial file;
+         * the target's POSIX permissions carry over to the new file
+         */
+        ATOMIC_REPLACE
+    }
+
+    // Size of the blocks text is encoded into before each channel write.
+    static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Path root;
+    private final Charset charset;
+
+    /**
+     * Constructor which sets the root directory; files are read and written as UTF-8.
+     * @param rootPath The base directory for file operations.
+     */
+    public NioFileIOManager(String rootPath) {
+        this(rootPath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructor which sets the root directory and the charset of all files.
+     * @param rootPath The base directory for file operations.
+     * @param charset  The charset text is decoded from and encoded to.
+     */
+    public NioFileIOManager(String rootPath, Charset charset) {
+        this.root = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.charset = charset;
+    }
+
+    /**
+     * Reads the whole file as one string, with its line endings unchanged.
+     * Use {@link #lines} for files that should not be held in memory at once.
+     *
+     * @param relativePath The file path relative to the root directory.
+     * @return The content of the file.
+     * @throws IOException if the file cannot be read or is not valid in the charset
+     */
+    public String read(String relativePath) throws IOException {
+        return Files.readString(resolve(relativePath), charset);
+    }
+
+    /**
+     * Opens a buffered reader on the file; the caller closes it.
+     *
+     * @param relativePath The file path relative to the root directory.
+     * @throws IOException if the file cannot be opened
+     */
+    public BufferedReader reader(String relativePath) throws IOException {
+        return Files.newBufferedReader(resolve(relativePath), charset);
+    }
+
+    /**
+     * Streams the lines of the file (without their line terminators), reading lazily as the
+     * stream is consumed, so multi-GB files take constant memory. The stream holds the file
+     * open; close it, e.g. with try-with-resources. Read errors during the stream surface
+     * as {@link java.io.UncheckedIOException}.
+     *
+     * @param relativePath The file path relative to the root directory.
+     * @throws IOException if the file cannot be opened
+     */
+    public Stream<String> lines(String relativePath) throws IOException {
+        return Files.lines(resolve(relativePath), charset);
+    }
+
+    /**
+     * Writes the content to the file, creating missing parent directories.
+     *
+     * @param content The text content to write into the file.
+     * @param relativePath The file path relative to the root directory.
+     * @param mode How an existing file is treated.
+     * @throws IOException if the file cannot be written or the content cannot be encoded
+     */
+    public void write(CharSequence content, String relativePath, WriteMode mode) throws IOException {
+        writeLines(Arrays.asList(content), relativePath, mode, "");
+    }
+
+    /**
+     * Writes each line followed by {@code "\n"}, encoding them one block at a time, so the
+     * lines can come from a lazily produced source of any size.
+     *
+     * @param lines The lines to write.
+     * @param relativePath The file path relative to the root directory.
+     * @param mode How an existing file is treated.
+     * @throws IOException if the file cannot be written or a line cannot be encoded
+     */
+    public void writeLines(Iterable<? extends CharSequence> lines, String relativePath, WriteMode mode) throws IOException {
+        writeLines(lines, relativePath, mode, "\n");
+    }
+
+    private void writeLines(Iterable<? extends CharSequence> lines, String relativePath, WriteMode mode,
+                            String separator) throws IOException {
+        Path target = resolve(relativePath);
+        Path parent = target.getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        if (mode != WriteMode.ATOMIC_REPLACE) {
+            StandardOpenOption last = (mode == WriteMode.APPEND)
+                ? StandardOpenOption.APPEND
+                : StandardOpenOption.TRUNCATE_EXISTING;
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, last)) {
+                encode(lines, separator, channel);
+            }
+            return;
+        }
+
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                encode(lines, separator, channel);
+                channel.force(true); // the data must be on disk before the rename makes it visible
+            }
+            // createTempFile makes the file owner-only; keep the target's permissions instead
+            if (Files.exists(target)
+                    && Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp); // only still there if something failed
+        }
+    }
+
+    /**
+     * Encodes every line plus separator through one heap buffer into the channel. The buffer is
+     * garbage once the write returns; the channel copies it through the JDK's own cached
+     * per-thread direct buffer, so no off-heap memory is held per manager or per thread.
+     */
+    private void encode(Iterable<? extends CharSequence> lines, String separator, FileChannel channel) throws IOException {
+        CharsetEncoder encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        CharBuffer pending = null; // a trailing high surrogate the encoder is still waiting on
+        for (CharSequence line : lines) {
+            pending = encode(encoder, join(pending, line), buffer, channel, false);
+            if (!separator.isEmpty()) pending = encode(encoder, join(pending, separator), buffer, channel, false);
+        }
+        encode(encoder, (pending == null) ? CharBuffer.allocate(0) : pending, buffer, channel, true);
+        while (encoder.flush(buffer) == CoderResult.OVERFLOW) drain(buffer, channel);
+        drain(buffer, channel);
+    }
+
+    private static CharBuffer join(CharBuffer pending, CharSequence next) {
+        if (pending == null) return CharBuffer.wrap(next);
+        return CharBuffer.wrap(pending.toString() + next);
+    }
+
+    /** Encodes {@code chars}, writing the buffer out whenever it fills; returns chars left over, if any. */
+    private static CharBuffer encode(CharsetEncoder encoder, CharBuffer chars, ByteBuffer buffer, FileChannel channel,
+                                     boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, endOfInput);
+            if (result.isOverflow()) {
+                drain(buffer, channel);
+            } else if (result.isError()) {
+                result.throwException();
+            } else {
+                return chars.hasRemaining() ? chars : null;
+            }
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Resolves a path against the root directory.
+     *
+     * @throws IllegalArgumentException if the path leads outside the root directory
+     */
+    Path resolve(String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root)) throw new IllegalArgumentException(relativePath + " is outside " + root);
+        return path;
+    }
+
+    // Main method for demonstration purposes.
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("nio-file-io");
+        NioFileIOManager fileManager = new NioFileIOManager(dir.toString());
+
+        fileManager.write("Hello, world!\r\nSecond line\r\n", "data/output.txt", WriteMode.ATOMIC_REPLACE);
+        fileManager.write("Third line\n", "data/output.txt", WriteMode.APPEND);
+        System.out.println("File content (line endings kept):\n" + fileManager.read("data/output.txt"));
+
+        // Stream a million-line log without holding it in memory.
+        fileManager.writeLines(() -> IntStream.range(0, 1_000_000)
+            .mapToObj(i -> (CharSequence) ("event " + i + (i % 1000 == 0 ? " ERROR" : " ok"))).iterator(),
+            "logs/app.log", WriteMode.REPLACE);
+        try (Stream<String> lines = fileManager.lines("logs/app.log")) {
+            System.out.println("ERROR lines: " + lines.filter(line -> line.endsWith("ERROR")).count());
+        }
+
+        for (String name : new String[] {"data/output.txt", "logs/app.log", "data", "logs", ""}) {
+            Files.delete(dir.resolve(name));
+        }
+    }
+}
+
+
+
 // class FileIOManager {
 //     private String filePath;
 
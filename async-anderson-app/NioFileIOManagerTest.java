@@ -0,0 +1,100 @@
+// File: NioFileIOManagerTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The NioFileIOManagerTest class provides JUnit tests for the NioFileIOManager class
+ * in FileIOPractice.java.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -cp junit-1.9.3.jar async-anderson-app/FileIOPractice.java async-anderson-app/NioFileIOManagerTest.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path async-anderson-app --scan-classpath; rm -rf async-anderson-app/*.class
+ *      ```
+ */
+public class NioFileIOManagerTest {
+    @TempDir
+    Path dir;
+
+    /**
+     * Tests that an atomic replace keeps the permissions of the file it replaces.
+     */
+    @Test
+    public void testAtomicReplaceKeepsPermissions() throws IOException {
+        assumeTrue(Files.getFileStore(dir).supportsFileAttributeView(PosixFileAttributeView.class), "POSIX file system");
+        NioFileIOManager manager = new NioFileIOManager(dir.toString());
+        Path file = dir.resolve("shared.txt");
+        manager.write("old", "shared.txt", NioFileIOManager.WriteMode.REPLACE);
+        for (String mode : new String[] {"rw-r--r--", "rw-rw----"}) {
+            Set<PosixFilePermission> permissions = PosixFilePermissions.fromString(mode);
+            Files.setPosixFilePermissions(file, permissions);
+            manager.write("new " + mode, "shared.txt", NioFileIOManager.WriteMode.ATOMIC_REPLACE);
+            assertEquals("new " + mode, manager.read("shared.txt"));
+            assertEquals(permissions, Files.getPosixFilePermissions(file), mode);
+        }
+    }
+
+    /**
+     * Tests that text larger than the encode buffer, with multi-byte characters across its
+     * block boundaries, is written unchanged by repeated writes through the reused buffer.
+     */
+    @Test
+    public void testLargeWritesReuseBuffer() throws IOException {
+        NioFileIOManager manager = new NioFileIOManager(dir.toString());
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) lines.add("line " + i + " é中😀");
+        String expected = String.join("\n", lines) + "\n";
+        for (NioFileIOManager.WriteMode mode : NioFileIOManager.WriteMode.values()) {
+            Files.deleteIfExists(dir.resolve("big.txt"));
+            manager.writeLines(lines, "big.txt", mode);
+            assertEquals(expected, manager.read("big.txt"), mode.toString());
+        }
+        assertTrue(expected.length() > 4 * NioFileIOManager.BUFFER_BYTES);
+    }
+
+    /**
+     * Tests that threads writing through one manager do not share a buffer.
+     */
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        NioFileIOManager manager = new NioFileIOManager(dir.toString());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                String text = String.join("", Collections.nCopies(50_000, Integer.toString(t)));
+                String name = "file" + t + ".txt";
+                writes.add(pool.submit(() -> {
+                    manager.write(text, name, NioFileIOManager.WriteMode.ATOMIC_REPLACE);
+                    assertEquals(text, manager.read(name));
+                    return null;
+                }));
+            }
+            for (Future<?> write : writes) write.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
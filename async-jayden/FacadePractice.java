@@ -20,6 +20,15 @@
 
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class FacadePractice {
     public static void main(String[] args) {
@@ -45,6 +54,20 @@ public class FacadePractice {
             // Close the file
             f.close();
         }
+
+        ///////////////////////////////////////////////////
+        // Open file in read-mapped mode: lines are views of the
+        // mapped file, nothing is copied until toString()
+        f = open("async-jayden/sample2.txt", "rm");
+        try {
+            Iterator<CharSequence> lines = f.lines();
+            while (lines.hasNext()) {
+                CharSequence line = lines.next();
+                System.out.println(line.length() + " bytes: " + line);
+            }
+        } finally {
+            f.close();
+        }
     }
 
 
@@ -66,9 +89,13 @@ public class FacadePractice {
     }
 }
 class FileIOFacade {
+    // Largest part of a file "rm" mode maps at once (a MappedByteBuffer holds at most 2 GB)
+    static final long MAP_WINDOW = 1L << 30;
     // Field (Variable inside Class)
     private Writer writer;
     private Reader reader;
+    private FileChannel channel; // "rm" mode
+    private ByteBuffer mapped;   // "rm" mode, the whole file once buffer() was called
     private String mode;
     private String filename;
     // Constructor (special method when called by `new` keyword)
@@ -78,6 +105,7 @@ class FileIOFacade {
         try {
             if (mode.equals("w")) writer = new FileWriter(filename);
             if (mode.equals("r")) reader = new FileReader(filename);
+            if (mode.equals("rm")) channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
         } catch (IOException e) { throw new RuntimeException("Error opening file: " + filename); }
     }
     /*
@@ -92,6 +120,7 @@ class FileIOFacade {
     }
     // Mimic Python's read() function
     public String read() {
+        if (mode.equals("rm")) return StandardCharsets.UTF_8.decode(buffer()).toString();
         if (!mode.equals("r")) throw new RuntimeException("File not opened in read mode!");
         try {
             BufferedReader br = new BufferedReader(reader);
@@ -108,6 +137,122 @@ class FileIOFacade {
         try {
             if (writer != null) writer.close();
             if (reader != null) reader.close();
+            if (channel != null) channel.close();
         } catch (IOException e) { throw new RuntimeException("Error closing file: " + filename); }
     }
-}
\ No newline at end of file
+
+    // "rm" mode: the whole file as a read-only view of its mapping, nothing copied (up to 2 GB, else use lines())
+    public ByteBuffer buffer() {
+        if (!mode.equals("rm")) throw new RuntimeException("File not opened in read-mapped mode!");
+        if (mapped == null) {
+            try {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) throw new RuntimeException("File too large for one buffer, use lines(): " + filename);
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } catch (IOException e) { throw new RuntimeException("Error mapping file: " + filename); }
+        }
+        return mapped.duplicate();
+    }
+
+    // "rm" mode: the whole file as Latin-1 characters, one per byte, without decoding or copying it
+    public CharSequence latin1Chars() {
+        return new MappedChars(buffer());
+    }
+
+    // Mimic Python's "for line in f" in "rm" mode: each line is a view of the mapping without "\n"/"\r\n",
+    // which keeps its window mapped (even after close()) while the line is referenced
+    public Iterator<CharSequence> lines() {
+        if (!mode.equals("rm")) throw new RuntimeException("File not opened in read-mapped mode!");
+        final long size;
+        try {
+            size = channel.size();
+        } catch (IOException e) { throw new RuntimeException("Error reading file: " + filename); }
+
+        return new Iterator<CharSequence>() {
+            private MappedByteBuffer window; // part of the file mapped right now
+            private long windowStart;        // file offset of window
+            private long next;               // file offset where the next line starts
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public CharSequence next() {
+                if (next >= size) throw new NoSuchElementException();
+                int start = (window == null) ? -1 : (int) (next - windowStart);
+                int end = (start < 0) ? -1 : indexOfNewline(start);
+                if (end < 0 && (window == null || windowStart + window.limit() < size)) {
+                    remap(next); // the line runs past the window; map a window starting at it
+                    start = 0;
+                    end = indexOfNewline(0);
+                    if (end < 0 && window.limit() < size - windowStart) {
+                        throw new RuntimeException("Line longer than " + MAP_WINDOW + " bytes in file: " + filename);
+                    }
+                }
+                int lineEnd = (end < 0) ? window.limit() : end; // the last line may lack a "\n"
+                next = windowStart + ((end < 0) ? lineEnd : end + 1);
+                if (lineEnd > start && window.get(lineEnd - 1) == '\r' && end >= 0) lineEnd--;
+                return new MappedChars(window.slice(start, lineEnd - start));
+            }
+
+            private int indexOfNewline(int from) {
+                for (int i = from, limit = window.limit(); i < limit; i++) {
+                    if (window.get(i) == '\n') return i;
+                }
+                return -1;
+            }
+
+            private void remap(long offset) {
+                try {
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(MAP_WINDOW, size - offset));
+                    windowStart = offset;
+                } catch (IOException e) { throw new RuntimeException("Error mapping file: " + filename); }
+            }
+        };
+    }
+}
+
+// Mapped bytes seen as characters one per byte (ISO-8859-1), never copied; toString() decodes them as UTF-8 like read()
+final class MappedChars implements CharSequence {
+    private final ByteBuffer bytes; // exactly the viewed bytes, from 0 to limit
+
+    MappedChars(ByteBuffer bytes) {
+        this.bytes = bytes.slice();
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes.get(index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("[" + start + ", " + end + ") of " + length());
+        }
+        return new MappedChars(bytes.slice(start, end - start));
+    }
+
+    // A read-only view of the bytes
+    public ByteBuffer bytes() {
+        return bytes.asReadOnlyBuffer();
+    }
+
+    // Copies the bytes into a String, decoding them with the given charset
+    public String toString(Charset charset) {
+        return charset.decode(bytes.duplicate()).toString();
+    }
+
+    // Copies the bytes into a String, decoding them as UTF-8 (the charset read() uses)
+    @Override
+    public String toString() {
+        return toString(StandardCharsets.UTF_8);
+    }
+}
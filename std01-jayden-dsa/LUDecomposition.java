@@ -0,0 +1,230 @@
+import java.util.Arrays;
+
+/**
+ * LU decomposition with partial pivoting, {@code P * A = L * U}, of a square matrix.
+ * <p>
+ * The factors are computed once in O(n³) and kept in a single flat row-major buffer
+ * (the unit diagonal of L is implied), so {@link #determinant()}, {@link #solve(double[])}
+ * and {@link #inverse()} can be called any number of times without refactoring.
+ * A solve costs O(n²).
+ * </p>
+ */
+class LUDecomposition {
+    private final int n;
+    private final double[] lu;   // row-major; L below the diagonal, U on and above it
+    private final int[] pivot;   // row i of P * A is row pivot[i] of A
+    private final int pivotSign; // +1 or -1, the determinant of P
+    private final double norm1;  // max column sum of A, for the condition number
+    private double condition = Double.NaN; // estimated lazily
+
+    /**
+     * Factors a copy of {@code A}.
+     *
+     * @param A square matrix, left unchanged
+     * @throws IllegalArgumentException if A is not square
+     */
+    public LUDecomposition(double[][] A) {
+        this(A.length, flatten(A));
+    }
+
+    /**
+     * Factors a row-major {@code n x n} buffer in place.
+     *
+     * @param n      number of rows and columns
+     * @param values {@code n * n} elements, row by row; overwritten with the factors
+     * @throws IllegalArgumentException if {@code values.length != n * n}
+     */
+    public LUDecomposition(int n, double[] values) {
+        if (values.length != (long) n * n) throw new IllegalArgumentException("Matrix must be square.");
+        this.n = n;
+        this.lu = values;
+        this.pivot = new int[n];
+        double norm = 0;
+        for (int col = 0; col < n; col++) {
+            double sum = 0;
+            for (int row = 0; row < n; row++) sum += Math.abs(values[row * n + col]);
+            norm = Math.max(norm, sum);
+        }
+        this.norm1 = norm;
+        this.pivotSign = factor(values, n, pivot);
+    }
+
+    /**
+     * Overwrites {@code a} with its L and U factors (Doolittle, row-oriented, partial pivoting).
+     *
+     * @return the determinant of the row permutation
+     */
+    private static int factor(double[] a, int n, int[] pivot) {
+        int sign = 1;
+        for (int i = 0; i < n; i++) pivot[i] = i;
+        for (int k = 0; k < n; k++) {
+            // 1. the largest entry of column k (on or below the diagonal) becomes the pivot
+            int p = k;
+            for (int i = k + 1; i < n; i++) {
+                if (Math.abs(a[i * n + k]) > Math.abs(a[p * n + k])) p = i;
+            }
+            if (p != k) {
+                for (int j = 0; j < n; j++) {
+                    double temp = a[k * n + j];
+                    a[k * n + j] = a[p * n + j];
+                    a[p * n + j] = temp;
+                }
+                int temp = pivot[k];
+                pivot[k] = pivot[p];
+                pivot[p] = temp;
+                sign = -sign;
+            }
+            double diagonal = a[k * n + k];
+            if (diagonal == 0) continue; // singular: column is already zero below the diagonal
+            // 2. eliminate below the pivot; the inner loop runs along contiguous rows
+            for (int i = k + 1; i < n; i++) {
+                double factor = a[i * n + k] /= diagonal;
+                if (factor == 0) continue;
+                int rowI = i * n;
+                int rowK = k * n;
+                for (int j = k + 1; j < n; j++) {
+                    a[rowI + j] -= factor * a[rowK + j];
+                }
+            }
+        }
+        return sign;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns the determinant: the product of U's diagonal, times the sign of the permutation.
+     */
+    public double determinant() {
+        double det = pivotSign;
+        for (int i = 0; i < n; i++) det *= lu[i * n + i];
+        return det;
+    }
+
+    /**
+     * Estimates the 1-norm condition number {@code ||A|| * ||A^-1||} without forming the inverse
+     * (Hager's method: a few solves with A and its transpose, O(n²) each).
+     *
+     * @return the estimate (a lower bound, usually within a factor of 3), or infinity if a pivot is 0
+     */
+    public double conditionNumber() {
+        if (Double.isNaN(condition)) condition = norm1 * estimateInverseNorm1();
+        return condition;
+    }
+
+    /**
+     * Returns {@code true} if A is singular to working precision: a pivot is exactly 0 or the
+     * reciprocal condition number is below {@code n} units in the last place of 1.
+     * Unlike {@code det == 0}, this does not depend on the scale of A.
+     */
+    public boolean isSingular() {
+        return conditionNumber() * n * Math.ulp(1.0) > 1;
+    }
+
+    /**
+     * Solves {@code A * x = b}.
+     *
+     * @param b right-hand side of length n, left unchanged
+     * @return a new array x
+     * @throws IllegalArgumentException if b has the wrong length or A is singular
+     */
+    public double[] solve(double[] b) {
+        if (b.length != n) throw new IllegalArgumentException("b must have " + n + " elements.");
+        if (isSingular()) throw new IllegalArgumentException("Matrix is singular.");
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) x[i] = b[pivot[i]];
+        solveInPlace(x);
+        return x;
+    }
+
+    /**
+     * Returns the inverse by solving for the n columns of the identity.
+     *
+     * @throws IllegalArgumentException if A is singular
+     */
+    public double[][] inverse() {
+        if (isSingular()) throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
+        double[][] inverse = new double[n][n];
+        double[] column = new double[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) column[i] = (pivot[i] == j) ? 1 : 0;
+            solveInPlace(column);
+            for (int i = 0; i < n; i++) inverse[i][j] = column[i];
+        }
+        return inverse;
+    }
+
+    /** Forward substitution with L, then back substitution with U; {@code x} holds {@code P * b}. */
+    private void solveInPlace(double[] x) {
+        MatrixKernels kernels = Matrix.KERNELS;
+        for (int i = 1; i < n; i++) {
+            x[i] -= kernels.dot(lu, i * n, x, 0, i);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int row = i * n;
+            x[i] = (x[i] - kernels.dot(lu, row + i + 1, x, i + 1, n - i - 1)) / lu[row + i];
+        }
+    }
+
+    /** Solves {@code A^T * z = y}: U^T forward, L^T backward, then undo P. */
+    private double[] solveTransposed(double[] y) {
+        double[] u = y.clone();
+        for (int i = 0; i < n; i++) {
+            double sum = u[i];
+            for (int k = 0; k < i; k++) sum -= lu[k * n + i] * u[k];
+            u[i] = sum / lu[i * n + i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = u[i];
+            for (int k = i + 1; k < n; k++) sum -= lu[k * n + i] * u[k];
+            u[i] = sum;
+        }
+        double[] z = new double[n];
+        for (int i = 0; i < n; i++) z[pivot[i]] = u[i];
+        return z;
+    }
+
+    private double estimateInverseNorm1() {
+        for (int i = 0; i < n; i++) {
+            if (lu[i * n + i] == 0) return Double.POSITIVE_INFINITY;
+        }
+        if (n == 0) return 0;
+        double[] x = new double[n];
+        Arrays.fill(x, 1.0 / n);
+        double estimate = 0;
+        for (int iteration = 0; iteration < 5; iteration++) {
+            double[] y = new double[n];
+            for (int i = 0; i < n; i++) y[i] = x[pivot[i]];
+            solveInPlace(y); // y = A^-1 * x
+            estimate = 0;
+            double[] signs = new double[n];
+            for (int i = 0; i < n; i++) {
+                estimate += Math.abs(y[i]);
+                signs[i] = (y[i] >= 0) ? 1 : -1;
+            }
+            double[] z = solveTransposed(signs); // z = A^-T * sign(y)
+            int best = 0;
+            double dot = 0;
+            for (int i = 0; i < n; i++) {
+                if (Math.abs(z[i]) > Math.abs(z[best])) best = i;
+                dot += z[i] * x[i];
+            }
+            if (iteration > 0 && Math.abs(z[best]) <= dot) break; // local maximum reached
+            Arrays.fill(x, 0);
+            x[best] = 1;
+        }
+        return estimate;
+    }
+
+    private static double[] flatten(double[][] A) {
+        int n = A.length;
+        double[] values = new double[n * n];
+        for (int row = 0; row < n; row++) {
+            if (A[row].length != n) throw new IllegalArgumentException("Matrix must be square.");
+            System.arraycopy(A[row], 0, values, row * n, n);
+        }
+        return values;
+    }
+}
@@ -6,138 +6,29 @@
  *   <li>Subtraction</li>
  *   <li>Multiplication</li>
  *   <li>Transpose</li>
- *   <li>Determinant (recursive)</li>
- *   <li>Inverse (via adjugate)</li>
+ *   <li>Determinant (LU decomposition)</li>
+ *   <li>Inverse and linear systems (LU decomposition)</li>
  * </ul>
  *
  * How to compile and run the application:
  * 1. Open a terminal or command prompt.
  * 2. Compile: 
  *      ```
- *      javac std01-jayden-dsa/Main.java
+ *      javac -sourcepath std01-jayden-dsa std01-jayden-dsa/Main.java
  *      ```
  * 3. Run & Clean: 
  *      ```
  *      java -cp std01-jayden-dsa Main; rm -rf std01-jayden-dsa/*.class
  *      ```
+ * 4. (Optional) Use the SIMD kernels of VectorKernels.java (Vector API, incubating in JDK 17):
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa --add-modules jdk.incubator.vector std01-jayden-dsa/Main.java std01-jayden-dsa/VectorKernels.java
+ *      java --add-modules jdk.incubator.vector -cp std01-jayden-dsa Main; rm -rf std01-jayden-dsa/*.class
+ *      ```
  */
-class Matrix {
-    // Fields
-    private double[][] values;
-    // Constructor
-    public Matrix(double[][] bareMatrix) {
-        this.values = new double[bareMatrix.length][bareMatrix[0].length];
-        for (int row = 0; row < this.values.length; row++) {
-            for (int col = 0; col < this.values[row].length; col++) {
-                this.values[row][col] = bareMatrix[row][col];
-            }
-        }
-    }
-    public double getValue(int row, int col) {
-        return this.values[row][col];
-    }
-    public int rowSize() {
-        return this.values.length;
-    }
-    public int colSize() {
-        return this.values[0].length;
-    }
-
-
-
-
-    /**
-     * Adds two matrices of the same dimensions.
-     *
-     * @param additionOperand matrix to add
-     * @return the result of this + additionOperand
-     * @throws IllegalArgumentException if dimensions do not match
-     */
-    public Matrix add(Matrix additionOperand) {
-        int rows = this.values.length;
-        int cols = this.values[0].length;
-        if (rows != additionOperand.rowSize() || cols != additionOperand.colSize()) throw new IllegalArgumentException("Matrices must have the same dimensions.");
-        double[][] result = new double[rows][cols];
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                result[row][col] = this.getValue(row,col) + additionOperand.getValue(row,col);
-            }
-        }
-        return new Matrix(result);
-    }
-
-
-    /**
-     * Multiplies two matrices where A.cols == B.rows.
-     *
-     * @param multiOperand left matrix
-     * @return the result of A * B
-     * @throws IllegalArgumentException if inner dimensions do not match
-     */    
-    public Matrix multiply(Matrix multiOperand) {
-        int r1 = this.values.length;
-        int c1 = this.values[0].length;
-        int r2 = multiOperand.rowSize();
-        int c2 = multiOperand.colSize();
-        if (c1 != r2) throw new IllegalArgumentException("A's columns must match B's rows.");
-        
-        double[][] result = new double[r1][c2];
-        for (int row = 0; row < r1; row++) {
-            for (int col = 0; col < c2; col++) {
-                for (int index = 0; index < c1; index++) {
-                    result[row][col] += this.values[row][index] * multiOperand.values[index][col];
-                }
-            }
-        }
-        return new Matrix(result);
-    }
+import java.util.Arrays;
 
 
-
-
-    // System-Builtin Methods (Inheritance)
-    @Override
-    public String toString() {
-        // Unicode box-drawing characters for pretty matrix output
-        final char TOP_LEFT = '\u250C';      // left-top
-        final char TOP_RIGHT = '\u2510';     // right-top
-        final char BOTTOM_LEFT = '\u2514';   // left-bottom
-        final char BOTTOM_RIGHT = '\u2518';  // right-bottom
-        final char VERTICAL = '\u2502';      // side
-        String result = "";
-        result += "";
-        // empty matrix
-        if (this.values.length == 0) {
-            return "[ ]";
-        }
-        // top border
-        result += TOP_LEFT;
-        for (int col = 0; col < this.values[0].length; col++) {
-            String element = String.format("%8c%2c", ' ', ' ');
-            result += element;
-        }
-        result += TOP_RIGHT + "\n";
-        // row x col, elements
-        for (int row = 0; row < this.values.length; row++) {
-            result += VERTICAL;
-            for (int col = 0; col < this.values[row].length; col++) {
-                String element = String.format("%8.2f%2c", this.values[row][col], ' ');
-                result += element;
-            }
-            result += VERTICAL + "\n";
-        }
-        // bottom border
-        result += BOTTOM_LEFT;
-        for (int col = 0; col < this.values[0].length; col++) {
-            String element = String.format("%8c%2c", ' ',' ');
-            result += element;
-        }
-        result += BOTTOM_RIGHT + "\n";
-
-        return result;
-    }
-}
-
 public class Main {
     
 
@@ -196,6 +87,9 @@ public class Main {
         System.out.println("A * B = ");
         print(multiply(A, B));
         System.out.println("det(A) = " + determinant(A));
+        System.out.println("inverse(A) = ");
+        print(inverse(A));
+        System.out.println("solve(A, [5, 6]) = " + Arrays.toString(solve(A, new double[] {5, 6})));
         System.out.println("transpose(A) = ");
         print(transpose(A));
     }
@@ -279,100 +173,61 @@ public class Main {
     }
 
     /**
-     * Transposes the given matrix.
+     * Transposes the given matrix (cache-oblivious, parallel for large matrices; see {@link Matrix#transpose()}).
      *
      * @param A the matrix to transpose
      * @return the transpose of A
      */
     public static double[][] transpose(double[][] A) {
-        int rows = A.length;
-        int cols = A[0].length;
-        double[][] T = new double[cols][rows];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                T[j][i] = A[i][j];
-            }
-        }
-        return T;
+        return new Matrix(A).transpose().toArray();
     }
 
     /**
-     * Computes the determinant of a square matrix recursively.
+     * Computes the determinant of a square matrix from its LU decomposition in O(n³).
+     * (Cofactor expansion is O(n!) and does not finish beyond about 11x11.)
      *
      * @param A square matrix
      * @return determinant of A
      * @throws IllegalArgumentException if A is not square
      */
     public static double determinant(double[][] A) {
-        int n = A.length;
-        if (n != A[0].length) {
-            throw new IllegalArgumentException("Matrix must be square.");
-        }
-        if (n == 1) {
-            return A[0][0];
-        }
-        if (n == 2) {
-            return A[0][0] * A[1][1] - A[0][1] * A[1][0];
-        }
-        double det = 0;
-        for (int col = 0; col < n; col++) {
-            det += Math.pow(-1, col) * A[0][col] *
-                   determinant(minor(A, 0, col));
-        }
-        return det;
+        return new LUDecomposition(A).determinant();
     }
 
     /**
-     * Helper to compute minor matrix by removing specified row and column.
+     * Inverts a square matrix from its LU decomposition in O(n³).
+     *
+     * @param A square matrix
+     * @return the inverse of A
+     * @throws IllegalArgumentException if A is not square, or singular to working precision
+     *         (see {@link LUDecomposition#isSingular()})
      */
-    private static double[][] minor(double[][] A, int row, int col) {
-        int n = A.length;
-        double[][] M = new double[n - 1][n - 1];
-        int r = 0;
-        for (int i = 0; i < n; i++) {
-            if (i == row) continue;
-            int c = 0;
-            for (int j = 0; j < n; j++) {
-                if (j == col) continue;
-                M[r][c++] = A[i][j];
-            }
-            r++;
-        }
-        return M;
+    public static double[][] inverse(double[][] A) {
+        return new LUDecomposition(A).inverse();
     }
 
-    public static double[][] inverse(double[][] A) {
-        double det = determinant(A);
-        if (det == 0) {
-            throw new IllegalArgumentException("Matrix is singular and cannot be inverted.");
-        }
-        int n = A.length;
-        double[][] adjugate = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                adjugate[j][i] = Math.pow(-1, i + j) * determinant(minor(A, i, j));
-            }
-        }
-        // Multiply adjugate by scalar 1/det to get the inverse
-        return scalarMultiply(adjugate, 1 / det);
+    /**
+     * Solves the linear system {@code A * x = b}.
+     * To solve several systems with the same A, factor it once with
+     * {@code new LUDecomposition(A)} and call {@link LUDecomposition#solve(double[])} on that.
+     *
+     * @param A square coefficient matrix
+     * @param b right-hand side
+     * @return the solution x
+     * @throws IllegalArgumentException if the dimensions do not match, or A is singular to working precision
+     */
+    public static double[] solve(double[][] A, double[] b) {
+        return new LUDecomposition(A).solve(b);
     }
 
     /**
-     * Multiplies every element of the matrix by a scalar.
+     * Multiplies every element of the matrix by a scalar (parallel for large matrices; see {@link Matrix#scalarMultiply(double)}).
      *
      * @param A matrix
      * @param scalar value to multiply
      * @return new matrix with each element multiplied by scalar
      */
     public static double[][] scalarMultiply(double[][] A, double scalar) {
-        int rows = A.length;
-        int cols = A[0].length;
-        double[][] result = new double[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                result[i][j] = A[i][j] * scalar;
-            }
-        }
-        return result;
+        return new Matrix(A).scalarMultiply(scalar).toArray();
     }
 }
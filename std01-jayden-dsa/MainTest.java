@@ -0,0 +1,262 @@
+// File: MainTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The MainTest class provides JUnit tests for the Matrix class and the static
+ * matrix operations in the Main class.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa -cp junit-1.9.3.jar std01-jayden-dsa/Main*.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std01-jayden-dsa --scan-classpath; rm -rf std01-jayden-dsa/*.class
+ *      ```
+ * 4. (Optional) Include the Vector API kernels:
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa --add-modules jdk.incubator.vector -cp junit-1.9.3.jar std01-jayden-dsa/Main*.java std01-jayden-dsa/VectorKernels.java
+ *      java --add-modules jdk.incubator.vector -jar junit-1.9.3.jar --class-path std01-jayden-dsa --scan-classpath
+ *      ```
+ */
+public class MainTest {
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Tests the blocked Matrix.multiply against the textbook Main.multiply on shapes
+     * that are smaller than, equal to and not a multiple of the tile sizes.
+     */
+    @Test
+    public void testBlockedMultiply() {
+        Random random = new Random(10);
+        int[][] shapes = {{1, 1, 1}, {2, 3, 4}, {64, 128, 256}, {65, 129, 257}, {300, 7, 190}, {3, 500, 2}};
+        for (int[] shape : shapes) {
+            double[][] a = randomMatrix(random, shape[0], shape[1]);
+            double[][] b = randomMatrix(random, shape[1], shape[2]);
+            assertMatrixEquals(Main.multiply(a, b), new Matrix(a).multiply(new Matrix(b)));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> new Matrix(new double[2][3]).multiply(new Matrix(new double[2][3])));
+    }
+
+    /**
+     * Tests add, the flat row-major constructor and toArray.
+     */
+    @Test
+    public void testFlatStorage() {
+        Matrix m = new Matrix(2, 3, new double[]{1, 2, 3, 4, 5, 6});
+        assertEquals(2, m.rowSize());
+        assertEquals(3, m.colSize());
+        assertEquals(6, m.getValue(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.getValue(0, 3)); // not (1, 0)
+        assertThrows(IndexOutOfBoundsException.class, () -> m.getValue(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.getValue(0, -1));
+        assertArrayEquals(new double[]{2, 4, 6}, m.add(m).toArray()[0]);
+        assertArrayEquals(new double[]{4, 5, 6}, m.toArray()[1]);
+
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(2, 2, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> new Matrix(new double[][]{{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> m.add(new Matrix(new double[3][2])));
+        assertEquals("[ ]", new Matrix(new double[0][0]).toString());
+    }
+
+    /**
+     * Tests determinant, inverse and solve against known values and A * inverse(A) = I.
+     */
+    @Test
+    public void testLUDeterminantInverseSolve() {
+        assertEquals(-2.0, Main.determinant(new double[][]{{1, 2}, {3, 4}}), EPSILON);
+        assertEquals(-306.0, Main.determinant(new double[][]{{6, 1, 1}, {4, -2, 5}, {2, 8, 7}}), EPSILON);
+        assertEquals(0.0, Main.determinant(new double[][]{{0, 0}, {1, 2}}), EPSILON);
+        assertEquals(24.0, Main.determinant(new double[][]{{0, 0, 0, 1}, {0, 0, 2, 0}, {0, 3, 0, 0}, {4, 0, 0, 0}}), EPSILON);
+
+        Random random = new Random(11);
+        int n = 60; // far beyond what cofactor expansion can handle
+        double[][] a = randomMatrix(random, n, n);
+        double[][] identity = new double[n][n];
+        for (int i = 0; i < n; i++) identity[i][i] = 1;
+        assertMatrixEquals(identity, new Matrix(a).multiply(new Matrix(Main.inverse(a))));
+
+        double[] x = random.doubles(n).toArray();
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) b[i] += a[i][j] * x[j];
+        }
+        assertArrayEquals(x, Main.solve(a, b), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> Main.determinant(new double[2][3]));
+        assertThrows(IllegalArgumentException.class, () -> Main.solve(a, new double[n - 1]));
+    }
+
+    /**
+     * Tests that one factorization serves many solves and does not change its input.
+     */
+    @Test
+    public void testLUReuse() {
+        double[][] a = {{4, 3}, {6, 3}};
+        LUDecomposition lu = new Matrix(a).lu();
+        assertArrayEquals(new double[]{1, 2}, lu.solve(new double[]{10, 12}), EPSILON);
+        assertArrayEquals(new double[]{-1, 1}, lu.solve(new double[]{-1, -3}), EPSILON);
+        assertArrayEquals(new double[]{4, 3}, a[0], "Input should be left unchanged");
+
+        double[] flat = {4, 3, 6, 3};
+        assertEquals(-6.0, new LUDecomposition(2, flat).determinant(), EPSILON);
+        assertNotEquals(4.0, flat[0], "Flat buffer should be factored in place");
+    }
+
+    /**
+     * Tests the condition number estimate and singularity detection without det == 0.
+     */
+    @Test
+    public void testConditionNumber() {
+        double[][] identity = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}};
+        assertEquals(1.0, new LUDecomposition(identity).conditionNumber(), EPSILON);
+
+        // exact value: ||A||_1 = 6, ||A^-1||_1 = 3.5 for A = {{1, 2}, {3, 4}}
+        assertEquals(21.0, new LUDecomposition(new double[][]{{1, 2}, {3, 4}}).conditionNumber(), 1e-6);
+
+        // rank 2, but rounding leaves det != 0
+        double[][] nearlySingular = {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}};
+        LUDecomposition lu = new LUDecomposition(nearlySingular);
+        assertTrue(lu.isSingular(), "condition " + lu.conditionNumber());
+        assertThrows(IllegalArgumentException.class, () -> Main.inverse(nearlySingular));
+
+        // ill-conditioned but invertible: 8x8 Hilbert matrix, condition about 3.4e10
+        int n = 8;
+        double[][] hilbert = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) hilbert[i][j] = 1.0 / (i + j + 1);
+        }
+        LUDecomposition hilbertLU = new LUDecomposition(hilbert);
+        assertFalse(hilbertLU.isSingular());
+        assertEquals(3.4e10, hilbertLU.conditionNumber(), 0.2e10);
+
+        // scaling does not change the answer, unlike a det == 0 check
+        double[][] tiny = {{1e-200, 0}, {0, 1e-200}};
+        assertEquals(0.0, Main.determinant(tiny), "det underflows to 0");
+        assertFalse(new LUDecomposition(tiny).isSingular());
+    }
+
+    /**
+     * Tests that operations split into row bands on a dedicated pool give the same results
+     * as on the calling thread, and that results carry the executor of their left operand.
+     */
+    @Test
+    public void testParallelOperations() {
+        Random random = new Random(12);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            double[][] a = randomMatrix(random, 301, 257);
+            double[][] b = randomMatrix(random, 257, 190);
+            Matrix parallelA = new Matrix(a).withExecutor(pool);
+            Matrix sequentialA = new Matrix(a).withExecutor(null);
+
+            Matrix product = parallelA.multiply(new Matrix(b));
+            assertSame(pool, product.executor());
+            assertMatrixEquals(Main.multiply(a, b), product);
+            assertMatrixEquals(sequentialA.multiply(new Matrix(b)).toArray(), product);
+            assertNull(sequentialA.add(sequentialA).executor());
+
+            assertMatrixEquals(sequentialA.add(sequentialA).toArray(), parallelA.add(parallelA));
+            assertMatrixEquals(sequentialA.scalarMultiply(-2.5).toArray(), parallelA.scalarMultiply(-2.5));
+            assertMatrixEquals(sequentialA.transpose().toArray(), parallelA.transpose());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests the recursive transpose on shapes around the block size, and the static wrappers.
+     */
+    @Test
+    public void testTranspose() {
+        Random random = new Random(13);
+        for (int[] shape : new int[][]{{1, 1}, {1, 40}, {33, 31}, {64, 65}, {200, 3}}) {
+            double[][] a = randomMatrix(random, shape[0], shape[1]);
+            double[][] t = Main.transpose(a);
+            assertEquals(shape[1], t.length);
+            for (int i = 0; i < shape[0]; i++) {
+                for (int j = 0; j < shape[1]; j++) assertEquals(a[i][j], t[j][i]);
+            }
+        }
+        assertArrayEquals(new double[]{3, 6}, Main.scalarMultiply(new double[][]{{1, 2}}, 3)[0]);
+    }
+
+    /**
+     * Tests that the kernels Matrix uses always load, falling back to scalar code when the
+     * Vector API is missing.
+     */
+    @Test
+    public void testKernelFallback() {
+        assertNotNull(Matrix.KERNELS);
+        MatrixKernels vector = MatrixKernels.vector();
+        if (vector == null) {
+            assertSame(MatrixKernels.scalar(), MatrixKernels.preferred());
+        }
+        double[] result = new double[3];
+        Matrix.KERNELS.add(new double[]{1, 2, 3}, new double[]{4, 5, 6}, result, 0, 3);
+        assertArrayEquals(new double[]{5, 7, 9}, result);
+    }
+
+    /**
+     * Tests the Vector API kernels against the scalar ones, on ranges that do not start or end
+     * on a vector boundary. Skipped unless run with {@code --add-modules jdk.incubator.vector}.
+     */
+    @Test
+    public void testVectorKernels() {
+        MatrixKernels vector = MatrixKernels.vector();
+        assumeTrue(vector != null, "jdk.incubator.vector is not available");
+        MatrixKernels scalar = MatrixKernels.scalar();
+        Random random = new Random(14);
+        double[] a = random.doubles(1_000).toArray();
+        double[] b = random.doubles(1_000).toArray();
+        for (int from = 0; from < 20; from += 3) {
+            for (int to = from; to < a.length; to += 97) {
+                double[] expected = new double[a.length];
+                double[] actual = new double[a.length];
+                scalar.add(a, b, expected, from, to);
+                vector.add(a, b, actual, from, to);
+                assertArrayEquals(expected, actual);
+                scalar.scale(a, -3.5, expected, from, to);
+                vector.scale(a, -3.5, actual, from, to);
+                assertArrayEquals(expected, actual);
+                assertEquals(scalar.dot(a, from, b, 7, to - from), vector.dot(a, from, b, 7, to - from), EPSILON);
+            }
+        }
+        int[][] shapes = {{5, 3, 7}, {65, 130, 259}, {40, 40, 40}};
+        for (int[] shape : shapes) {
+            double[] x = random.doubles(shape[0] * shape[1]).toArray();
+            double[] y = random.doubles(shape[1] * shape[2]).toArray();
+            double[] expected = new double[shape[0] * shape[2]];
+            double[] actual = new double[shape[0] * shape[2]];
+            scalar.multiplyBlocked(x, y, expected, shape[1], shape[2], 0, shape[0]);
+            vector.multiplyBlocked(x, y, actual, shape[1], shape[2], 0, shape[0]);
+            assertArrayEquals(expected, actual, EPSILON);
+        }
+    }
+
+    static double[][] randomMatrix(Random random, int rows, int cols) {
+        double[][] m = new double[rows][cols];
+        for (double[] row : m) {
+            for (int j = 0; j < cols; j++) row[j] = random.nextDouble() * 2 - 1;
+        }
+        return m;
+    }
+
+    static void assertMatrixEquals(double[][] expected, Matrix actual) {
+        assertEquals(expected.length, actual.rowSize(), "rows");
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].length, actual.colSize(), "cols");
+            for (int j = 0; j < expected[i].length; j++) {
+                assertEquals(expected[i][j], actual.getValue(i, j), EPSILON, "(" + i + ", " + j + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,402 @@
+/**
+ * The MappedMatrix class keeps a matrix in a memory-mapped file instead of on the heap,
+ * for matrices larger than the heap (or large enough that a {@code double[]} of them
+ * would mean long GC pauses).
+ * <p>
+ * The file is a 32-byte header (magic {@code "MTRX"}, version, rows, columns, all
+ * little-endian) followed by the elements row-major as little-endian doubles. Opening a
+ * file only reads the header; the rows are mapped with {@link FileChannel#map} in chunks
+ * of at most {@value #CHUNK_BYTES} bytes (one {@code MappedByteBuffer} can hold at most
+ * 2 GB) the first time one of their elements is touched, and the OS pages them in and out
+ * on demand. A 20 GB file therefore opens instantly and only costs the pages in use.
+ * </p>
+ * <p>
+ * {@link #multiply(MappedMatrix, Path)} streams square tiles of both operands through
+ * small on-heap buffers and writes each result tile once, so it needs
+ * O(tile<sup>2</sup>) heap per thread however large the operands are.
+ * Mappings are released when the garbage collector reclaims them; JDK 17 has no public
+ * way to unmap early.
+ * </p>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa std01-jayden-dsa/MappedMatrix.java std01-jayden-dsa/Main.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std01-jayden-dsa MappedMatrix; rm -rf std01-jayden-dsa/*.class
+ *      ```
+ */
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+public class MappedMatrix implements AutoCloseable {
+    static final int MAGIC = 0x5852544D; // "MTRX" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    // Largest mapped region; whole rows only, so one element never straddles two chunks.
+    static final long CHUNK_BYTES = 1L << 30;
+    // Edge of the square tiles multiply streams through the heap (1024x1024 doubles = 8 MiB).
+    static final int BLOCK = 1024;
+
+    // Fields
+    private final Path path;
+    private final FileChannel channel;
+    private final boolean writable;
+    private final int rows;
+    private final int cols;
+    private final int rowsPerChunk;
+    private final AtomicReferenceArray<MappedByteBuffer> chunks; // null until first touched
+    private final AtomicReferenceArray<DoubleBuffer> views;      // the chunks read as doubles
+
+    /**
+     * Example main for demonstration: multiplies two 2048x2048 matrices (32 MiB each)
+     * through files in the temporary directory.
+     */
+    public static void main(String[] args) throws IOException {
+        int n = 2048;
+        Path dir = Files.createTempDirectory("mapped-matrix");
+        Random random = new Random(0);
+        try (MappedMatrix a = create(dir.resolve("a.mtx"), n, n);
+             MappedMatrix b = create(dir.resolve("b.mtx"), n, n)) {
+            double[] row = new double[n];
+            for (int r = 0; r < n; r++) {
+                for (int c = 0; c < n; c++) row[c] = random.nextDouble();
+                a.writeBlock(r, 0, 1, n, row);
+                b.writeBlock(r, 0, 1, n, row);
+            }
+            long start = System.nanoTime();
+            try (MappedMatrix c = a.multiply(b, dir.resolve("c.mtx"))) {
+                System.out.println(String.format("%s (%d ms)", c, (System.nanoTime() - start) / 1_000_000));
+                System.out.println(String.format("c[0][0] = %.4f", c.getValue(0, 0)));
+            }
+        }
+        try (MappedMatrix reopened = open(dir.resolve("c.mtx"))) {
+            System.out.println("reopened " + reopened + ", c[0][0] = " + String.format("%.4f", reopened.getValue(0, 0)));
+        }
+        for (String name : new String[] {"a.mtx", "b.mtx", "c.mtx"}) Files.delete(dir.resolve(name));
+        Files.delete(dir);
+    }
+
+
+
+
+    /**
+     * Creates (or truncates) a matrix file of {@code rows x cols} zeros, open for reading and
+     * writing. The file is extended without writing the elements, so on most file systems
+     * it is sparse until written.
+     *
+     * @throws IllegalArgumentException if a dimension is negative
+     * @throws IOException              if the file cannot be created
+     */
+    public static MappedMatrix create(Path path, int rows, int cols) throws IOException {
+        return create(path, rows, cols, CHUNK_BYTES);
+    }
+
+    static MappedMatrix create(Path path, int rows, int cols, long chunkBytes) throws IOException {
+        if (rows < 0 || cols < 0) throw new IllegalArgumentException("Negative dimensions: " + rows + "x" + cols);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).rewind();
+            channel.write(header, 0);
+            long size = HEADER_BYTES + 8L * rows * cols;
+            if (size > HEADER_BYTES) channel.write(ByteBuffer.allocate(1), size - 1); // sets the length
+            return new MappedMatrix(path, channel, true, rows, cols, chunkBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copies a dense matrix into a new matrix file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public static MappedMatrix write(Path path, Matrix dense) throws IOException {
+        MappedMatrix mapped = create(path, dense.rowSize(), dense.colSize());
+        double[][] values = dense.toArray();
+        for (int row = 0; row < values.length; row++) mapped.writeBlock(row, 0, 1, values[row].length, values[row]);
+        return mapped;
+    }
+
+    /**
+     * Opens an existing matrix file read-only. Only the header is read.
+     *
+     * @throws IOException if the file cannot be read or is not a matrix file
+     */
+    public static MappedMatrix open(Path path) throws IOException {
+        return open(path, false, CHUNK_BYTES);
+    }
+
+    /**
+     * Opens an existing matrix file. Only the header is read.
+     *
+     * @param writable whether {@link #setValue} and {@link #writeBlock} are allowed
+     * @throws IOException if the file cannot be opened or is not a matrix file
+     */
+    public static MappedMatrix open(Path path, boolean writable) throws IOException {
+        return open(path, writable, CHUNK_BYTES);
+    }
+
+    static MappedMatrix open(Path path, boolean writable, long chunkBytes) throws IOException {
+        FileChannel channel = writable
+            ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+            : FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) { }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) throw new IOException(path + " is not a matrix file");
+            int version = header.getInt();
+            if (version != VERSION) throw new IOException(path + " has unsupported version " + version);
+            int rows = header.getInt();
+            int cols = header.getInt();
+            if (rows < 0 || cols < 0 || channel.size() < HEADER_BYTES + 8L * rows * cols) {
+                throw new IOException(path + " is truncated or corrupt (" + rows + "x" + cols + ", " + channel.size() + " bytes)");
+            }
+            return new MappedMatrix(path, channel, writable, rows, cols, chunkBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedMatrix(Path path, FileChannel channel, boolean writable, int rows, int cols, long chunkBytes) {
+        long rowBytes = 8L * cols;
+        if (rowBytes > Integer.MAX_VALUE) throw new IllegalArgumentException("A row of " + cols + " doubles is too large to map");
+        this.path = path;
+        this.channel = channel;
+        this.writable = writable;
+        this.rows = rows;
+        this.cols = cols;
+        this.rowsPerChunk = (int) Math.max(1, Math.min(rows, chunkBytes / Math.max(1, rowBytes)));
+        this.chunks = new AtomicReferenceArray<>((rows == 0) ? 0 : (rows - 1) / rowsPerChunk + 1);
+        this.views = new AtomicReferenceArray<>(chunks.length());
+    }
+
+
+
+
+    public int rowSize() { return rows; }
+    public int colSize() { return cols; }
+
+    public double getValue(int row, int col) {
+        checkIndex(row, col);
+        return doubles(row).get(offsetInChunk(row) + col);
+    }
+
+    /**
+     * @throws java.nio.ReadOnlyBufferException if the matrix was opened read-only
+     */
+    public void setValue(int row, int col, double value) {
+        checkIndex(row, col);
+        doubles(row).put(offsetInChunk(row) + col, value);
+    }
+
+    /**
+     * Copies the block of rows {@code [rowFrom, rowFrom + height)} and columns
+     * {@code [colFrom, colFrom + width)} into {@code dst}, row-major.
+     *
+     * @throws IndexOutOfBoundsException if the block is outside the matrix or {@code dst} is too short
+     */
+    public void readBlock(int rowFrom, int colFrom, int height, int width, double[] dst) {
+        checkBlock(rowFrom, colFrom, height, width, dst);
+        for (int r = 0; r < height; r++) {
+            int row = rowFrom + r;
+            doubles(row).get(offsetInChunk(row) + colFrom, dst, r * width, width);
+        }
+    }
+
+    /**
+     * Copies {@code src}, row-major, into the block of rows {@code [rowFrom, rowFrom + height)}
+     * and columns {@code [colFrom, colFrom + width)}.
+     *
+     * @throws IndexOutOfBoundsException if the block is outside the matrix or {@code src} is too short
+     * @throws java.nio.ReadOnlyBufferException if the matrix was opened read-only
+     */
+    public void writeBlock(int rowFrom, int colFrom, int height, int width, double[] src) {
+        checkBlock(rowFrom, colFrom, height, width, src);
+        for (int r = 0; r < height; r++) {
+            int row = rowFrom + r;
+            doubles(row).put(offsetInChunk(row) + colFrom, src, r * width, width);
+        }
+    }
+
+    /**
+     * Copies the whole matrix onto the heap.
+     *
+     * @throws IllegalStateException if it does not fit in one array
+     */
+    public Matrix toMatrix() {
+        long size = (long) rows * cols;
+        if (size > Integer.MAX_VALUE - 8) throw new IllegalStateException(rows + "x" + cols + " is too large for a dense Matrix");
+        double[] values = new double[(int) size];
+        readBlock(0, 0, rows, cols, values);
+        return new Matrix(rows, cols, values);
+    }
+
+
+
+
+    /**
+     * Multiplies two mapped matrices into a new matrix file, tile by tile.
+     * <p>
+     * For every {@value #BLOCK}-square tile of the result, the matching row strip of tiles of
+     * A and column strip of tiles of B are read one pair at a time into reused heap buffers
+     * and folded in with the same kernel as {@link Matrix#multiply(Matrix)}; the finished tile
+     * is written once. Rows of result tiles run in parallel on the common pool.
+     * Reading the operands costs about {@code n^3 / BLOCK} element reads instead of {@code n^3}.
+     * </p>
+     *
+     * @param other  right operand
+     * @param target file for the result; created or truncated, so it must not be the file of either operand
+     * @return the result, open for reading and writing
+     * @throws IllegalArgumentException if inner dimensions do not match, or {@code target} is the file of an operand
+     * @throws IOException              if the result file cannot be created
+     */
+    public MappedMatrix multiply(MappedMatrix other, Path target) throws IOException {
+        return multiply(other, target, BLOCK);
+    }
+
+    MappedMatrix multiply(MappedMatrix other, Path target, int block) throws IOException {
+        if (this.cols != other.rows) throw new IllegalArgumentException("A's columns must match B's rows.");
+        // truncating an operand's file would zero it under its own mapping
+        if (Files.exists(target) && (Files.isSameFile(target, this.path) || Files.isSameFile(target, other.path))) {
+            throw new IllegalArgumentException(target + " is the file of an operand");
+        }
+        MappedMatrix result = create(target, this.rows, other.cols);
+        int tileRows = (rows + block - 1) / block;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tileRows];
+        for (int t = 0; t < tileRows; t++) {
+            int rowFrom = t * block;
+            futures[t] = CompletableFuture.runAsync(() -> multiplyTileRow(other, result, rowFrom, block), ForkJoinPool.commonPool());
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            result.close();
+            if (e.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) e.getCause()).getCause();
+            throw e;
+        }
+        return result;
+    }
+
+    private void multiplyTileRow(MappedMatrix other, MappedMatrix result, int rowFrom, int block) {
+        int height = Math.min(block, rows - rowFrom);
+        double[] a = new double[height * block];
+        double[] b = new double[block * block];
+        double[] c = new double[height * block];
+        for (int colFrom = 0; colFrom < other.cols; colFrom += block) {
+            int width = Math.min(block, other.cols - colFrom);
+            Arrays.fill(c, 0, height * width, 0);
+            for (int kFrom = 0; kFrom < cols; kFrom += block) {
+                int depth = Math.min(block, cols - kFrom);
+                this.readBlock(rowFrom, kFrom, height, depth, a);
+                other.readBlock(kFrom, colFrom, depth, width, b);
+                Matrix.KERNELS.multiplyBlocked(a, b, c, depth, width, 0, height);
+            }
+            result.writeBlock(rowFrom, colFrom, height, width, c);
+        }
+    }
+
+
+
+
+    /**
+     * Writes changes of a writable matrix through to the file.
+     */
+    public void flush() {
+        if (!writable) return;
+        for (int i = 0; i < chunks.length(); i++) {
+            MappedByteBuffer chunk = chunks.get(i);
+            if (chunk != null) chunk.force();
+        }
+    }
+
+    /**
+     * Flushes and closes the file. Chunks mapped so far stay readable until they are
+     * garbage collected; chunks not yet mapped can no longer be.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MappedMatrix %dx%d (%s)", rows, cols, writable ? "read-write" : "read-only");
+    }
+
+    /** The chunk holding {@code row}, as doubles; one view per chunk, made once and shared, since only absolute get and put are used. */
+    private DoubleBuffer doubles(int row) {
+        int i = row / rowsPerChunk;
+        DoubleBuffer view = views.get(i);
+        if (view != null) return view;
+        view = chunk(i).asDoubleBuffer();
+        return views.compareAndSet(i, null, view) ? view : views.get(i);
+    }
+
+    private int offsetInChunk(int row) {
+        return (row % rowsPerChunk) * cols;
+    }
+
+    /** Maps chunk {@code i} on first use; concurrent first uses may both map, and one mapping wins. */
+    private MappedByteBuffer chunk(int i) {
+        MappedByteBuffer chunk = chunks.get(i);
+        if (chunk != null) return chunk;
+        int firstRow = i * rowsPerChunk;
+        int chunkRows = Math.min(rowsPerChunk, rows - firstRow);
+        try {
+            chunk = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                HEADER_BYTES + 8L * firstRow * cols, 8L * chunkRows * cols);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map rows " + firstRow + ".." + (firstRow + chunkRows - 1), e);
+        }
+        chunk.order(ByteOrder.LITTLE_ENDIAN);
+        return chunks.compareAndSet(i, null, chunk) ? chunk : chunks.get(i);
+    }
+
+    /** Number of chunks mapped so far, for tests. */
+    int mappedChunks() {
+        int mapped = 0;
+        for (int i = 0; i < chunks.length(); i++) {
+            if (chunks.get(i) != null) mapped++;
+        }
+        return mapped;
+    }
+
+    private void checkIndex(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside " + rows + "x" + cols);
+        }
+    }
+
+    private void checkBlock(int rowFrom, int colFrom, int height, int width, double[] array) {
+        if (rowFrom < 0 || colFrom < 0 || height < 0 || width < 0
+                || rowFrom > rows - height || colFrom > cols - width || array.length < (long) height * width) {
+            throw new IndexOutOfBoundsException("Block " + height + "x" + width + " at (" + rowFrom + ", " + colFrom
+                + ") does not fit " + rows + "x" + cols + " or an array of " + array.length);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// File: MappedMatrixTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The MappedMatrixTest class provides JUnit tests for the MappedMatrix class,
+ * checked against the dense Matrix operations.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa -cp junit-1.9.3.jar std01-jayden-dsa/MappedMatrix*.java std01-jayden-dsa/Main.java std01-jayden-dsa/MainTest.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std01-jayden-dsa --select-class MappedMatrixTest; rm -rf std01-jayden-dsa/*.class
+ *      ```
+ */
+public class MappedMatrixTest {
+    @TempDir
+    Path dir;
+
+    /**
+     * Tests write / open round trips, element and block access, and that small chunks
+     * (a few rows each) split the rows correctly.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(30);
+        double[][] dense = MainTest.randomMatrix(random, 37, 11);
+        try (MappedMatrix written = MappedMatrix.write(dir.resolve("m.mtx"), new Matrix(dense))) {
+            written.setValue(36, 10, 42);
+        }
+        dense[36][10] = 42;
+        try (MappedMatrix m = MappedMatrix.open(dir.resolve("m.mtx"), false, 3 * 8 * 11)) {
+            assertEquals(37, m.rowSize());
+            assertEquals(11, m.colSize());
+            MainTest.assertMatrixEquals(dense, m.toMatrix());
+            double[] block = new double[4 * 5];
+            m.readBlock(2, 3, 4, 5, block); // rows 2..5 straddle the chunks [0, 3) and [3, 6)
+            for (int r = 0; r < 4; r++) {
+                for (int c = 0; c < 5; c++) assertEquals(dense[2 + r][3 + c], block[r * 5 + c]);
+            }
+            assertThrows(ReadOnlyBufferException.class, () -> m.setValue(0, 0, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> m.getValue(37, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> m.readBlock(35, 0, 3, 11, new double[33]));
+        }
+    }
+
+    /**
+     * Tests that files with a wrong magic number, version or length are rejected.
+     */
+    @Test
+    public void testInvalidFiles() throws IOException {
+        Path notMatrix = Files.write(dir.resolve("text.mtx"), "not a matrix file, just text".getBytes());
+        assertThrows(IOException.class, () -> MappedMatrix.open(notMatrix));
+
+        Path matrix = dir.resolve("truncated.mtx");
+        MappedMatrix.create(matrix, 10, 10).close();
+        byte[] bytes = Files.readAllBytes(matrix);
+        Files.write(matrix, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> MappedMatrix.open(matrix));
+
+        bytes[4] = 2; // version
+        Files.write(matrix, bytes);
+        assertThrows(IOException.class, () -> MappedMatrix.open(matrix));
+    }
+
+    /**
+     * Tests that a file opens without reading it: a 4 MiB matrix in 64 KiB chunks (16 rows
+     * each) is created and reopened, and only the chunks of the touched rows are mapped.
+     */
+    @Test
+    public void testLazyOpen() throws IOException {
+        Path path = dir.resolve("large.mtx");
+        long chunkBytes = 64 * 1024;
+        try (MappedMatrix m = MappedMatrix.create(path, 1_024, 512, chunkBytes)) {
+            m.setValue(1_023, 511, 7);
+            assertEquals(1, m.mappedChunks());
+        }
+        assertEquals(MappedMatrix.HEADER_BYTES + 8L * 1_024 * 512, Files.size(path));
+        try (MappedMatrix m = MappedMatrix.open(path, false, chunkBytes)) {
+            assertEquals(0, m.mappedChunks());
+            assertEquals(7, m.getValue(1_023, 511));
+            assertEquals(0, m.getValue(0, 0));
+            assertEquals(0, m.getValue(15, 0)); // same chunk as row 0
+            assertEquals(2, m.mappedChunks());
+        }
+    }
+
+    /**
+     * Tests the tiled multiply against Matrix.multiply with tiles that do not divide the shapes.
+     */
+    @Test
+    public void testMultiply() throws IOException {
+        Random random = new Random(31);
+        int[][] shapes = {{1, 1, 1}, {7, 5, 3}, {33, 17, 40}, {64, 64, 64}};
+        for (int[] shape : shapes) {
+            Matrix a = new Matrix(MainTest.randomMatrix(random, shape[0], shape[1]));
+            Matrix b = new Matrix(MainTest.randomMatrix(random, shape[1], shape[2]));
+            try (MappedMatrix ma = MappedMatrix.write(dir.resolve("a.mtx"), a);
+                 MappedMatrix mb = MappedMatrix.write(dir.resolve("b.mtx"), b);
+                 MappedMatrix product = ma.multiply(mb, dir.resolve("c.mtx"), 16)) {
+                MainTest.assertMatrixEquals(a.multiply(b).toArray(), product.toMatrix());
+            }
+        }
+        try (MappedMatrix m = MappedMatrix.create(dir.resolve("e.mtx"), 2, 3)) {
+            assertThrows(IllegalArgumentException.class, () -> m.multiply(m, dir.resolve("f.mtx")));
+        }
+    }
+
+    /**
+     * Tests that multiply refuses to write over an operand's file, also under another name,
+     * and leaves the operand as it was.
+     */
+    @Test
+    public void testMultiplyIntoOperand() throws IOException {
+        Matrix a = new Matrix(MainTest.randomMatrix(new Random(37), 8, 8));
+        Files.createDirectory(dir.resolve("sub"));
+        try (MappedMatrix ma = MappedMatrix.write(dir.resolve("a.mtx"), a);
+             MappedMatrix mb = MappedMatrix.write(dir.resolve("b.mtx"), a)) {
+            assertThrows(IllegalArgumentException.class, () -> ma.multiply(mb, dir.resolve("a.mtx")));
+            assertThrows(IllegalArgumentException.class, () -> ma.multiply(mb, dir.resolve("sub/../b.mtx")));
+            MainTest.assertMatrixEquals(a.toArray(), ma.toMatrix());
+            MainTest.assertMatrixEquals(a.toArray(), mb.toMatrix());
+        }
+    }
+}
@@ -1,20 +1,274 @@
-public class Matrix {
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+class Matrix {
+    // Tile sizes of the blocked multiply: a 128x256 tile of B (256 KiB) stays in L2 while
+    // each 256-wide row strip of the result (2 KiB) stays in L1.
+    static final int TILE_ROWS = 64;
+    static final int TILE_INNER = 128;
+    static final int TILE_COLS = 256;
+    // Operations with less work than this (in element visits or multiply-adds) stay on the calling thread.
+    static final long PARALLEL_THRESHOLD = 1 << 16;
+    // Edge of the blocks the recursive transpose stops splitting at (32x32 doubles = 8 KiB).
+    static final int TRANSPOSE_BLOCK = 32;
+    // Inner loops of add, scalarMultiply and multiply: SIMD if the Vector API is available, else scalar.
+    static final MatrixKernels KERNELS = MatrixKernels.preferred();
+
     // Fields
-    private int[][] values;
+    private final int rows;
+    private final int cols;
+    private final double[] values; // row-major: (row, col) is at values[row * cols + col]
+    private final Executor executor; // runs the row bands of large operations; null = calling thread only
     // Constructor
-    public Matrix(int[][] bareMatrix) {
-        this.values = new int[bareMatrix.length][bareMatrix[0].length];
-        for (int row = 0; row < this.values.length; row++) {
-            for (int col = 0; col < this.values[i].length; col++) {
-                this.values[row][col] = bareMatrix[row][col];
+    public Matrix(double[][] bareMatrix) {
+        this.executor = ForkJoinPool.commonPool();
+        this.rows = bareMatrix.length;
+        this.cols = (rows == 0) ? 0 : bareMatrix[0].length;
+        this.values = new double[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            if (bareMatrix[row].length != cols) throw new IllegalArgumentException("All rows must have the same length.");
+            System.arraycopy(bareMatrix[row], 0, this.values, row * cols, cols);
+        }
+    }
+    /**
+     * Wraps a row-major array without copying it.
+     *
+     * @param rows   number of rows
+     * @param cols   number of columns
+     * @param values {@code rows * cols} elements, row by row; owned by the new matrix from now on
+     * @throws IllegalArgumentException if {@code values.length != rows * cols}
+     */
+    public Matrix(int rows, int cols, double[] values) {
+        this(rows, cols, values, ForkJoinPool.commonPool());
+    }
+    private Matrix(int rows, int cols, double[] values, Executor executor) {
+        if (rows < 0 || cols < 0 || values.length != (long) rows * cols) {
+            throw new IllegalArgumentException("Expected " + rows + "x" + cols + " values, got " + values.length);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.values = values;
+        this.executor = executor;
+    }
+    /**
+     * Returns this matrix (sharing its elements, which are never modified) with a different executor.
+     * Results of operations on the returned matrix carry the same executor.
+     *
+     * @param executor runs the row bands of large operations, e.g. a dedicated {@link ForkJoinPool};
+     *                 {@code null} keeps all work on the calling thread
+     */
+    public Matrix withExecutor(Executor executor) {
+        return new Matrix(rows, cols, values, executor);
+    }
+    /**
+     * Returns the executor large operations run on ({@link ForkJoinPool#commonPool()} by default),
+     * or {@code null} if they run on the calling thread.
+     */
+    public Executor executor() {
+        return this.executor;
+    }
+    public double getValue(int row, int col) {
+        // the flat index alone would let a column past the end read the next row
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(col, cols);
+        return this.values[row * cols + col];
+    }
+    public int rowSize() {
+        return this.rows;
+    }
+    public int colSize() {
+        return this.cols;
+    }
+    /**
+     * Factors a copy of this (square) matrix, for repeated solves with the same coefficients.
+     *
+     * @throws IllegalArgumentException if the matrix is not square
+     */
+    public LUDecomposition lu() {
+        if (rows != cols) throw new IllegalArgumentException("Matrix must be square.");
+        return new LUDecomposition(rows, values.clone());
+    }
+    /**
+     * Returns a copy of the elements as a {@code double[rows][cols]} array.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(this.values, row * cols, result[row], 0, cols);
+        }
+        return result;
+    }
+
+
+
+
+    /**
+     * Adds two matrices of the same dimensions.
+     *
+     * @param additionOperand matrix to add
+     * @return the result of this + additionOperand
+     * @throws IllegalArgumentException if dimensions do not match
+     */
+    public Matrix add(Matrix additionOperand) {
+        if (rows != additionOperand.rowSize() || cols != additionOperand.colSize()) throw new IllegalArgumentException("Matrices must have the same dimensions.");
+        double[] result = new double[this.values.length];
+        double[] other = additionOperand.values;
+        inRowBands(rows, result.length, (from, to) -> KERNELS.add(this.values, other, result, from * cols, to * cols));
+        return new Matrix(rows, cols, result, executor);
+    }
+
+    /**
+     * Multiplies every element of the matrix by a scalar.
+     *
+     * @param scalar value to multiply
+     * @return new matrix with each element multiplied by scalar
+     */
+    public Matrix scalarMultiply(double scalar) {
+        double[] result = new double[this.values.length];
+        inRowBands(rows, result.length, (from, to) -> KERNELS.scale(this.values, scalar, result, from * cols, to * cols));
+        return new Matrix(rows, cols, result, executor);
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     * <p>
+     * The naive loop reads rows but writes columns, so for large matrices every write
+     * misses the cache. This version halves the longer side of the block recursively until
+     * it is at most {@value #TRANSPOSE_BLOCK}x{@value #TRANSPOSE_BLOCK}, so some level of the
+     * recursion fits every cache level without knowing its size (cache-oblivious).
+     * </p>
+     *
+     * @return the transpose
+     */
+    public Matrix transpose() {
+        double[] result = new double[this.values.length];
+        inRowBands(rows, result.length, (from, to) -> transpose(this.values, result, rows, cols, from, to, 0, cols));
+        return new Matrix(cols, rows, result, executor);
+    }
+
+    /** Writes the transpose of block {@code [r0, r1) x [c0, c1)} of {@code src} (rows x cols) into {@code dst}. */
+    private static void transpose(double[] src, double[] dst, int rows, int cols, int r0, int r1, int c0, int c1) {
+        int height = r1 - r0;
+        int width = c1 - c0;
+        if (height <= TRANSPOSE_BLOCK && width <= TRANSPOSE_BLOCK) {
+            for (int r = r0; r < r1; r++) {
+                for (int c = c0; c < c1; c++) {
+                    dst[c * rows + r] = src[r * cols + c];
+                }
             }
+        } else if (height >= width) {
+            int mid = r0 + height / 2;
+            transpose(src, dst, rows, cols, r0, mid, c0, c1);
+            transpose(src, dst, rows, cols, mid, r1, c0, c1);
+        } else {
+            int mid = c0 + width / 2;
+            transpose(src, dst, rows, cols, r0, r1, c0, mid);
+            transpose(src, dst, rows, cols, r0, r1, mid, c1);
         }
     }
 
 
+    /**
+     * Multiplies two matrices where A.cols == B.rows.
+     * <p>
+     * The textbook i-j-k loop (still available as {@link Main#multiply(double[][], double[][])})
+     * walks B down a column, touching a new cache line for every multiply-add. This version
+     * runs i-k-j on the flat row-major arrays, so the innermost loop streams one row of B
+     * and one row of the result (which the JIT vectorizes), and it works on tiles
+     * ({@value #TILE_ROWS} rows of A by {@value #TILE_INNER} by {@value #TILE_COLS} columns of B)
+     * so the B tile is reused from cache by every row of the A tile. Four rows of B are
+     * folded in per pass over the result row (k unrolled by 4), which cuts the loads and
+     * stores of the result by 4x. Large products are split into bands of result rows that
+     * run in parallel on the executor.
+     * </p>
+     *
+     * @param multiOperand right matrix
+     * @return the result of A * B
+     * @throws IllegalArgumentException if inner dimensions do not match
+     */
+    public Matrix multiply(Matrix multiOperand) {
+        if (this.cols != multiOperand.rows) throw new IllegalArgumentException("A's columns must match B's rows.");
+        int n = this.rows;
+        int m = this.cols;
+        int p = multiOperand.cols;
+        double[] result = new double[n * p];
+        double[] other = multiOperand.values;
+        inRowBands(n, (long) n * m * p, (from, to) -> KERNELS.multiplyBlocked(this.values, other, result, m, p, from, to));
+        return new Matrix(n, p, result, executor);
+    }
+
+    /** A range of rows {@code [from, to)} of an operation. */
+    private interface RowBand {
+        void run(int from, int to);
+    }
+
+    /**
+     * Runs {@code band} over all rows: on the calling thread if there is no executor or
+     * {@code work} is below {@value #PARALLEL_THRESHOLD}, otherwise as about two bands per
+     * worker thread on the executor, waiting for all of them.
+     */
+    private void inRowBands(int rowCount, long work, RowBand band) {
+        int threads = (executor instanceof ForkJoinPool)
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        int bands = (int) Math.min(rowCount, 2L * threads);
+        if (executor == null || work < PARALLEL_THRESHOLD || bands < 2) {
+            band.run(0, rowCount);
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[bands];
+        for (int t = 0; t < bands; t++) {
+            int from = (int) ((long) rowCount * t / bands);
+            int to = (int) ((long) rowCount * (t + 1) / bands);
+            futures[t] = CompletableFuture.runAsync(() -> band.run(from, to), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+
+
+
     // System-Builtin Methods (Inheritance)
     @Override
     public String toString() {
-        return super.toString();
+        // Unicode box-drawing characters for pretty matrix output
+        final char TOP_LEFT = '\u250C';      // left-top
+        final char TOP_RIGHT = '\u2510';     // right-top
+        final char BOTTOM_LEFT = '\u2514';   // left-bottom
+        final char BOTTOM_RIGHT = '\u2518';  // right-bottom
+        final char VERTICAL = '\u2502';      // side
+        String result = "";
+        result += "";
+        // empty matrix
+        if (rows == 0) {
+            return "[ ]";
+        }
+        // top border
+        result += TOP_LEFT;
+        for (int col = 0; col < cols; col++) {
+            String element = String.format("%8c%2c", ' ', ' ');
+            result += element;
+        }
+        result += TOP_RIGHT + "\n";
+        // row x col, elements
+        for (int row = 0; row < rows; row++) {
+            result += VERTICAL;
+            for (int col = 0; col < cols; col++) {
+                String element = String.format("%8.2f%2c", getValue(row, col), ' ');
+                result += element;
+            }
+            result += VERTICAL + "\n";
+        }
+        // bottom border
+        result += BOTTOM_LEFT;
+        for (int col = 0; col < cols; col++) {
+            String element = String.format("%8c%2c", ' ',' ');
+            result += element;
+        }
+        result += BOTTOM_RIGHT + "\n";
+
+        return result;
     }
-}
\ No newline at end of file
+}
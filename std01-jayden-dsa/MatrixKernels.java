@@ -0,0 +1,50 @@
+/**
+ * The inner loops of the {@link Matrix} operations, over flat row-major arrays.
+ * <p>
+ * {@link #scalar()} is plain Java. {@link #vector()} is {@code VectorKernels.java}, built on the
+ * incubating Vector API ({@code jdk.incubator.vector}), which is only there when the program is
+ * compiled and run with {@code --add-modules jdk.incubator.vector}. {@link #preferred()} picks the
+ * vector kernels when they load and falls back to the scalar ones otherwise (or when the system
+ * property {@code matrix.kernels} is {@code scalar}).
+ * </p>
+ */
+interface MatrixKernels {
+    /** {@code result[i] = a[i] + b[i]} for {@code i} in {@code [from, to)} */
+    void add(double[] a, double[] b, double[] result, int from, int to);
+
+    /** {@code result[i] = a[i] * scalar} for {@code i} in {@code [from, to)} */
+    void scale(double[] a, double scalar, double[] result, int from, int to);
+
+    /** Returns the dot product of {@code a[aFrom, aFrom + length)} and {@code b[bFrom, bFrom + length)}. */
+    double dot(double[] a, int aFrom, double[] b, int bFrom, int length);
+
+    /**
+     * Accumulates rows {@code [rowFrom, rowTo)} of {@code c += a * b} for row-major
+     * {@code a} (n x m), {@code b} (m x p) and {@code c} (n x p), tiled like {@link Matrix#multiply(Matrix)}.
+     */
+    void multiplyBlocked(double[] a, double[] b, double[] c, int m, int p, int rowFrom, int rowTo);
+
+    static MatrixKernels scalar() {
+        return ScalarKernels.INSTANCE;
+    }
+
+    /**
+     * Loads the Vector API kernels.
+     *
+     * @return the kernels, or {@code null} if the incubator module is missing, {@code VectorKernels}
+     *         was not compiled, or the CPU has no SIMD registers for doubles
+     */
+    static MatrixKernels vector() {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) return null;
+        try {
+            return (MatrixKernels) Class.forName("VectorKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    static MatrixKernels preferred() {
+        MatrixKernels vector = "scalar".equals(System.getProperty("matrix.kernels")) ? null : vector();
+        return (vector != null) ? vector : scalar();
+    }
+}
@@ -0,0 +1,66 @@
+final class ScalarKernels implements MatrixKernels {
+    static final ScalarKernels INSTANCE = new ScalarKernels();
+
+    private ScalarKernels() {}
+
+    @Override
+    public void add(double[] a, double[] b, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void scale(double[] a, double scalar, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = a[i] * scalar;
+        }
+    }
+
+    @Override
+    public double dot(double[] a, int aFrom, double[] b, int bFrom, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += a[aFrom + i] * b[bFrom + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void multiplyBlocked(double[] a, double[] b, double[] c, int m, int p, int rowFrom, int rowTo) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += Matrix.TILE_ROWS) {
+            int iEnd = Math.min(i0 + Matrix.TILE_ROWS, rowTo);
+            for (int k0 = 0; k0 < m; k0 += Matrix.TILE_INNER) {
+                int kEnd = Math.min(k0 + Matrix.TILE_INNER, m);
+                for (int j0 = 0; j0 < p; j0 += Matrix.TILE_COLS) {
+                    int jEnd = Math.min(j0 + Matrix.TILE_COLS, p);
+                    for (int i = i0; i < iEnd; i++) {
+                        int aRow = i * m;
+                        int cRow = i * p;
+                        int k = k0;
+                        for (; k + 3 < kEnd; k += 4) {
+                            double a0 = a[aRow + k];
+                            double a1 = a[aRow + k + 1];
+                            double a2 = a[aRow + k + 2];
+                            double a3 = a[aRow + k + 3];
+                            int b0 = k * p;
+                            int b1 = b0 + p;
+                            int b2 = b1 + p;
+                            int b3 = b2 + p;
+                            for (int j = j0; j < jEnd; j++) {
+                                c[cRow + j] += a0 * b[b0 + j] + a1 * b[b1 + j] + a2 * b[b2 + j] + a3 * b[b3 + j];
+                            }
+                        }
+                        for (; k < kEnd; k++) {
+                            double aik = a[aRow + k];
+                            int bRow = k * p;
+                            for (int j = j0; j < jEnd; j++) {
+                                c[cRow + j] += aik * b[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
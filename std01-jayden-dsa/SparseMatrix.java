@@ -0,0 +1,395 @@
+/**
+ * The SparseMatrix class stores a matrix that is mostly zeros in compressed sparse row (CSR)
+ * form: the non-zeros of each row, ordered by column, in two arrays of length {@code nnz},
+ * plus a {@code rows + 1} array of row offsets.
+ * <p>
+ * Memory is proportional to the number of non-zeros (12 bytes each, plus 4 per row), so a
+ * 100,000 x 100,000 adjacency matrix with a million edges takes about 12 MB, where the dense
+ * {@code Matrix} would need 80 GB. Matrices are built from (row, column, value) triples with a
+ * {@link Builder}, or converted from a dense {@code Matrix}; they are immutable afterwards.
+ * </p>
+ * <ul>
+ *   <li>{@link #multiply(double[])}: sparse x dense vector, in parallel over blocks of rows
+ *       with about the same number of non-zeros</li>
+ *   <li>{@link #multiply(SparseMatrix)}: sparse x sparse (Gustavson's row-by-row algorithm)</li>
+ *   <li>{@link #transpose()}: a counting sort by column, O(nnz + cols)</li>
+ * </ul>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa std01-jayden-dsa/SparseMatrix.java std01-jayden-dsa/Main.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std01-jayden-dsa SparseMatrix; rm -rf std01-jayden-dsa/*.class
+ *      ```
+ */
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+
+public class SparseMatrix {
+    private final int rows;
+    private final int cols;
+    private final int[] rowStart;   // the non-zeros of row r are at [rowStart[r], rowStart[r + 1])
+    private final int[] colIndex;   // column of each non-zero, ascending within a row
+    private final double[] values;  // value of each non-zero
+    private final Executor executor; // runs the row blocks of large products; null = calling thread only
+
+    /**
+     * Example main for demonstration: a random 100,000-node graph with ten edges per node.
+     */
+    public static void main(String[] args) {
+        int n = 100_000;
+        Random random = new Random(0);
+        Builder builder = builder(n, n);
+        for (int row = 0; row < n; row++) {
+            for (int e = 0; e < 10; e++) builder.add(row, random.nextInt(n), 1.0);
+        }
+        SparseMatrix adjacency = builder.build();
+        System.out.println(adjacency);
+
+        double[] x = new double[n];
+        Arrays.fill(x, 1.0);
+        long start = System.nanoTime();
+        double[] degrees = adjacency.multiply(x);
+        System.out.println(String.format("out-degree of node 0: %.0f (%d us)", degrees[0], (System.nanoTime() - start) / 1_000));
+
+        SparseMatrix twoHops = adjacency.multiply(adjacency);
+        System.out.println("two-hop paths: " + twoHops);
+
+        SparseMatrix small = fromMatrix(new Matrix(new double[][] {{1, 0, 2}, {0, 0, 3}}));
+        System.out.println(small.transpose().toMatrix());
+    }
+
+
+
+
+    /**
+     * Collects (row, column, value) triples in any order (coordinate / COO format) and
+     * compresses them into a {@link SparseMatrix}.
+     * Triples for the same position are summed, and zero sums are dropped.
+     */
+    public static final class Builder {
+        private final int rows;
+        private final int cols;
+        private int[] rowOf = new int[16];
+        private int[] colOf = new int[16];
+        private double[] valueOf = new double[16];
+        private int count;
+
+        private Builder(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        /**
+         * Adds {@code value} at ({@code row}, {@code col}).
+         *
+         * @return this builder
+         * @throws IndexOutOfBoundsException if the position is outside the matrix
+         */
+        public Builder add(int row, int col, double value) {
+            if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside " + rows + "x" + cols);
+            }
+            if (count == rowOf.length) {
+                int capacity = count * 2;
+                rowOf = Arrays.copyOf(rowOf, capacity);
+                colOf = Arrays.copyOf(colOf, capacity);
+                valueOf = Arrays.copyOf(valueOf, capacity);
+            }
+            rowOf[count] = row;
+            colOf[count] = col;
+            valueOf[count] = value;
+            count++;
+            return this;
+        }
+
+        /**
+         * Sorts the triples by row and column with two stable counting sorts (column first,
+         * then row), O(count + rows + cols), then merges duplicates.
+         */
+        public SparseMatrix build() {
+            int[] byCol = countingOrder(colOf, cols, identity(count));
+            int[] order = countingOrder(rowOf, rows, byCol);
+
+            int[] rowStart = new int[rows + 1];
+            int[] colIndex = new int[count];
+            double[] values = new double[count];
+            int nnz = 0;
+            for (int i = 0; i < count; ) {
+                int row = rowOf[order[i]];
+                int col = colOf[order[i]];
+                double sum = 0;
+                for (; i < count && rowOf[order[i]] == row && colOf[order[i]] == col; i++) sum += valueOf[order[i]];
+                if (sum != 0) {
+                    colIndex[nnz] = col;
+                    values[nnz] = sum;
+                    rowStart[row + 1]++;
+                    nnz++;
+                }
+            }
+            for (int row = 0; row < rows; row++) rowStart[row + 1] += rowStart[row];
+            return new SparseMatrix(rows, cols, rowStart, Arrays.copyOf(colIndex, nnz), Arrays.copyOf(values, nnz),
+                ForkJoinPool.commonPool());
+        }
+
+        private static int[] identity(int n) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            return order;
+        }
+
+        /** Stable counting sort of the indices in {@code order} by {@code key[index]} in {@code [0, range)}. */
+        private static int[] countingOrder(int[] key, int range, int[] order) {
+            int[] start = new int[range + 1];
+            for (int index : order) start[key[index] + 1]++;
+            for (int k = 0; k < range; k++) start[k + 1] += start[k];
+            int[] sorted = new int[order.length];
+            for (int index : order) sorted[start[key[index]]++] = index;
+            return sorted;
+        }
+    }
+
+    /**
+     * Starts a builder for a {@code rows x cols} matrix.
+     *
+     * @throws IllegalArgumentException if a dimension is negative
+     */
+    public static Builder builder(int rows, int cols) {
+        if (rows < 0 || cols < 0) throw new IllegalArgumentException("Negative dimensions: " + rows + "x" + cols);
+        return new Builder(rows, cols);
+    }
+
+    /**
+     * Converts a dense matrix, keeping its non-zero elements. O(rows * cols).
+     */
+    public static SparseMatrix fromMatrix(Matrix dense) {
+        int rows = dense.rowSize();
+        int cols = dense.colSize();
+        int[] rowStart = new int[rows + 1];
+        int nnz = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (dense.getValue(row, col) != 0) nnz++;
+            }
+            rowStart[row + 1] = nnz;
+        }
+        int[] colIndex = new int[nnz];
+        double[] values = new double[nnz];
+        int index = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                double value = dense.getValue(row, col);
+                if (value != 0) {
+                    colIndex[index] = col;
+                    values[index++] = value;
+                }
+            }
+        }
+        return new SparseMatrix(rows, cols, rowStart, colIndex, values, dense.executor());
+    }
+
+    private SparseMatrix(int rows, int cols, int[] rowStart, int[] colIndex, double[] values, Executor executor) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowStart = rowStart;
+        this.colIndex = colIndex;
+        this.values = values;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns this matrix (sharing its arrays) with a different executor for {@link #multiply(double[])};
+     * {@code null} keeps all work on the calling thread.
+     */
+    public SparseMatrix withExecutor(Executor executor) {
+        return new SparseMatrix(rows, cols, rowStart, colIndex, values, executor);
+    }
+
+
+
+
+    public int rowSize() { return rows; }
+    public int colSize() { return cols; }
+    /** @return the number of stored (non-zero) elements */
+    public int nonZeros() { return values.length; }
+
+    /**
+     * Returns the element at ({@code row}, {@code col}), found by binary search within the row.
+     *
+     * @throws IndexOutOfBoundsException if the position is outside the matrix
+     */
+    public double getValue(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside " + rows + "x" + cols);
+        }
+        int index = Arrays.binarySearch(colIndex, rowStart[row], rowStart[row + 1], col);
+        return (index >= 0) ? values[index] : 0;
+    }
+
+    /**
+     * Converts to a dense matrix.
+     *
+     * @throws IllegalStateException if {@code rows * cols} elements do not fit in one array
+     */
+    public Matrix toMatrix() {
+        long size = (long) rows * cols;
+        if (size > Integer.MAX_VALUE - 8) throw new IllegalStateException(rows + "x" + cols + " is too large for a dense Matrix");
+        double[] dense = new double[(int) size];
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowStart[row]; i < rowStart[row + 1]; i++) dense[row * cols + colIndex[i]] = values[i];
+        }
+        return new Matrix(rows, cols, dense).withExecutor(executor);
+    }
+
+
+
+
+    /**
+     * Multiplies this matrix by a dense vector (SpMV), {@code y = A * x}.
+     * <p>
+     * Each output element is the dot product of one sparse row with {@code x}, so rows are
+     * independent. Above {@code Matrix.PARALLEL_THRESHOLD} non-zeros the rows are cut into about
+     * two blocks per worker, each holding about the same number of non-zeros (not rows, which
+     * would leave the thread with the dense rows of a power-law graph doing most of the work).
+     * </p>
+     *
+     * @param x vector of length {@link #colSize()}
+     * @return a new vector of length {@link #rowSize()}
+     * @throws IllegalArgumentException if {@code x} has the wrong length
+     */
+    public double[] multiply(double[] x) {
+        if (x.length != cols) throw new IllegalArgumentException("x must have " + cols + " elements.");
+        double[] y = new double[rows];
+        int threads = (executor instanceof ForkJoinPool)
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        int blocks = (int) Math.min(rows, 2L * threads);
+        if (executor == null || values.length < Matrix.PARALLEL_THRESHOLD || blocks < 2) {
+            multiplyRows(x, y, 0, rows);
+            return y;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[blocks];
+        int from = 0;
+        for (int b = 0; b < blocks; b++) {
+            int to = (b == blocks - 1) ? rows : firstRowAtOrAfter((int) ((long) values.length * (b + 1) / blocks));
+            to = Math.max(to, from);
+            int blockFrom = from;
+            int blockTo = to;
+            futures[b] = CompletableFuture.runAsync(() -> multiplyRows(x, y, blockFrom, blockTo), executor);
+            from = to;
+        }
+        CompletableFuture.allOf(futures).join();
+        return y;
+    }
+
+    private void multiplyRows(double[] x, double[] y, int from, int to) {
+        for (int row = from; row < to; row++) {
+            double sum = 0;
+            for (int i = rowStart[row]; i < rowStart[row + 1]; i++) sum += values[i] * x[colIndex[i]];
+            y[row] = sum;
+        }
+    }
+
+    /** Returns the first row whose non-zeros start at or after position {@code nz}. */
+    private int firstRowAtOrAfter(int nz) {
+        int lo = 0;
+        int hi = rows;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (rowStart[mid] < nz) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Multiplies two sparse matrices with Gustavson's algorithm: row i of the result is the sum
+     * of the rows of {@code other} selected by the non-zeros of row i of this matrix, gathered
+     * in a dense accumulator of length {@code other.colSize()}. Runs in
+     * O(rows + multiply-adds + result nnz * log(row length)) and never touches a zero product.
+     *
+     * @param other right operand
+     * @return the product, without explicit zeros
+     * @throws IllegalArgumentException if the inner dimensions do not match
+     */
+    public SparseMatrix multiply(SparseMatrix other) {
+        if (cols != other.rows) throw new IllegalArgumentException("A's columns must match B's rows.");
+        int p = other.cols;
+        double[] accumulator = new double[p];
+        int[] lastRow = new int[p]; // row + 1 that last touched each column, 0 = none
+        int[] touched = new int[p];
+        int[] resultStart = new int[rows + 1];
+        int[] resultCols = new int[Math.max(16, values.length)];
+        double[] resultValues = new double[resultCols.length];
+        int nnz = 0;
+        for (int row = 0; row < rows; row++) {
+            int touchedCount = 0;
+            for (int i = rowStart[row]; i < rowStart[row + 1]; i++) {
+                int k = colIndex[i];
+                double a = values[i];
+                for (int j = other.rowStart[k]; j < other.rowStart[k + 1]; j++) {
+                    int col = other.colIndex[j];
+                    if (lastRow[col] != row + 1) {
+                        lastRow[col] = row + 1;
+                        accumulator[col] = 0;
+                        touched[touchedCount++] = col;
+                    }
+                    accumulator[col] += a * other.values[j];
+                }
+            }
+            Arrays.sort(touched, 0, touchedCount);
+            if (nnz + touchedCount > resultCols.length) {
+                int capacity = Math.max(resultCols.length * 2, nnz + touchedCount);
+                resultCols = Arrays.copyOf(resultCols, capacity);
+                resultValues = Arrays.copyOf(resultValues, capacity);
+            }
+            for (int t = 0; t < touchedCount; t++) {
+                int col = touched[t];
+                if (accumulator[col] != 0) {
+                    resultCols[nnz] = col;
+                    resultValues[nnz++] = accumulator[col];
+                }
+            }
+            resultStart[row + 1] = nnz;
+        }
+        return new SparseMatrix(rows, p, resultStart, Arrays.copyOf(resultCols, nnz), Arrays.copyOf(resultValues, nnz), executor);
+    }
+
+    /**
+     * Returns the transpose: a counting sort of the non-zeros by column, which keeps the
+     * row order within each new row, so the result is sorted without comparisons.
+     */
+    public SparseMatrix transpose() {
+        int nnz = values.length;
+        int[] start = new int[cols + 1];
+        for (int i = 0; i < nnz; i++) start[colIndex[i] + 1]++;
+        for (int col = 0; col < cols; col++) start[col + 1] += start[col];
+        int[] next = Arrays.copyOf(start, cols);
+        int[] transposedCols = new int[nnz];
+        double[] transposedValues = new double[nnz];
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowStart[row]; i < rowStart[row + 1]; i++) {
+                int position = next[colIndex[i]]++;
+                transposedCols[position] = row;
+                transposedValues[position] = values[i];
+            }
+        }
+        return new SparseMatrix(cols, rows, start, transposedCols, transposedValues, executor);
+    }
+
+
+
+
+    @Override
+    public String toString() {
+        return String.format("SparseMatrix %dx%d, %d non-zeros", rows, cols, values.length);
+    }
+}
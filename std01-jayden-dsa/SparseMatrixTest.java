@@ -0,0 +1,132 @@
+// File: SparseMatrixTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The SparseMatrixTest class provides JUnit tests for the SparseMatrix class,
+ * checked against the dense Matrix operations.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa -cp junit-1.9.3.jar std01-jayden-dsa/SparseMatrix*.java std01-jayden-dsa/Main.java std01-jayden-dsa/MainTest.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std01-jayden-dsa --select-class SparseMatrixTest; rm -rf std01-jayden-dsa/*.class
+ *      ```
+ */
+public class SparseMatrixTest {
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Tests that the builder sorts unordered triples, sums duplicates and drops zero sums.
+     */
+    @Test
+    public void testBuilder() {
+        SparseMatrix m = SparseMatrix.builder(3, 4)
+            .add(2, 3, 5).add(0, 1, 1).add(2, 0, 4).add(0, 1, 2).add(1, 2, 7).add(1, 2, -7)
+            .build();
+        assertEquals(3, m.nonZeros());
+        MainTest.assertMatrixEquals(new double[][] {{0, 3, 0, 0}, {0, 0, 0, 0}, {4, 0, 0, 5}}, m.toMatrix());
+        assertEquals(0, m.getValue(1, 2));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> SparseMatrix.builder(2, 2).add(2, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.getValue(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrix.builder(-1, 2));
+        assertEquals(0, SparseMatrix.builder(0, 5).build().nonZeros());
+    }
+
+    /**
+     * Tests fromMatrix / toMatrix round trips and transpose on random sparse shapes.
+     */
+    @Test
+    public void testConversionAndTranspose() {
+        Random random = new Random(20);
+        int[][] shapes = {{1, 1}, {3, 5}, {40, 17}, {100, 100}};
+        for (int[] shape : shapes) {
+            double[][] dense = randomSparse(random, shape[0], shape[1], 0.1);
+            SparseMatrix sparse = SparseMatrix.fromMatrix(new Matrix(dense));
+            MainTest.assertMatrixEquals(dense, sparse.toMatrix());
+            MainTest.assertMatrixEquals(new Matrix(dense).transpose().toArray(), sparse.transpose().toMatrix());
+            MainTest.assertMatrixEquals(dense, sparse.transpose().transpose().toMatrix());
+        }
+    }
+
+    /**
+     * Tests SpMV against the dense product, sequentially and in parallel over row blocks
+     * of a matrix with a few very dense rows.
+     */
+    @Test
+    public void testMultiplyVector() {
+        Random random = new Random(21);
+        double[][] dense = randomSparse(random, 30, 20, 0.2);
+        double[] x = random.doubles(20).toArray();
+        assertArrayEquals(denseMultiply(dense, x), SparseMatrix.fromMatrix(new Matrix(dense)).multiply(x), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> SparseMatrix.fromMatrix(new Matrix(dense)).multiply(new double[19]));
+
+        int n = 50_000;
+        SparseMatrix.Builder builder = SparseMatrix.builder(n, n);
+        for (int row = 0; row < n; row++) {
+            int edges = (row % 5_000 == 0) ? 5_000 : 8; // a few hub rows skew the non-zeros per row
+            for (int e = 0; e < edges; e++) builder.add(row, random.nextInt(n), random.nextDouble());
+        }
+        SparseMatrix large = builder.build();
+        double[] v = random.doubles(n).toArray();
+        double[] sequential = large.withExecutor(null).multiply(v);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(sequential, large.withExecutor(pool).multiply(v), 0.0);
+        } finally {
+            pool.shutdown();
+        }
+        for (int row : new int[] {0, 1, n / 2, n - 1}) {
+            double expected = 0;
+            for (int col = 0; col < n; col++) expected += large.getValue(row, col) * v[col];
+            assertEquals(expected, sequential[row], EPSILON);
+        }
+    }
+
+    /**
+     * Tests sparse x sparse multiply against the dense product, including cancellation to zero.
+     */
+    @Test
+    public void testMultiplySparse() {
+        Random random = new Random(22);
+        int[][] shapes = {{1, 1, 1}, {4, 6, 3}, {50, 30, 70}, {80, 80, 80}};
+        for (int[] shape : shapes) {
+            double[][] a = randomSparse(random, shape[0], shape[1], 0.15);
+            double[][] b = randomSparse(random, shape[1], shape[2], 0.15);
+            SparseMatrix product = SparseMatrix.fromMatrix(new Matrix(a)).multiply(SparseMatrix.fromMatrix(new Matrix(b)));
+            MainTest.assertMatrixEquals(Main.multiply(a, b), product.toMatrix());
+        }
+
+        SparseMatrix a = SparseMatrix.fromMatrix(new Matrix(new double[][] {{1, 1}}));
+        SparseMatrix b = SparseMatrix.fromMatrix(new Matrix(new double[][] {{2}, {-2}}));
+        assertEquals(0, a.multiply(b).nonZeros());
+        assertThrows(IllegalArgumentException.class, () -> a.multiply(a));
+    }
+
+    private static double[][] randomSparse(Random random, int rows, int cols, double density) {
+        double[][] m = new double[rows][cols];
+        for (double[] row : m) {
+            for (int j = 0; j < cols; j++) {
+                if (random.nextDouble() < density) row[j] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return m;
+    }
+
+    private static double[] denseMultiply(double[][] a, double[] x) {
+        double[] y = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < x.length; j++) y[i] += a[i][j] * x[j];
+        }
+        return y;
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * The VectorKernels class implements the {@code MatrixKernels} of Main.java with the
+ * incubating Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * Each loop works on {@code DoubleVector.SPECIES_PREFERRED} lanes at a time (4 doubles with
+ * AVX2, 8 with AVX-512) and finishes the remainder with scalar code. The dot product and the
+ * multiply use fused multiply-adds. {@code Matrix} loads this class reflectively, so Main.java
+ * still compiles and runs without the incubator module, using its scalar kernels instead.
+ * </p>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac -sourcepath std01-jayden-dsa --add-modules jdk.incubator.vector std01-jayden-dsa/VectorKernels.java std01-jayden-dsa/Main.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java --add-modules jdk.incubator.vector -cp std01-jayden-dsa VectorKernels; rm -rf std01-jayden-dsa/*.class
+ *      ```
+ */
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+public class VectorKernels implements MatrixKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * Example main for demonstration: compares the scalar and vector kernels on one operation.
+     */
+    public static void main(String[] args) {
+        MatrixKernels vector = MatrixKernels.vector();
+        System.out.println("Vector kernels: " + ((vector == null) ? "unavailable" : LANES + " lanes"));
+        if (vector == null) return;
+        double[] a = new java.util.Random(0).doubles(1 << 20).toArray();
+        double[] result = new double[a.length];
+        for (MatrixKernels kernels : new MatrixKernels[]{MatrixKernels.scalar(), vector}) {
+            long start = System.nanoTime();
+            for (int rep = 0; rep < 200; rep++) kernels.scale(a, 1.5, result, 0, a.length);
+            System.out.println(String.format("%s: %d ms", kernels.getClass().getSimpleName(), (System.nanoTime() - start) / 1_000_000));
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the preferred species holds a single double,
+     *         i.e. the CPU has no SIMD registers for doubles and the Vector API would be slower than scalar code
+     */
+    VectorKernels() {
+        if (LANES < 2) throw new UnsupportedOperationException("No SIMD registers for doubles");
+    }
+
+
+
+
+    @Override
+    public void add(double[] a, double[] b, double[] result, int from, int to) {
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).add(DoubleVector.fromArray(SPECIES, b, i)).intoArray(result, i);
+        }
+        for (; i < to; i++) {
+            result[i] = a[i] + b[i];
+        }
+    }
+
+    @Override
+    public void scale(double[] a, double scalar, double[] result, int from, int to) {
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).mul(scalar).intoArray(result, i);
+        }
+        for (; i < to; i++) {
+            result[i] = a[i] * scalar;
+        }
+    }
+
+    @Override
+    public double dot(double[] a, int aFrom, double[] b, int bFrom, int length) {
+        // two accumulators hide the latency of the dependent fused multiply-adds
+        DoubleVector sum0 = DoubleVector.zero(SPECIES);
+        DoubleVector sum1 = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int upper = length - 2 * LANES; i <= upper; i += 2 * LANES) {
+            sum0 = DoubleVector.fromArray(SPECIES, a, aFrom + i).fma(DoubleVector.fromArray(SPECIES, b, bFrom + i), sum0);
+            sum1 = DoubleVector.fromArray(SPECIES, a, aFrom + i + LANES).fma(DoubleVector.fromArray(SPECIES, b, bFrom + i + LANES), sum1);
+        }
+        double sum = sum0.add(sum1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[aFrom + i] * b[bFrom + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void multiplyBlocked(double[] a, double[] b, double[] c, int m, int p, int rowFrom, int rowTo) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += Matrix.TILE_ROWS) {
+            int iEnd = Math.min(i0 + Matrix.TILE_ROWS, rowTo);
+            for (int k0 = 0; k0 < m; k0 += Matrix.TILE_INNER) {
+                int kEnd = Math.min(k0 + Matrix.TILE_INNER, m);
+                for (int j0 = 0; j0 < p; j0 += Matrix.TILE_COLS) {
+                    int jEnd = Math.min(j0 + Matrix.TILE_COLS, p);
+                    int jVector = j0 + SPECIES.loopBound(jEnd - j0);
+                    for (int i = i0; i < iEnd; i++) {
+                        int aRow = i * m;
+                        int cRow = i * p;
+                        int k = k0;
+                        for (; k + 3 < kEnd; k += 4) {
+                            double a0 = a[aRow + k];
+                            double a1 = a[aRow + k + 1];
+                            double a2 = a[aRow + k + 2];
+                            double a3 = a[aRow + k + 3];
+                            int b0 = k * p;
+                            int b1 = b0 + p;
+                            int b2 = b1 + p;
+                            int b3 = b2 + p;
+                            DoubleVector v0 = DoubleVector.broadcast(SPECIES, a0);
+                            DoubleVector v1 = DoubleVector.broadcast(SPECIES, a1);
+                            DoubleVector v2 = DoubleVector.broadcast(SPECIES, a2);
+                            DoubleVector v3 = DoubleVector.broadcast(SPECIES, a3);
+                            int j = j0;
+                            for (; j < jVector; j += LANES) {
+                                DoubleVector sum = DoubleVector.fromArray(SPECIES, c, cRow + j);
+                                sum = DoubleVector.fromArray(SPECIES, b, b0 + j).fma(v0, sum);
+                                sum = DoubleVector.fromArray(SPECIES, b, b1 + j).fma(v1, sum);
+                                sum = DoubleVector.fromArray(SPECIES, b, b2 + j).fma(v2, sum);
+                                sum = DoubleVector.fromArray(SPECIES, b, b3 + j).fma(v3, sum);
+                                sum.intoArray(c, cRow + j);
+                            }
+                            for (; j < jEnd; j++) {
+                                c[cRow + j] += a0 * b[b0 + j] + a1 * b[b1 + j] + a2 * b[b2 + j] + a3 * b[b3 + j];
+                            }
+                        }
+                        for (; k < kEnd; k++) {
+                            double aik = a[aRow + k];
+                            int bRow = k * p;
+                            DoubleVector vik = DoubleVector.broadcast(SPECIES, aik);
+                            int j = j0;
+                            for (; j < jVector; j += LANES) {
+                                DoubleVector.fromArray(SPECIES, b, bRow + j).fma(vik, DoubleVector.fromArray(SPECIES, c, cRow + j))
+                                    .intoArray(c, cRow + j);
+                            }
+                            for (; j < jEnd; j++) {
+                                c[cRow + j] += aik * b[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
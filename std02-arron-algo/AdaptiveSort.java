@@ -0,0 +1,271 @@
+/**
+ * The AdaptiveSort class sorts primitive {@code int[]} arrays without comparisons when the
+ * keys allow it.
+ * <p>
+ * It includes an LSD radix sort (11-bit digits, two ping-pong buffers, all digit histograms
+ * counted in one pass), a counting sort for small key ranges, and an adaptive
+ * {@link #sort(int[], Stats)} entry point that looks at {@code n}, {@code min} and {@code max}
+ * and picks insertion, counting, radix or quick sort. The chosen strategy is reported
+ * through a {@link Stats} object.
+ * </p>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac std02-arron-algo/AdaptiveSort.java std02-arron-algo/AlgorithmAPSecond.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std02-arron-algo AdaptiveSort; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+import java.util.Random;
+
+
+public class AdaptiveSort {
+    /** arrays up to this length are insertion sorted */
+    static final int INSERTION_THRESHOLD = 32;
+    /** arrays from this length on are radix sorted when counting sort does not apply */
+    static final int RADIX_THRESHOLD = 1 << 10;
+    /** largest key range (max - min + 1) a counting sort may allocate counters for */
+    static final int COUNTING_MAX_RANGE = 1 << 24;
+
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    /** The sorting algorithm chosen by {@link #sort(int[], Stats)}. */
+    public enum Strategy { INSERTION, COUNTING, RADIX, QUICK }
+
+    /**
+     * Statistics of the {@link #sort(int[], Stats)} calls made with this object:
+     * the last input's shape and strategy, plus how often each strategy was chosen.
+     * Not thread-safe; use one per thread.
+     */
+    public static final class Stats {
+        private Strategy strategy;
+        private int size;
+        private int min;
+        private int max;
+        private final long[] counts = new long[Strategy.values().length];
+
+        /** @return the strategy of the last call, or {@code null} before the first one */
+        public Strategy strategy() { return strategy; }
+        /** @return the length of the last sorted array */
+        public int size() { return size; }
+        /** @return the smallest value of the last sorted array (0 if it was empty) */
+        public int min() { return min; }
+        /** @return the largest value of the last sorted array (0 if it was empty) */
+        public int max() { return max; }
+        /** @return the number of calls that chose {@code strategy} */
+        public long count(Strategy strategy) { return counts[strategy.ordinal()]; }
+
+        private void record(Strategy strategy, int size, int min, int max) {
+            this.strategy = strategy;
+            this.size = size;
+            this.min = min;
+            this.max = max;
+            counts[strategy.ordinal()]++;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Stats{strategy=%s, size=%d, min=%d, max=%d}", strategy, size, min, max);
+        }
+    }
+
+    /**
+     * Example main for demonstration.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(0);
+        Stats stats = new Stats();
+        int[][] inputs = {
+            random.ints(20, 0, 100).toArray(),
+            random.ints(1_000_000, 0, 1_000).toArray(),
+            random.ints(1_000_000).toArray(),
+            random.ints(500, -1_000_000, 1_000_000).toArray(),
+        };
+        for (int[] input : inputs) {
+            long start = System.nanoTime();
+            sort(input, stats);
+            long elapsed = (System.nanoTime() - start) / 1_000;
+            System.out.println(String.format("%s (%d us)", stats, elapsed));
+        }
+    }
+
+
+
+
+    /**
+     * Sorts the array in ascending order with the strategy that fits its shape.
+     *
+     * @param nums the array of integers to sort in-place
+     * @return the same array, sorted in ascending order
+     */
+    public static int[] sort(int[] nums) {
+        return sort(nums, null);
+    }
+
+    /**
+     * Sorts the array in ascending order with the strategy that fits its shape:
+     * <ul>
+     *   <li>insertion sort for at most {@value #INSERTION_THRESHOLD} elements</li>
+     *   <li>counting sort when the key range {@code max - min + 1} is not larger than {@code n}</li>
+     *   <li>radix sort for at least {@value #RADIX_THRESHOLD} elements</li>
+     *   <li>in-place quick sort otherwise</li>
+     * </ul>
+     *
+     * @param nums  the array of integers to sort in-place
+     * @param stats receives the chosen strategy, may be {@code null}
+     * @return the same array, sorted in ascending order
+     */
+    public static int[] sort(int[] nums, Stats stats) {
+        int n = nums.length;
+        int min = (n == 0) ? 0 : nums[0];
+        int max = min;
+        for (int i = 1; i < n; i++) {
+            int value = nums[i];
+            if (value < min) min = value;
+            else if (value > max) max = value;
+        }
+        long range = (long) max - min + 1;
+
+        Strategy strategy;
+        if (n <= INSERTION_THRESHOLD) {
+            strategy = Strategy.INSERTION;
+            AlgorithmAPSecond.insertionSort(nums);
+        } else if (range <= n && range <= COUNTING_MAX_RANGE) {
+            strategy = Strategy.COUNTING;
+            countingSort(nums, min, (int) range);
+        } else if (n >= RADIX_THRESHOLD) {
+            strategy = Strategy.RADIX;
+            radixSort(nums, new int[n], min, max);
+        } else {
+            strategy = Strategy.QUICK;
+            AlgorithmAPSecond.quickSort(nums);
+        }
+        if (stats != null) stats.record(strategy, n, min, max);
+        return nums;
+    }
+
+
+
+
+    /**
+     * Sorts the array in ascending order with an LSD radix sort.
+     * Allocates one buffer of {@code nums.length}.
+     *
+     * @param nums the array of integers to sort in-place
+     * @return the same array, sorted in ascending order
+     */
+    public static int[] radixSort(int[] nums) {
+        return radixSort(nums, new int[nums.length]);
+    }
+
+    /**
+     * Sorts the array in ascending order with an LSD radix sort on 11-bit digits,
+     * ping-ponging between {@code nums} and {@code buffer}.
+     * <p>
+     * Keys are taken relative to the minimum, so a narrow range needs only one or two
+     * passes instead of three, and a pass whose digit is the same for every key is skipped.
+     * </p>
+     *
+     * @param nums   the array of integers to sort in-place
+     * @param buffer scratch space, at least {@code nums.length} long; its contents are overwritten
+     * @return the same array, sorted in ascending order
+     * @throws IllegalArgumentException if {@code buffer} is shorter than {@code nums}
+     */
+    public static int[] radixSort(int[] nums, int[] buffer) {
+        int n = nums.length;
+        if (buffer.length < n) {
+            throw new IllegalArgumentException("Buffer length " + buffer.length + " is smaller than " + n);
+        }
+        if (n < 2) return nums;
+        int min = nums[0];
+        int max = min;
+        for (int i = 1; i < n; i++) {
+            int value = nums[i];
+            if (value < min) min = value;
+            else if (value > max) max = value;
+        }
+        radixSort(nums, buffer, min, max);
+        return nums;
+    }
+
+    private static void radixSort(int[] nums, int[] buffer, int min, int max) {
+        int n = nums.length;
+        // unsigned key = value - min; number of 11-bit digits the largest key needs
+        int bits = 32 - Integer.numberOfLeadingZeros(max - min);
+        int passes = Math.max(1, (bits + RADIX_BITS - 1) / RADIX_BITS);
+
+        // 1. all digit histograms in one pass over the data
+        int[][] counts = new int[passes][RADIX];
+        for (int i = 0; i < n; i++) {
+            int key = nums[i] - min;
+            for (int p = 0; p < passes; p++) {
+                counts[p][(key >>> (p * RADIX_BITS)) & RADIX_MASK]++;
+            }
+        }
+
+        // 2. one stable scatter per digit, nums -> buffer -> nums ...
+        int[] src = nums;
+        int[] dst = buffer;
+        for (int p = 0; p < passes; p++) {
+            int[] count = counts[p];
+            int shift = p * RADIX_BITS;
+            if (count[((src[0] - min) >>> shift) & RADIX_MASK] == n) continue; // same digit everywhere
+            int offset = 0;
+            for (int d = 0; d < RADIX; d++) { // counts -> start offsets
+                int c = count[d];
+                count[d] = offset;
+                offset += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int value = src[i];
+                dst[count[((value - min) >>> shift) & RADIX_MASK]++] = value;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != nums) System.arraycopy(src, 0, nums, 0, n);
+    }
+
+
+
+
+    /**
+     * Sorts the array in ascending order by counting occurrences of every value
+     * between its minimum and maximum.
+     *
+     * @param nums the array of integers to sort in-place
+     * @return the same array, sorted in ascending order
+     * @throws IllegalArgumentException if {@code max - min + 1} exceeds {@value #COUNTING_MAX_RANGE}
+     */
+    public static int[] countingSort(int[] nums) {
+        if (nums.length < 2) return nums;
+        int min = nums[0];
+        int max = min;
+        for (int value : nums) {
+            if (value < min) min = value;
+            else if (value > max) max = value;
+        }
+        long range = (long) max - min + 1;
+        if (range > COUNTING_MAX_RANGE) {
+            throw new IllegalArgumentException("Value range " + range + " is too large for counting sort");
+        }
+        countingSort(nums, min, (int) range);
+        return nums;
+    }
+
+    private static void countingSort(int[] nums, int min, int range) {
+        int[] counts = new int[range];
+        for (int value : nums) counts[value - min]++;
+        int index = 0;
+        for (int key = 0; key < range; key++) {
+            for (int c = counts[key]; c > 0; c--) nums[index++] = min + key;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// File: AdaptiveSortTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The AdaptiveSortTest class provides JUnit tests for the radix, counting and
+ * adaptive sorts in the AdaptiveSort class, checked against {@link Arrays#sort}.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -cp junit-1.9.3.jar std02-arron-algo/AdaptiveSort*.java std02-arron-algo/AlgorithmAPSecond.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std02-arron-algo --scan-classpath; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+public class AdaptiveSortTest {
+
+    /**
+     * Tests radixSort over narrow, wide and full 32-bit (negative included) ranges.
+     */
+    @Test
+    public void testRadixSort() {
+        Random random = new Random(13);
+        int[] buffer = new int[50_000];
+        for (int trial = 0; trial < 60; trial++) {
+            int n = random.nextInt(buffer.length + 1);
+            int[] input;
+            switch (trial % 3) {
+                case 0:  input = random.ints(n).toArray(); break;
+                case 1:  input = random.ints(n, -5_000, 5_000).toArray(); break;
+                default: input = random.ints(n, Integer.MAX_VALUE - 3_000_000, Integer.MAX_VALUE).toArray(); break;
+            }
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            assertSame(input, AdaptiveSort.radixSort(input, buffer));
+            assertArrayEquals(expected, input);
+        }
+
+        int[] extremes = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MIN_VALUE};
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE},
+            AdaptiveSort.radixSort(extremes));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveSort.radixSort(new int[]{2, 1}, new int[1]));
+    }
+
+    /**
+     * Tests countingSort, including its range limit.
+     */
+    @Test
+    public void testCountingSort() {
+        assertArrayEquals(new int[]{-3, -3, 0, 2, 2, 7}, AdaptiveSort.countingSort(new int[]{2, -3, 7, 0, -3, 2}));
+        assertArrayEquals(new int[]{}, AdaptiveSort.countingSort(new int[]{}));
+        assertThrows(IllegalArgumentException.class,
+            () -> AdaptiveSort.countingSort(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE}));
+    }
+
+    /**
+     * Tests that sort(int[], Stats) picks the expected strategy for each input shape.
+     */
+    @Test
+    public void testAdaptiveDispatch() {
+        Random random = new Random(17);
+        AdaptiveSort.Stats stats = new AdaptiveSort.Stats();
+        Object[][] cases = {
+            {random.ints(10).toArray(), AdaptiveSort.Strategy.INSERTION},
+            {random.ints(100_000, 0, 1_000).toArray(), AdaptiveSort.Strategy.COUNTING},
+            {random.ints(100_000).toArray(), AdaptiveSort.Strategy.RADIX},
+            {random.ints(500).toArray(), AdaptiveSort.Strategy.QUICK},
+        };
+        for (Object[] c : cases) {
+            int[] input = (int[]) c[0];
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, AdaptiveSort.sort(input, stats));
+            assertEquals(c[1], stats.strategy());
+            assertEquals(input.length, stats.size());
+            assertEquals(expected[0], stats.min());
+            assertEquals(expected[expected.length - 1], stats.max());
+        }
+        for (AdaptiveSort.Strategy strategy : AdaptiveSort.Strategy.values()) {
+            assertEquals(1, stats.count(strategy));
+        }
+        assertArrayEquals(new int[]{}, AdaptiveSort.sort(new int[]{}));
+    }
+}
@@ -37,6 +37,8 @@ public class AlgorithmAPSecond {
         System.out.println("Hello, World!");
         test();
     }
+    // quick, single-shot timing only (no warmup, no fork isolation);
+    // for comparable numbers run the JMH suite: `gradle :benchmark:jmh` in `ydls-java/`
     public static void test() {
         final int n = 5_000;
         int[] base = new Random(0).ints(n, 0, n).toArray();
@@ -143,8 +145,21 @@ public class AlgorithmAPSecond {
      * </ul>
      */
     public static int[] insertionSort(int[] nums) {
-        // [Your Implementation Here]
-
+        for (int i = 1; i < nums.length; i++) {
+            int value = nums[i];
+            if (nums[i - 1] <= value) continue; // already in place
+            // binary search: first position in the sorted prefix nums[0..i) holding a value > value
+            int lo = 0;
+            int hi = i - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (nums[mid] <= value) lo = mid + 1;
+                else hi = mid;
+            }
+            // shift nums[lo..i) one slot to the right in a single block move
+            System.arraycopy(nums, lo, nums, lo + 1, i - lo);
+            nums[lo] = value;
+        }
         return nums;
     }
 
@@ -181,9 +196,11 @@ public class AlgorithmAPSecond {
     /**
      * < Q23 >
      * Sort the given array in ascending order using the merge sort algorithm.
+     * Allocates a single scratch buffer of {@code nums.length} per call; use
+     * {@link #mergeSort(int[], int[])} to reuse one across calls.
      *
-     * @param nums the array of integers to sort
-     * @return a new array, sorted in ascending order
+     * @param nums the array of integers to sort in-place
+     * @return the same array, sorted in ascending order
      *
      * <p>Examples:</p>
      * <ul>
@@ -192,44 +209,136 @@ public class AlgorithmAPSecond {
      * </ul>
      */
     public static int[] mergeSort(int[] nums) {
-        // base-case
         if (nums.length < 2) return nums;
-        if (nums.length == 2) {
-            if (nums[0] > nums[1]) {
-                int temp = nums[0];
-                nums[0] = nums[1];
-                nums[1] = temp;
-            }
+        return mergeSort(nums, new int[nums.length]);
+    }
+
+    /** initial runs of this length are built by insertion sort before merging */
+    private static final int MERGE_SORT_RUN = 16;
+    /** after this many consecutive wins of one run, the merge switches to galloping */
+    private static final int MERGE_SORT_GALLOP = 7;
+
+    /**
+     * < Q23 >
+     * Sort the given array in ascending order using a bottom-up merge sort that works
+     * out of a caller-supplied scratch buffer.
+     * <p>
+     * Nothing is allocated, so the same {@code buffer} can be reused to sort many arrays
+     * in a loop without producing garbage. Adjacent runs that are already in order are not
+     * merged at all, and long streaks from one run are copied in bulk (galloping), so
+     * presorted input costs close to O(n). The sort is stable.
+     * </p>
+     *
+     * @param nums   the array of integers to sort in-place
+     * @param buffer scratch space, at least {@code nums.length} long; its contents are overwritten
+     * @return the same array, sorted in ascending order
+     * @throws IllegalArgumentException if {@code buffer} is shorter than {@code nums}
+     */
+    public static int[] mergeSort(int[] nums, int[] buffer) {
+        int n = nums.length;
+        if (buffer.length < n) {
+            throw new IllegalArgumentException("Buffer length " + buffer.length + " is smaller than " + n);
         }
-        // recursive-case
-        int leftIndex = 0;
-        int rightIndex = 0;
-        int[] left = new int[nums.length / 2];
-        int[] right = new int[nums.length - nums.length / 2];
-        for(int i = 0; i < nums.length; i++){
-            if(i < nums.length / 2){ 
-                left[leftIndex++] = nums[i];
+        // 1. short runs by insertion sort
+        for (int lo = 0; lo < n; lo += MERGE_SORT_RUN) {
+            insertionSort(nums, lo, Math.min(lo + MERGE_SORT_RUN, n) - 1);
+        }
+        // 2. merge runs of width 16, 32, 64, ... (no recursion)
+        for (int width = MERGE_SORT_RUN; width < n; width *= 2) {
+            for (int lo = 0; lo < n - width; lo += 2 * width) {
+                int mid = lo + width - 1;
+                int hi = Math.min(lo + 2 * width - 1, n - 1);
+                if (nums[mid] <= nums[mid + 1]) continue; // runs already in order
+                merge(nums, lo, mid, hi, buffer);
             }
-            else{
-                right[rightIndex++] = nums[i];
+        }
+        return nums;
+    }
+
+    /**
+     * Merges the sorted runs {@code nums[lo..mid]} and {@code nums[mid+1..hi]}.
+     * Only the (trimmed) left run is copied to {@code buffer}; the result is written
+     * back into {@code nums} from the left.
+     */
+    private static void merge(int[] nums, int lo, int mid, int hi, int[] buffer) {
+        // elements of the left run that are <= the first right element are already in place
+        lo = gallopRight(nums[mid + 1], nums, lo, mid - lo + 1);
+        // elements of the right run that are >= the last left element are already in place
+        hi = gallopLeft(nums[mid], nums, mid + 1, hi - mid) - 1;
+
+        System.arraycopy(nums, lo, buffer, lo, mid - lo + 1);
+        int i = lo;      // next in left run (buffer)
+        int j = mid + 1; // next in right run (nums)
+        int k = lo;      // next output slot, always k <= j
+        int leftWins = 0;
+        int rightWins = 0;
+        while (i <= mid && j <= hi) {
+            if (buffer[i] <= nums[j]) {
+                nums[k++] = buffer[i++];
+                rightWins = 0;
+                if (++leftWins >= MERGE_SORT_GALLOP && i <= mid) {
+                    int end = gallopRight(nums[j], buffer, i, mid - i + 1);
+                    System.arraycopy(buffer, i, nums, k, end - i);
+                    k += end - i;
+                    i = end;
+                    leftWins = 0;
+                }
+            } else {
+                nums[k++] = nums[j++];
+                leftWins = 0;
+                if (++rightWins >= MERGE_SORT_GALLOP && j <= hi) {
+                    int end = gallopLeft(buffer[i], nums, j, hi - j + 1);
+                    System.arraycopy(nums, j, nums, k, end - j);
+                    k += end - j;
+                    j = end;
+                    rightWins = 0;
+                }
             }
         }
-        left = mergeSort(left); leftIndex = 0;
-        right = mergeSort(right); rightIndex = 0;
-        // merging process
-        int i = 0;
-        while (leftIndex < left.length && rightIndex < right.length) {
-            if (left[leftIndex] <= right[rightIndex]) nums[i] = left[leftIndex++]; 
-            else nums[i] = right[rightIndex++];
-            i++;
+        // the rest of the right run is already in place
+        System.arraycopy(buffer, i, nums, k, mid - i + 1);
+    }
+
+    /**
+     * Exponential + binary search in the sorted range {@code a[base..base+len)}.
+     *
+     * @return the first index whose value is greater than {@code key} ({@code base + len} if none)
+     */
+    private static int gallopRight(int key, int[] a, int base, int len) {
+        int lo = 0;
+        int hi = 1;
+        while (hi <= len && a[base + hi - 1] <= key) {
+            lo = hi;
+            hi = (hi > (len >>> 1)) ? len + 1 : hi << 1;
         }
-        if(leftIndex == left.length) while(rightIndex != right.length) { // left ran out
-            nums[i++] = right[rightIndex++];  
+        hi = Math.min(hi - 1, len);
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            if (a[base + m] <= key) lo = m + 1;
+            else hi = m;
         }
-        if(rightIndex == right.length) while(leftIndex != left.length){
-            nums[i++] = left[leftIndex++];
+        return base + lo;
+    }
+
+    /**
+     * Exponential + binary search in the sorted range {@code a[base..base+len)}.
+     *
+     * @return the first index whose value is greater than or equal to {@code key} ({@code base + len} if none)
+     */
+    private static int gallopLeft(int key, int[] a, int base, int len) {
+        int lo = 0;
+        int hi = 1;
+        while (hi <= len && a[base + hi - 1] < key) {
+            lo = hi;
+            hi = (hi > (len >>> 1)) ? len + 1 : hi << 1;
         }
-        return nums;
+        hi = Math.min(hi - 1, len);
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            if (a[base + m] < key) lo = m + 1;
+            else hi = m;
+        }
+        return base + lo;
     }
 
     /**
@@ -246,45 +355,102 @@ public class AlgorithmAPSecond {
      * </ul>
      */
     public static int[] quickSort(int[] nums) {
-        /// base-case
-        if (nums.length < 2) return nums;
-        if (nums.length == 2) {
-            if (nums[0] > nums[1]) {
-                int temp = nums[0];
-                nums[0] = nums[1];
-                nums[1] = temp;
+        quickSort(nums, 0, nums.length - 1);
+        return nums;
+    }
+
+    /** ranges up to this size are finished by insertion sort */
+    private static final int QUICK_SORT_INSERTION_THRESHOLD = 16;
+    /** ranges above this size pick the pivot by Tukey's ninther instead of median-of-three */
+    private static final int QUICK_SORT_NINTHER_THRESHOLD = 128;
+
+    /**
+     * Sorts {@code nums[lo..hi]} (inclusive) in place.
+     * <p>
+     * Partitions around a median-of-three (or ninther) pivot without any extra array,
+     * recurses only into the smaller part and loops on the larger one, so the call stack
+     * never goes deeper than O(log n) even on sorted or reversed input.
+     * Package-private so {@code ParallelSort} can reuse it for its leaf ranges.
+     * </p>
+     */
+    static void quickSort(int[] nums, int lo, int hi) {
+        while (hi - lo + 1 > QUICK_SORT_INSERTION_THRESHOLD) {
+            int j = partition(nums, lo, hi);
+            /// recursive-case: smaller part by recursion, larger part by the loop
+            if (j - lo < hi - j) {
+                quickSort(nums, lo, j);
+                lo = j + 1;
+            } else {
+                quickSort(nums, j + 1, hi);
+                hi = j;
             }
         }
-        /// recursive-case
-        int bigPartSize = 0;
-        int smallPartSize = 0;
-        /// pivot (purple)
-        int middleValue = nums[0];
-        /// small & large partition, size look up
-        for(int i = 1; i < nums.length; i++){
-            if(nums[i] >= middleValue) bigPartSize++;
-            else smallPartSize++;
-        }
-        /// small & large partition, array creation
-        int[] smalls = new int[smallPartSize]; int smallIndex = 0;
-        int[] bigs = new int[bigPartSize]; int bigIndex = 0;
-        for(int i = 1; i < nums.length; i++){ // fill out values
-            if(nums[i] >= middleValue) bigs[bigIndex++] = nums[i];
-            else smalls[smallIndex++] = nums[i];
+        /// base-case: small range
+        insertionSort(nums, lo, hi);
+    }
+
+    /**
+     * Partitions {@code nums[lo..hi]} (at least 2 elements) in place around a
+     * median-of-three / ninther pivot, without any extra array.
+     *
+     * @return the split index {@code j}, {@code lo <= j < hi}, such that
+     *         {@code nums[lo..j] <= pivot <= nums[j+1..hi]}
+     */
+    static int partition(int[] nums, int lo, int hi) {
+        /// pivot (purple): move the median to the front of the range
+        swap(nums, lo, pivotIndex(nums, lo, hi));
+        int pivot = nums[lo];
+        /// small & large partition (Hoare)
+        int i = lo - 1;
+        int j = hi + 1;
+        while (true) {
+            do i++; while (nums[i] < pivot);
+            do j--; while (nums[j] > pivot);
+            if (i >= j) return j;
+            swap(nums, i, j);
         }
-        // sort 2 sub-problems using recursive call
-        smalls = quickSort(smalls); // recursion
-        bigs = quickSort(bigs); // recursion
-        // merging process (small values on the left, pivot in the middle, large values on the right)
-        int index = 0;
-        for (int i = 0; i < smalls.length; i++) {
-            nums[index++] = smalls[i];
+    }
+
+    /**
+     * Picks the pivot position for {@code nums[lo..hi]}: median-of-three for small ranges,
+     * median of three medians-of-three (ninther) for large ones.
+     */
+    private static int pivotIndex(int[] nums, int lo, int hi) {
+        int mid = lo + (hi - lo) / 2;
+        if (hi - lo + 1 <= QUICK_SORT_NINTHER_THRESHOLD) return medianOfThree(nums, lo, mid, hi);
+        int step = (hi - lo + 1) / 8;
+        int a = medianOfThree(nums, lo, lo + step, lo + 2 * step);
+        int b = medianOfThree(nums, mid - step, mid, mid + step);
+        int c = medianOfThree(nums, hi - 2 * step, hi - step, hi);
+        return medianOfThree(nums, a, b, c);
+    }
+
+    private static int medianOfThree(int[] nums, int a, int b, int c) {
+        if (nums[a] < nums[b]) {
+            if (nums[b] < nums[c]) return b;
+            return (nums[a] < nums[c]) ? c : a;
         }
-        nums[index++] = middleValue;
-        for (int i = 0; i < bigs.length; i++) {
-            nums[index++] = bigs[i];
+        if (nums[a] < nums[c]) return a;
+        return (nums[b] < nums[c]) ? c : b;
+    }
+
+    /** Sorts the small range {@code nums[lo..hi]} (inclusive) by straight insertion. */
+    private static void insertionSort(int[] nums, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            int value = nums[i];
+            int j = i - 1;
+            while (j >= lo && nums[j] > value) {
+                nums[j + 1] = nums[j];
+                j--;
+            }
+            nums[j + 1] = value;
         }
-        return nums;
+    }
+
+    private static void swap(int[] nums, int i, int j) {
+        int temp = nums[i];
+        nums[i] = nums[j];
+        nums[j] = temp;
     }
 
     /**
@@ -301,7 +467,64 @@ public class AlgorithmAPSecond {
      * </ul>
      */
     public static int[] heapSort(int[] nums) {
-        // [Your Implementation Here]
+        return heapSort(nums, 2);
+    }
+
+    /**
+     * < Q25 >
+     * Sort the given array in ascending order using a d-ary max-heap.
+     * <p>
+     * The heap is built bottom-up (Floyd) and every sift-down first walks the hole to a leaf
+     * along the largest children, then moves the value back up (bottom-up heap sort), which
+     * needs about half the comparisons of the textbook sift-down. The {@code arity} children
+     * of node {@code i} sit next to each other at {@code arity*i+1 .. arity*i+arity}; with
+     * {@code arity} 4 or 8 they share one cache line and the heap is 2-3x shallower, which
+     * pays off once the array no longer fits in the L2 cache.
+     * </p>
+     *
+     * @param nums  the array of integers to sort in-place
+     * @param arity number of children per heap node, e.g. 2, 4 or 8
+     * @return the same array, sorted in ascending order
+     * @throws IllegalArgumentException if {@code arity < 2}
+     */
+    public static int[] heapSort(int[] nums, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        int n = nums.length;
+        // 1. heapify (Floyd): sift down every internal node, last one first
+        for (int i = (n - 2) / arity; i >= 0 && n > 1; i--) {
+            siftDown(nums, i, nums[i], n, arity);
+        }
+        // 2. move the max to the end, then restore the heap on the remaining prefix
+        for (int end = n - 1; end > 0; end--) {
+            int value = nums[end];
+            nums[end] = nums[0];
+            siftDown(nums, 0, value, end, arity);
+        }
         return nums;
     }
+
+    /**
+     * Places {@code value} into the hole at {@code hole} of the heap {@code nums[0, n)}:
+     * walks the hole down to a leaf following the largest child, then sifts {@code value} up.
+     */
+    private static void siftDown(int[] nums, int hole, int value, int n, int arity) {
+        int top = hole;
+        int child;
+        while ((child = arity * hole + 1) < n) {
+            int last = Math.min(child + arity, n);
+            int max = child;
+            for (int c = child + 1; c < last; c++) {
+                if (nums[c] > nums[max]) max = c;
+            }
+            nums[hole] = nums[max];
+            hole = max;
+        }
+        while (hole > top) {
+            int parent = (hole - 1) / arity;
+            if (nums[parent] >= value) break;
+            nums[hole] = nums[parent];
+            hole = parent;
+        }
+        nums[hole] = value;
+    }
 }
@@ -62,18 +62,18 @@ public class AlgorithmAPSecondTest {
             AlgorithmAPSecond.selectionSort(new int[]{2, 1}));
     }
 
-    // /**
-    //  * < Q22 >
-    //  * Tests the insertionSort method.
-    //  */
-    // @Test
-    // public void testInsertionSort() {
-    //     assertArrayEquals(new int[]{5, 6, 11, 12, 13}, 
-    //         AlgorithmAPSecond.insertionSort(new int[]{12, 11, 13, 5, 6}));
-
-    //     assertArrayEquals(new int[]{1, 2, 3}, 
-    //         AlgorithmAPSecond.insertionSort(new int[]{1, 2, 3}));
-    // }
+    /**
+     * < Q22 >
+     * Tests the insertionSort method.
+     */
+    @Test
+    public void testInsertionSort() {
+        assertArrayEquals(new int[]{5, 6, 11, 12, 13}, 
+            AlgorithmAPSecond.insertionSort(new int[]{12, 11, 13, 5, 6}));
+
+        assertArrayEquals(new int[]{1, 2, 3}, 
+            AlgorithmAPSecond.insertionSort(new int[]{1, 2, 3}));
+    }
 
     /**
      * < Q23 >
@@ -88,6 +88,29 @@ public class AlgorithmAPSecondTest {
             AlgorithmAPSecond.mergeSort(new int[]{}));
     }
 
+    /**
+     * < Q23 >
+     * Tests the mergeSort(int[], int[]) overload reusing one scratch buffer across calls.
+     */
+    @Test
+    public void testMergeSortReusableBuffer() {
+        Random random = new Random(3);
+        int[] buffer = new int[10_000];
+        for (int trial = 0; trial < 200; trial++) {
+            int n = random.nextInt(buffer.length + 1);
+            int[] input = random.ints(n, 0, 1 + random.nextInt(n + 1)).toArray();
+            if (trial % 4 == 1) Arrays.sort(input); // presorted
+            if (trial % 4 == 2) Arrays.sort(input, 0, n / 2); // half presorted
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            assertSame(input, AlgorithmAPSecond.mergeSort(input, buffer));
+            assertArrayEquals(expected, input);
+        }
+
+        assertThrows(IllegalArgumentException.class,
+            () -> AlgorithmAPSecond.mergeSort(new int[]{2, 1}, new int[1]));
+    }
+
     /**
      * < Q24 >
      * Tests the quickSort method.
@@ -101,18 +124,67 @@ public class AlgorithmAPSecondTest {
             AlgorithmAPSecond.quickSort(new int[]{}));
     }
 
-    // /**
-    //  * < Q25 >
-    //  * Tests the heapSort method.
-    //  */
-    // @Test
-    // public void testHeapSort() {
-    //     assertArrayEquals(new int[]{5, 6, 7, 11, 12, 13}, 
-    //         AlgorithmAPSecond.heapSort(new int[]{12, 11, 13, 5, 6, 7}));
+    /**
+     * < Q24 >
+     * Tests the quickSort method on large sorted, reversed, duplicate-heavy and random inputs
+     * (deep recursion on sorted input used to overflow the stack).
+     */
+    @Test
+    public void testQuickSortLargeInputs() {
+        final int n = 1_000_000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - 1 - i;
+        }
+        int[] fewUnique = new Random(1).ints(n, 0, 4).toArray();
+        int[] random = new Random(2).ints(n).toArray();
+
+        for (int[] input : new int[][]{sorted, reversed, fewUnique, random}) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            int[] actual = input.clone();
+            assertSame(actual, AlgorithmAPSecond.quickSort(actual));
+            assertArrayEquals(expected, actual);
+        }
+    }
 
-    //     assertArrayEquals(new int[]{}, 
-    //         AlgorithmAPSecond.heapSort(new int[]{}));
-    // }
+    /**
+     * < Q25 >
+     * Tests the heapSort method.
+     */
+    @Test
+    public void testHeapSort() {
+        assertArrayEquals(new int[]{5, 6, 7, 11, 12, 13}, 
+            AlgorithmAPSecond.heapSort(new int[]{12, 11, 13, 5, 6, 7}));
+
+        assertArrayEquals(new int[]{}, 
+            AlgorithmAPSecond.heapSort(new int[]{}));
+    }
+
+    /**
+     * < Q22, Q25 >
+     * Tests insertionSort and the d-ary heapSort(int[], int) on random, presorted and reversed inputs.
+     */
+    @Test
+    public void testInsertionAndHeapSortRandomized() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 300; trial++) {
+            int n = random.nextInt(2_000);
+            int[] input = random.ints(n, 0, 1 + random.nextInt(n + 1)).toArray();
+            if (trial % 3 == 1) Arrays.sort(input);
+            if (trial % 3 == 2) for (int i = 0; i < n / 2; i++) { int t = input[i]; input[i] = input[n - 1 - i]; input[n - 1 - i] = t; }
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+
+            assertArrayEquals(expected, AlgorithmAPSecond.insertionSort(input.clone()));
+            for (int arity : new int[]{2, 3, 4, 8}) {
+                assertArrayEquals(expected, AlgorithmAPSecond.heapSort(input.clone(), arity), "arity " + arity);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> AlgorithmAPSecond.heapSort(new int[]{1}, 1));
+    }
 
     /**
      * < Special >
@@ -140,12 +212,12 @@ public class AlgorithmAPSecondTest {
         // on large n, each O(n²) should be noticeably slower than each O(n log n)
         assertTrue(tBubble > tQuick, String.format("bubble (%d ms) should be slower than quick (%d ms)", tBubble, tQuick));
         assertTrue(tBubble > tMerge, String.format("bubble (%d ms) should be slower than merge (%d ms)", tBubble, tMerge));
-        // assertTrue(tBubble > tHeap, String.format("bubble (%d ms) should be slower than heap (%d ms)", tBubble, tHeap));
+        assertTrue(tBubble > tHeap, String.format("bubble (%d ms) should be slower than heap (%d ms)", tBubble, tHeap));
 
         // selection vs O(n log n)
         assertTrue(tSelection > tQuick, String.format("selection (%d ms) should be slower than quick (%d ms)", tSelection, tQuick));
         assertTrue(tSelection > tMerge, String.format("selection (%d ms) should be slower than merge (%d ms)", tSelection, tMerge));
-        // assertTrue(tSelection > tHeap, String.format("selection (%d ms) should be slower than heap (%d ms)", tSelection, tHeap));
+        assertTrue(tSelection > tHeap, String.format("selection (%d ms) should be slower than heap (%d ms)", tSelection, tHeap));
         // insertion vs O(n log n)
         // assertTrue(tInsertion > tQuick, String.format("insertion (%d ms) should be slower than quick (%d ms)", tInsertion, tQuick));
         // assertTrue(tInsertion > tMerge, String.format("insertion (%d ms) should be slower than merge (%d ms)", tInsertion, tMerge));
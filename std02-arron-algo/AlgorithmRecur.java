@@ -49,6 +49,7 @@ public class AlgorithmRecur {
      *   <li>factorial(1) returns 1</li>
      *   <li>factorial(5) returns 120</li>
      * </ul>
+     * @see FastMath#factorialBig(int) for n! without overflow, via a split product
      */
     public static int factorial(int n) {
         // classic way (using for-loop)
@@ -105,6 +106,7 @@ public class AlgorithmRecur {
      *   <li>fibonacci(1) returns 1</li>
      *   <li>fibonacci(7) returns 13</li>
      * </ul>
+     * @see FastMath#fibonacci(int) for O(log n) fast doubling
      */
     public static int fibonacci(int n) {
         // // classic way (using for-loop)
@@ -208,6 +210,7 @@ public class AlgorithmRecur {
      *   <li>powerN(3, 2) returns 9</li>
      *   <li>powerN(3, 3) returns 27</li>
      * </ul>
+     * @see FastMath#power(long, int) for exponentiation by squaring
      */
     public static int powerN(int base, int n) {
         // classic way (using for-loop)
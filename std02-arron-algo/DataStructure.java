@@ -260,6 +260,8 @@ class ArrayListX extends Object {
 
 
 
+// add() scans the whole array through contains(), so n adds cost O(n^2);
+// DoubleHashSet.java is the O(1) hash-based version of this set.
 class ArraySet extends ArrayListX {
     public ArraySet() {
         super();
@@ -0,0 +1,193 @@
+/**
+ * The DoubleHashSet class is a set of primitive {@code double} values with O(1) expected
+ * {@code add}, {@code contains} and {@code remove}, and the same API as {@code ArraySet}
+ * in DataStructure.java.
+ * <p>
+ * Each value is stored as its {@link Double#doubleToLongBits(double)} pattern in a
+ * {@link LongHashSet}, which gives the same equality as {@link Double#equals(Object)}
+ * (and {@code HashSet<Double>}):
+ * </p>
+ * <ul>
+ *   <li>every {@code NaN} is the same key, so a set holds at most one {@code NaN}
+ *       ({@code ArraySet} compares with {@code ==} and adds a new {@code NaN} every time)</li>
+ *   <li>{@code -0.0} and {@code 0.0} are different keys
+ *       ({@code ArraySet} treats them as one)</li>
+ * </ul>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac std02-arron-algo/DoubleHashSet.java std02-arron-algo/LongHashSet.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std02-arron-algo DoubleHashSet; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+import java.util.Random;
+import java.util.function.DoubleConsumer;
+
+
+public class DoubleHashSet {
+    /** the bit patterns of the values */
+    private final LongHashSet bits;
+
+    /**
+     * Example main for demonstration: dedupe one million readings with 1,000 distinct values.
+     */
+    public static void main(String[] args) {
+        Random random = new Random(0);
+        DoubleHashSet readings = new DoubleHashSet();
+        long start = System.nanoTime();
+        for (int i = 0; i < 1_000_000; i++) {
+            readings.add(random.nextInt(1_000) / 10.0);
+        }
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(String.format("%d distinct readings (%d ms)", readings.size(), elapsed));
+
+        DoubleHashSet set = new DoubleHashSet();
+        set.add(Double.NaN);
+        set.add(Double.NaN);
+        set.add(0.0);
+        set.add(-0.0);
+        System.out.println(set); // one NaN, both zeros
+    }
+
+
+
+
+    /**
+     * Constructs an empty set sized for 16 values with the default load factor.
+     */
+    public DoubleHashSet() {
+        this.bits = new LongHashSet();
+    }
+
+    /**
+     * Constructs an empty set that holds {@code expectedSize} values without rehashing.
+     *
+     * @param expectedSize number of values the set is expected to hold
+     * @param loadFactor   largest fraction of the table that may be occupied, in {@code (0, 1)}
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or the load factor is not in {@code (0, 1)}
+     */
+    public DoubleHashSet(int expectedSize, float loadFactor) {
+        this.bits = new LongHashSet(expectedSize, loadFactor);
+    }
+
+    private DoubleHashSet(LongHashSet bits) {
+        this.bits = bits;
+    }
+
+
+
+
+    public int size() { return bits.size(); }
+    public boolean isEmpty() { return bits.isEmpty(); }
+
+    /**
+     * Adds {@code element} to the set.
+     *
+     * @param element the value to add
+     * @return {@code true} if the set did not contain {@code element} before
+     */
+    public boolean add(double element) {
+        return bits.add(Double.doubleToLongBits(element));
+    }
+
+    /**
+     * Returns {@code true} if {@code element} is in the set.
+     *
+     * @param element the value to look up
+     * @return {@code true} if the set contains {@code element}
+     */
+    public boolean contains(double element) {
+        return bits.contains(Double.doubleToLongBits(element));
+    }
+
+    /**
+     * Removes {@code element} from the set.
+     *
+     * @param element the value to remove
+     * @return {@code true} if the set contained {@code element}
+     */
+    public boolean remove(double element) {
+        return bits.remove(Double.doubleToLongBits(element));
+    }
+
+    /**
+     * Removes all values. The table keeps its capacity.
+     */
+    public void clear() {
+        bits.clear();
+    }
+
+    /**
+     * Performs the given action for each value, in table order (not insertion order).
+     *
+     * @param action the action to be performed for each value
+     */
+    public void forEach(DoubleConsumer action) {
+        bits.forEach(key -> action.accept(Double.longBitsToDouble(key)));
+    }
+
+    /**
+     * Returns the values in table order.
+     *
+     * @return a new array of length {@link #size()}
+     */
+    public double[] toArray() {
+        long[] keys = bits.toArray();
+        double[] result = new double[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = Double.longBitsToDouble(keys[i]);
+        }
+        return result;
+    }
+
+
+
+
+    /**
+     * Returns a new set with the values that are in this set or in {@code other}.
+     *
+     * @param other the second operand
+     * @return a new set; neither operand is modified
+     */
+    public DoubleHashSet union(DoubleHashSet other) {
+        return new DoubleHashSet(bits.union(other.bits));
+    }
+
+    /**
+     * Returns a new set with the values that are in both this set and {@code other}.
+     *
+     * @param other the second operand
+     * @return a new set; neither operand is modified
+     */
+    public DoubleHashSet intersection(DoubleHashSet other) {
+        return new DoubleHashSet(bits.intersection(other.bits));
+    }
+
+    /**
+     * Returns a new set with the values of this set that are not in {@code other}.
+     *
+     * @param other the set of values to leave out
+     * @return a new set; neither operand is modified
+     */
+    public DoubleHashSet difference(DoubleHashSet other) {
+        return new DoubleHashSet(bits.difference(other.bits));
+    }
+
+
+
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach(value -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,84 @@
+// File: DoubleHashSetTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The DoubleHashSetTest class provides JUnit tests for the DoubleHashSet class.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -cp junit-1.9.3.jar std02-arron-algo/DoubleHashSet*.java std02-arron-algo/LongHashSet.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std02-arron-algo --scan-classpath; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+public class DoubleHashSetTest {
+
+    /**
+     * Tests that NaN is stored once and -0.0 and 0.0 are distinct, like HashSet&lt;Double&gt;.
+     */
+    @Test
+    public void testNaNAndSignedZero() {
+        DoubleHashSet set = new DoubleHashSet();
+        assertTrue(set.add(Double.NaN));
+        assertFalse(set.add(Double.NaN), "A second NaN should be a duplicate");
+        assertFalse(set.add(Double.longBitsToDouble(0x7ff8000000000001L)), "Every NaN should be the same key");
+        assertTrue(set.contains(0.0 / 0.0));
+        assertTrue(set.add(0.0));
+        assertTrue(set.add(-0.0), "-0.0 should be distinct from 0.0");
+        assertEquals(3, set.size());
+
+        assertTrue(set.remove(-0.0));
+        assertTrue(set.contains(0.0));
+        assertFalse(set.contains(-0.0));
+        assertTrue(set.remove(Double.NaN));
+        assertEquals("{0.0}", set.toString());
+    }
+
+    /**
+     * Tests deduplicating one million readings against HashSet&lt;Double&gt;.
+     */
+    @Test
+    public void testDedupe() {
+        Random random = new Random(8);
+        DoubleHashSet set = new DoubleHashSet(0, 0.75f);
+        Set<Double> expected = new HashSet<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            double reading = random.nextInt(100_000) / 8.0 - 5_000;
+            assertEquals(expected.add(reading), set.add(reading));
+        }
+        assertEquals(expected.size(), set.size());
+        double[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(expected.stream().mapToDouble(Double::doubleValue).sorted().toArray(), values);
+    }
+
+    /**
+     * Tests union, intersection and difference.
+     */
+    @Test
+    public void testSetOperations() {
+        DoubleHashSet a = new DoubleHashSet();
+        DoubleHashSet b = new DoubleHashSet();
+        for (double value : new double[]{1.5, 2.5, Double.NaN, -0.0}) a.add(value);
+        for (double value : new double[]{2.5, 3.5, Double.NaN, 0.0}) b.add(value);
+
+        assertEquals(6, a.union(b).size());
+        double[] common = a.intersection(b).toArray();
+        Arrays.sort(common);
+        assertArrayEquals(new double[]{2.5, Double.NaN}, common);
+        double[] onlyA = a.difference(b).toArray();
+        Arrays.sort(onlyA);
+        assertArrayEquals(new double[]{-0.0, 1.5}, onlyA);
+    }
+}
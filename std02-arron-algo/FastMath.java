@@ -0,0 +1,279 @@
+/**
+ * The FastMath class computes the functions of {@link AlgorithmRecur} (fibonacci, powerN,
+ * factorial) with logarithmic-depth algorithms instead of the textbook recursions.
+ * <p>
+ * The recursive {@code fibonacci} makes O(phi<sup>n</sup>) calls (fibonacci(45) takes seconds),
+ * {@code powerN} does n multiplications, and {@code factorial} silently overflows an {@code int}
+ * at 13!. Here:
+ * </p>
+ * <ul>
+ *   <li>fibonacci uses fast doubling, F(2k) = F(k)(2F(k+1) - F(k)) and
+ *       F(2k+1) = F(k)<sup>2</sup> + F(k+1)<sup>2</sup>: O(log n) steps</li>
+ *   <li>power uses exponentiation by squaring: O(log n) multiplications</li>
+ *   <li>factorial multiplies the odd parts of 2..n as a balanced product tree (so the big
+ *       multiplications get operands of similar size, where Karatsuba and Toom-Cook pay off)
+ *       and adds the factors of two with one shift</li>
+ * </ul>
+ * <p>
+ * The {@code long} variants throw {@link ArithmeticException} instead of overflowing;
+ * the {@code BigInteger} variants are exact for any n. A {@link Memo} caches results
+ * for repeated queries and can be shared between threads.
+ * </p>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac std02-arron-algo/FastMath.java std02-arron-algo/AlgorithmRecur.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std02-arron-algo FastMath; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+
+public class FastMath {
+    /** largest n with F(n) <= Long.MAX_VALUE */
+    static final int MAX_LONG_FIBONACCI = 92;
+    /** largest n with n! <= Long.MAX_VALUE */
+    static final int MAX_LONG_FACTORIAL = 20;
+    // Ranges of at most this many factors are multiplied in a loop instead of split further.
+    private static final int PRODUCT_LEAF = 16;
+
+    /**
+     * Example main for demonstration.
+     */
+    public static void main(String[] args) {
+        System.out.println("fibonacci(90) = " + fibonacci(90));
+        System.out.println("power(3, 39) = " + power(3, 39));
+        System.out.println("factorial(20) = " + factorial(20));
+        for (int n : new int[] {1_000, 100_000, 1_000_000}) {
+            long start = System.nanoTime();
+            int fibonacciBits = fibonacciBig(n).bitLength();
+            long fibonacciTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            int factorialBits = factorialBig(n).bitLength();
+            long factorialTime = System.nanoTime() - start;
+            System.out.println(String.format("n = %,d: F(n) has %,d bits (%d ms), n! has %,d bits (%d ms)",
+                n, fibonacciBits, fibonacciTime / 1_000_000, factorialBits, factorialTime / 1_000_000));
+        }
+    }
+
+
+
+
+    /**
+     * Computes the nth Fibonacci number by fast doubling.
+     *
+     * @param n the position in the Fibonacci sequence, from 0 to {@value #MAX_LONG_FIBONACCI}
+     * @return F(n)
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws ArithmeticException      if F(n) does not fit in a {@code long}
+     */
+    public static long fibonacci(int n) {
+        checkNonNegative(n);
+        if (n > MAX_LONG_FIBONACCI) throw new ArithmeticException("fibonacci(" + n + ") overflows long");
+        long a = 0; // F(k)
+        long b = 1; // F(k + 1)
+        for (int bit = 31 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            // F(2k + 1) or F(2k + 2) of the last step may wrap around, but then it is not the result
+            long c = a * (2 * b - a); // F(2k)
+            long d = a * a + b * b;   // F(2k + 1)
+            if (((n >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c + d;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Computes the nth Fibonacci number exactly by fast doubling: about log2(n) steps of
+     * three multiplications each, the last ones on numbers of 0.69n bits.
+     *
+     * @param n the position in the Fibonacci sequence, starting from 0
+     * @return F(n)
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static BigInteger fibonacciBig(int n) {
+        checkNonNegative(n);
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = 31 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+            BigInteger d = a.multiply(a).add(b.multiply(b));
+            if (((n >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c.add(d);
+            }
+        }
+        return a;
+    }
+
+
+
+
+    /**
+     * Computes {@code base} raised to the power {@code n} by squaring.
+     *
+     * @param base the base
+     * @param n    the exponent, 0 or more
+     * @return base<sup>n</sup>
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws ArithmeticException      if the result does not fit in a {@code long}
+     */
+    public static long power(long base, int n) {
+        checkNonNegative(n);
+        long result = 1;
+        while (true) {
+            if ((n & 1) != 0) result = Math.multiplyExact(result, base);
+            n >>>= 1;
+            if (n == 0) return result;
+            base = Math.multiplyExact(base, base);
+        }
+    }
+
+    /**
+     * Computes {@code base} raised to the power {@code n} exactly.
+     * {@link BigInteger#pow} already squares (and shifts out the factors of two of
+     * {@code base} first), so this only checks the exponent.
+     *
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static BigInteger power(BigInteger base, int n) {
+        checkNonNegative(n);
+        return base.pow(n);
+    }
+
+
+
+
+    /**
+     * Computes n! with overflow checking.
+     *
+     * @param n from 0 to {@value #MAX_LONG_FACTORIAL}
+     * @return n!
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws ArithmeticException      if n! does not fit in a {@code long}
+     */
+    public static long factorial(int n) {
+        checkNonNegative(n);
+        if (n > MAX_LONG_FACTORIAL) throw new ArithmeticException("factorial(" + n + ") overflows long");
+        long result = 1;
+        for (int k = 2; k <= n; k++) result *= k;
+        return result;
+    }
+
+    /**
+     * Computes n! exactly as (product of the odd parts of 2..n) * 2<sup>n - bitCount(n)</sup>.
+     * The product is split in halves recursively, so the final multiplications are of two
+     * halves of similar size instead of one huge number by one small factor n times.
+     *
+     * @param n the non-negative integer
+     * @return n!
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static BigInteger factorialBig(int n) {
+        checkNonNegative(n);
+        return productRange(1, n);
+    }
+
+    /** Returns from * (from + 1) * ... * to, or 1 if the range is empty. */
+    private static BigInteger productRange(int from, int to) {
+        if (from > to) return BigInteger.ONE;
+        return oddProduct(from, to).shiftLeft(twos(to) - twos(from - 1));
+    }
+
+    /** Number of factors of two in k!. */
+    private static int twos(int k) {
+        return k - Integer.bitCount(k);
+    }
+
+    /** Returns the product of the odd parts (k without its factors of two) of every k in [from, to]. */
+    private static BigInteger oddProduct(int from, int to) {
+        if (to - from < PRODUCT_LEAF) {
+            BigInteger result = BigInteger.ONE;
+            long partial = 1;
+            for (int k = from; k <= to; k++) {
+                long odd = k >>> Integer.numberOfTrailingZeros(k);
+                if (partial > Long.MAX_VALUE / odd) {
+                    result = result.multiply(BigInteger.valueOf(partial));
+                    partial = 1;
+                }
+                partial *= odd;
+            }
+            return result.multiply(BigInteger.valueOf(partial));
+        }
+        int mid = (from + to) >>> 1;
+        return oddProduct(from, mid).multiply(oddProduct(mid + 1, to));
+    }
+
+
+
+
+    /**
+     * A cache of exact Fibonacci numbers and factorials that any number of threads may query.
+     * <p>
+     * Values are computed outside the maps and published with {@code putIfAbsent}, so a slow
+     * computation never blocks other keys (as {@code computeIfAbsent} would block its bin);
+     * two threads asking for the same new key may both compute it, and one result is kept.
+     * A factorial query continues from the largest cached smaller factorial.
+     * Entries are only dropped by {@link #clear()}; F(10<sup>6</sup>) alone takes 87 KB.
+     * </p>
+     */
+    public static final class Memo {
+        private final Map<Integer, BigInteger> fibonacci = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<Integer, BigInteger> factorial = new ConcurrentSkipListMap<>();
+
+        /**
+         * @throws IllegalArgumentException if {@code n} is negative
+         */
+        public BigInteger fibonacci(int n) {
+            BigInteger cached = fibonacci.get(n);
+            if (cached != null) return cached;
+            BigInteger value = fibonacciBig(n);
+            BigInteger raced = fibonacci.putIfAbsent(n, value);
+            return (raced != null) ? raced : value;
+        }
+
+        /**
+         * @throws IllegalArgumentException if {@code n} is negative
+         */
+        public BigInteger factorial(int n) {
+            checkNonNegative(n);
+            Map.Entry<Integer, BigInteger> floor = factorial.floorEntry(n);
+            if (floor != null && floor.getKey() == n) return floor.getValue();
+            BigInteger value = (floor == null)
+                ? factorialBig(n)
+                : floor.getValue().multiply(productRange(floor.getKey() + 1, n));
+            BigInteger raced = factorial.putIfAbsent(n, value);
+            return (raced != null) ? raced : value;
+        }
+
+        /** @return the number of cached values */
+        public int size() {
+            return fibonacci.size() + factorial.size();
+        }
+
+        /** Drops all cached values. */
+        public void clear() {
+            fibonacci.clear();
+            factorial.clear();
+        }
+    }
+
+    private static void checkNonNegative(int n) {
+        if (n < 0) throw new IllegalArgumentException("n must not be negative: " + n);
+    }
+}
@@ -0,0 +1,129 @@
+// File: FastMathTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The FastMathTest class provides JUnit tests for the FastMath class,
+ * checked against plain loops and the recursive methods of AlgorithmRecur.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -cp junit-1.9.3.jar std02-arron-algo/FastMath*.java std02-arron-algo/AlgorithmRecur.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std02-arron-algo --scan-classpath; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+public class FastMathTest {
+
+    /**
+     * Tests both fibonacci variants against a loop, the long variant over its whole range.
+     */
+    @Test
+    public void testFibonacci() {
+        BigInteger previous = BigInteger.ONE; // F(-1)
+        BigInteger current = BigInteger.ZERO;
+        for (int n = 0; n <= 2_000; n++) {
+            assertEquals(current, FastMath.fibonacciBig(n), "F(" + n + ")");
+            if (n <= FastMath.MAX_LONG_FIBONACCI) assertEquals(current.longValueExact(), FastMath.fibonacci(n), "F(" + n + ")");
+            BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        for (int n = 0; n < 25; n++) assertEquals(AlgorithmRecur.fibonacci(n), FastMath.fibonacci(n));
+
+        assertThrows(ArithmeticException.class, () -> FastMath.fibonacci(93));
+        assertThrows(IllegalArgumentException.class, () -> FastMath.fibonacci(-1));
+        // F(2n) = F(n) * (F(n - 1) + F(n + 1)) far beyond the loop
+        int n = 300_000;
+        assertEquals(FastMath.fibonacciBig(n).multiply(FastMath.fibonacciBig(n - 1).add(FastMath.fibonacciBig(n + 1))),
+            FastMath.fibonacciBig(2 * n));
+    }
+
+    /**
+     * Tests power by squaring against repeated multiplication, including overflow.
+     */
+    @Test
+    public void testPower() {
+        for (long base = -5; base <= 5; base++) {
+            long expected = 1;
+            for (int n = 0; n <= 20; n++) {
+                assertEquals(expected, FastMath.power(base, n), base + "^" + n);
+                assertEquals(BigInteger.valueOf(expected), FastMath.power(BigInteger.valueOf(base), n));
+                expected *= base;
+            }
+        }
+        assertEquals(AlgorithmRecur.powerN(3, 19), FastMath.power(3, 19));
+        assertEquals(Long.MIN_VALUE, FastMath.power(-2, 63));
+        assertThrows(ArithmeticException.class, () -> FastMath.power(2, 63));
+        assertThrows(ArithmeticException.class, () -> FastMath.power(3, 40));
+        assertThrows(IllegalArgumentException.class, () -> FastMath.power(2, -1));
+    }
+
+    /**
+     * Tests both factorial variants against a loop, including overflow.
+     */
+    @Test
+    public void testFactorial() {
+        BigInteger expected = BigInteger.ONE;
+        for (int n = 0; n <= 1_500; n++) {
+            if (n > 0) expected = expected.multiply(BigInteger.valueOf(n));
+            assertEquals(expected, FastMath.factorialBig(n), n + "!");
+            if (n <= FastMath.MAX_LONG_FACTORIAL) assertEquals(expected.longValueExact(), FastMath.factorial(n), n + "!");
+        }
+        for (int n = 0; n < 13; n++) assertEquals(AlgorithmRecur.factorial(n), FastMath.factorial(n));
+        assertThrows(ArithmeticException.class, () -> FastMath.factorial(21));
+        assertThrows(IllegalArgumentException.class, () -> FastMath.factorialBig(-1));
+    }
+
+    /**
+     * Tests the memo from several threads, and that factorials continue from cached ones.
+     */
+    @Test
+    public void testMemo() throws Exception {
+        FastMath.Memo memo = new FastMath.Memo();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BigInteger[]>> futures = new ArrayList<>();
+            for (int task = 0; task < 16; task++) {
+                int offset = task;
+                futures.add(pool.submit(() -> {
+                    BigInteger[] values = new BigInteger[200];
+                    for (int i = 0; i < 100; i++) {
+                        int n = (i * 7 + offset) % 100 * 20;
+                        values[2 * i] = memo.fibonacci(n);
+                        values[2 * i + 1] = memo.factorial(n);
+                    }
+                    return values;
+                }));
+            }
+            for (int task = 0; task < futures.size(); task++) {
+                BigInteger[] values = futures.get(task).get();
+                for (int i = 0; i < 100; i++) {
+                    int n = (i * 7 + task) % 100 * 20;
+                    assertEquals(FastMath.fibonacciBig(n), values[2 * i]);
+                    assertEquals(FastMath.factorialBig(n), values[2 * i + 1]);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(200, memo.size());
+        assertSame(memo.factorial(500), memo.factorial(500));
+        assertEquals(FastMath.factorialBig(1_234), memo.factorial(1_234));
+        memo.clear();
+        assertEquals(0, memo.size());
+        assertThrows(IllegalArgumentException.class, () -> memo.factorial(-3));
+    }
+}
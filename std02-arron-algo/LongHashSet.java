@@ -0,0 +1,355 @@
+/**
+ * The LongHashSet class is a set of primitive {@code long} values backed by an
+ * open-addressing hash table with linear probing.
+ * <p>
+ * Unlike {@code ArraySet} in DataStructure.java, whose {@code add} scans the whole array
+ * through {@code contains}, membership here costs one hash and (on average) a couple of
+ * probes into a single {@code long[]}, so building a set of n values is O(n) instead of
+ * O(n^2). Nothing is boxed. Removal uses backward-shift deletion, so the table never fills
+ * up with tombstones. The key {@code 0} marks an empty slot and is tracked by a separate flag.
+ * </p>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac std02-arron-algo/LongHashSet.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std02-arron-algo LongHashSet; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+
+public class LongHashSet {
+    /** load factor of a set created without one */
+    public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** slots of the hash table; {@code 0} means empty, the key 0 itself lives in {@link #containsZero} */
+    private long[] keys;
+    /** {@code keys.length - 1}; the table length is always a power of two */
+    private int mask;
+    /** whether the key 0 is in the set */
+    private boolean containsZero;
+    /** number of keys in the set, including the key 0 */
+    private int size;
+    /** number of occupied table slots at which the table is doubled */
+    private int maxFill;
+    private final float loadFactor;
+
+    /**
+     * Example main for demonstration.
+     */
+    public static void main(String[] args) {
+        LongHashSet a = new LongHashSet();
+        LongHashSet b = new LongHashSet();
+        for (long i = 0; i < 10; i++) {
+            a.add(i);
+            b.add(i * 2);
+        }
+        System.out.println(a.add(3)); // false, already present
+        System.out.println(a.union(b));
+        System.out.println(a.intersection(b));
+        System.out.println(a.difference(b));
+    }
+
+
+
+
+    /**
+     * Constructs an empty set sized for 16 keys with the default load factor.
+     */
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty set that holds {@code expectedSize} keys without rehashing.
+     *
+     * @param expectedSize number of keys the set is expected to hold
+     */
+    public LongHashSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs an empty set that holds {@code expectedSize} keys without rehashing.
+     * <p>
+     * A lower load factor means shorter probe sequences and more memory; with linear
+     * probing the expected probe count grows quickly above roughly 0.7.
+     * </p>
+     *
+     * @param expectedSize number of keys the set is expected to hold
+     * @param loadFactor   largest fraction of the table that may be occupied, in {@code (0, 1)}
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or the load factor is not in {@code (0, 1)}
+     */
+    public LongHashSet(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be in (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * Returns a copy of {@code other}, sharing no state with it.
+     *
+     * @param other the set to copy
+     */
+    public LongHashSet(LongHashSet other) {
+        this.loadFactor = other.loadFactor;
+        this.keys = other.keys.clone();
+        this.mask = other.mask;
+        this.containsZero = other.containsZero;
+        this.size = other.size;
+        this.maxFill = other.maxFill;
+    }
+
+
+
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Adds {@code key} to the set.
+     *
+     * @param key the value to add
+     * @return {@code true} if the set did not contain {@code key} before
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int pos = slot(key);
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return false;
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        size++;
+        if (size - (containsZero ? 1 : 0) > maxFill) rehash(keys.length * 2);
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code key} is in the set.
+     *
+     * @param key the value to look up
+     * @return {@code true} if the set contains {@code key}
+     */
+    public boolean contains(long key) {
+        if (key == 0) return containsZero;
+        int pos = slot(key);
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return true;
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes {@code key} from the set.
+     *
+     * @param key the value to remove
+     * @return {@code true} if the set contained {@code key}
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int pos = slot(key);
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                shiftKeys(pos);
+                size--;
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all keys. The table keeps its capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each key, in table order (not insertion order).
+     *
+     * @param action the action to be performed for each key
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) action.accept(0L);
+        for (long key : keys) {
+            if (key != 0) action.accept(key);
+        }
+    }
+
+    /**
+     * Returns the keys in table order.
+     *
+     * @return a new array of length {@link #size()}
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int index = 0;
+        if (containsZero) result[index++] = 0L;
+        for (long key : keys) {
+            if (key != 0) result[index++] = key;
+        }
+        return result;
+    }
+
+
+
+
+    /**
+     * Returns a new set with the keys that are in this set or in {@code other}.
+     * Runs in O(capacity of this + size of other).
+     *
+     * @param other the second operand
+     * @return a new set; neither operand is modified
+     */
+    public LongHashSet union(LongHashSet other) {
+        LongHashSet result = new LongHashSet(this);
+        result.ensureCapacity(size + other.size);
+        other.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Returns a new set with the keys that are in both this set and {@code other}.
+     * Walks the smaller set and probes the larger one.
+     *
+     * @param other the second operand
+     * @return a new set; neither operand is modified
+     */
+    public LongHashSet intersection(LongHashSet other) {
+        LongHashSet smaller = (size <= other.size) ? this : other;
+        LongHashSet larger = (smaller == this) ? other : this;
+        LongHashSet result = new LongHashSet(smaller.size, loadFactor);
+        smaller.forEach(key -> {
+            if (larger.contains(key)) result.add(key);
+        });
+        return result;
+    }
+
+    /**
+     * Returns a new set with the keys of this set that are not in {@code other}.
+     *
+     * @param other the set of keys to leave out
+     * @return a new set; neither operand is modified
+     */
+    public LongHashSet difference(LongHashSet other) {
+        LongHashSet result = new LongHashSet(size, loadFactor);
+        forEach(key -> {
+            if (!other.contains(key)) result.add(key);
+        });
+        return result;
+    }
+
+    /**
+     * Grows the table, if necessary, so that {@code expectedSize} keys fit without rehashing.
+     *
+     * @param expectedSize number of keys the set is expected to hold
+     */
+    public void ensureCapacity(int expectedSize) {
+        int needed = tableSize(expectedSize, loadFactor);
+        if (needed > keys.length) rehash(needed);
+    }
+
+
+
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach(key -> {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(key);
+        });
+        return sb.append('}').toString();
+    }
+
+    /** Home slot of a non-zero key: a multiplicative (Fibonacci) hash spreads clustered keys. */
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Empties slot {@code pos} and moves later keys of the same cluster back into it
+     * when the gap lies between their home slot and their current slot.
+     */
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            long current;
+            while (true) {
+                pos = (pos + 1) & mask;
+                current = keys[pos];
+                if (current == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int home = slot(current);
+                // the key may move to `last` unless its home lies cyclically in (last, pos]
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) break;
+            }
+            keys[last] = current;
+        }
+    }
+
+    private void rehash(int newLength) {
+        if (newLength <= 0 || newLength > MAX_CAPACITY) {
+            throw new IllegalStateException("LongHashSet is full: " + size + " keys");
+        }
+        long[] old = keys;
+        allocate(newLength);
+        for (long key : old) {
+            if (key == 0) continue;
+            int pos = slot(key);
+            while (keys[pos] != 0) pos = (pos + 1) & mask;
+            keys[pos] = key;
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new long[length];
+        mask = length - 1;
+        // even one key past maxFill leaves a free slot, so every probe loop terminates
+        maxFill = Math.min(length - 2, (int) Math.ceil(length * (double) loadFactor));
+    }
+
+    /** Smallest power-of-two table length holding {@code expectedSize} keys below the load factor. */
+    private static int tableSize(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many keys for one table: " + expectedSize);
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+}
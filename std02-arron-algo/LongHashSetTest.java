@@ -0,0 +1,102 @@
+// File: LongHashSetTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The LongHashSetTest class provides JUnit tests for the LongHashSet class,
+ * checked against {@link HashSet}.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -cp junit-1.9.3.jar std02-arron-algo/LongHashSet*.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std02-arron-algo --scan-classpath; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+public class LongHashSetTest {
+
+    /**
+     * Tests random add/contains/remove sequences (0 and negative keys included) against HashSet,
+     * for several load factors.
+     */
+    @Test
+    public void testAgainstHashSet() {
+        Random random = new Random(21);
+        for (float loadFactor : new float[]{0.25f, 0.5f, 0.75f, 0.95f}) {
+            LongHashSet set = new LongHashSet(0, loadFactor);
+            Set<Long> expected = new HashSet<>();
+            for (int step = 0; step < 200_000; step++) {
+                long key = random.nextInt(5_000) - 2_500; // small range: many hits, long clusters
+                switch (random.nextInt(3)) {
+                    case 0:  assertEquals(expected.add(key), set.add(key), "add " + key); break;
+                    case 1:  assertEquals(expected.remove(key), set.remove(key), "remove " + key); break;
+                    default: assertEquals(expected.contains(key), set.contains(key), "contains " + key); break;
+                }
+                assertEquals(expected.size(), set.size());
+            }
+            for (long key = -2_500; key < 2_500; key++) {
+                assertEquals(expected.contains(key), set.contains(key), "final contains " + key);
+            }
+        }
+    }
+
+    /**
+     * Tests union, intersection and difference.
+     */
+    @Test
+    public void testSetOperations() {
+        LongHashSet a = new LongHashSet();
+        LongHashSet b = new LongHashSet();
+        for (long key : new long[]{0, 1, 2, 3, Long.MIN_VALUE}) a.add(key);
+        for (long key : new long[]{2, 3, 4, Long.MAX_VALUE}) b.add(key);
+
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 0, 1, 2, 3, 4, Long.MAX_VALUE}, sorted(a.union(b)));
+        assertArrayEquals(new long[]{2, 3}, sorted(a.intersection(b)));
+        assertArrayEquals(new long[]{2, 3}, sorted(b.intersection(a)));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 0, 1}, sorted(a.difference(b)));
+        assertArrayEquals(new long[]{4, Long.MAX_VALUE}, sorted(b.difference(a)));
+        assertEquals(5, a.size(), "Operands should not change");
+        assertEquals("{}", new LongHashSet().toString());
+        assertEquals("{0, 1}", sub(1, 0).toString(), "0 is listed first, then table order");
+    }
+
+    /**
+     * Tests the constructor argument checks and clear().
+     */
+    @Test
+    public void testConstructorAndClear() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, 1f));
+
+        LongHashSet set = new LongHashSet(1);
+        for (long key = 0; key < 1_000; key++) set.add(key << 32); // only high bits differ
+        assertEquals(1_000, set.size());
+        assertTrue(set.contains(999L << 32));
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+    }
+
+    private static long[] sorted(LongHashSet set) {
+        long[] keys = set.toArray();
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private static LongHashSet sub(long... keys) {
+        LongHashSet set = new LongHashSet();
+        for (long key : keys) set.add(key);
+        return set;
+    }
+}
@@ -0,0 +1,508 @@
+/**
+ * The ParallelSort class sorts {@code int[]} and {@code double[]} arrays on several cores
+ * with the fork/join framework.
+ * <p>
+ * It provides a parallel merge sort (parallel sort of both halves, then a parallel merge)
+ * and a parallel quick sort (in-place partition, then both parts sorted as separate tasks).
+ * Ranges below a sequential threshold are sorted on one thread with the in-place quick sort
+ * of {@link AlgorithmAPSecond}. Each instance owns its own {@link ForkJoinPool} (unless one
+ * is passed in), so a long sort never starves {@link ForkJoinPool#commonPool()}.
+ * </p>
+ * <p>
+ * {@code double[]} results use the same total order as {@link Arrays#sort(double[])}:
+ * {@code -0.0} before {@code 0.0}, and every {@code NaN} at the end.
+ * </p>
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile:
+ *      ```
+ *      javac std02-arron-algo/ParallelSort.java std02-arron-algo/AlgorithmAPSecond.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -cp std02-arron-algo ParallelSort; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+public class ParallelSort implements AutoCloseable {
+    /** default range size at or below which sorting and merging stay on one thread */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int sequentialThreshold;
+
+    /**
+     * Example main for demonstration.
+     */
+    public static void main(String[] args) {
+        final int n = 10_000_000;
+        int[] base = new Random(0).ints(n).toArray();
+        int[] a1 = base.clone(), a2 = base.clone(), a3 = base.clone();
+
+        try (ParallelSort sorter = new ParallelSort()) {
+            long start = System.nanoTime();
+            sorter.mergeSort(a1);
+            long tMerge = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            sorter.quickSort(a2);
+            long tQuick = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            Arrays.parallelSort(a3);
+            long tJdk = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.println(String.format("Parallelism: %d", sorter.parallelism()));
+            System.out.println(String.format("Parallel Merge Sort: (%d ms)", tMerge));
+            System.out.println(String.format("Parallel Quick Sort: (%d ms)", tQuick));
+            System.out.println(String.format("Arrays.parallelSort: (%d ms)", tJdk));
+        }
+    }
+
+    /**
+     * Creates a sorter with its own pool of one worker per available processor.
+     */
+    public ParallelSort() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a sorter with its own pool.
+     *
+     * @param parallelism number of worker threads
+     * @throws IllegalArgumentException if {@code parallelism <= 0}
+     */
+    public ParallelSort(int parallelism) {
+        this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a sorter with its own pool.
+     *
+     * @param parallelism         number of worker threads
+     * @param sequentialThreshold range size at or below which work is not split further
+     * @throws IllegalArgumentException if {@code parallelism <= 0} or {@code sequentialThreshold < 2}
+     */
+    public ParallelSort(int parallelism, int sequentialThreshold) {
+        this(new ForkJoinPool(parallelism), true, sequentialThreshold);
+    }
+
+    /**
+     * Creates a sorter that runs on an existing pool. {@link #close()} leaves that pool running.
+     *
+     * @param pool                the pool to run on
+     * @param sequentialThreshold range size at or below which work is not split further
+     * @throws IllegalArgumentException if {@code sequentialThreshold < 2}
+     */
+    public ParallelSort(ForkJoinPool pool, int sequentialThreshold) {
+        this(pool, false, sequentialThreshold);
+    }
+
+    private ParallelSort(ForkJoinPool pool, boolean ownsPool, int sequentialThreshold) {
+        if (sequentialThreshold < 2) {
+            if (ownsPool) pool.shutdown();
+            throw new IllegalArgumentException("Sequential threshold must be at least 2: " + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /** @return the number of worker threads used by this sorter */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /** Shuts down the pool if this sorter created it. */
+    @Override
+    public void close() {
+        if (ownsPool) pool.shutdown();
+    }
+
+
+
+
+    /**
+     * Sorts the array in ascending order with a parallel merge sort.
+     * Allocates one scratch array of {@code nums.length}.
+     *
+     * @param nums the array of integers to sort in-place
+     * @return the same array, sorted in ascending order
+     */
+    public int[] mergeSort(int[] nums) {
+        if (nums.length > 1) {
+            pool.invoke(new IntMergeSort(nums, new int[nums.length], 0, nums.length, false, sequentialThreshold));
+        }
+        return nums;
+    }
+
+    /**
+     * Sorts the array in ascending order with a parallel merge sort.
+     * Allocates one scratch array of {@code nums.length}.
+     *
+     * @param nums the array of doubles to sort in-place
+     * @return the same array, sorted in ascending order
+     */
+    public double[] mergeSort(double[] nums) {
+        int end = moveNaNsToEnd(nums);
+        if (end > 1) {
+            pool.invoke(new DoubleMergeSort(nums, new double[end], 0, end, false, sequentialThreshold));
+        }
+        orderZeros(nums, end);
+        return nums;
+    }
+
+    /**
+     * Sorts the array in ascending order with a parallel in-place quick sort.
+     *
+     * @param nums the array of integers to sort in-place
+     * @return the same array, sorted in ascending order
+     */
+    public int[] quickSort(int[] nums) {
+        if (nums.length > 1) {
+            pool.invoke(new IntQuickSort(nums, 0, nums.length - 1, sequentialThreshold));
+        }
+        return nums;
+    }
+
+    /**
+     * Sorts the array in ascending order with a parallel in-place quick sort.
+     *
+     * @param nums the array of doubles to sort in-place
+     * @return the same array, sorted in ascending order
+     */
+    public double[] quickSort(double[] nums) {
+        int end = moveNaNsToEnd(nums);
+        if (end > 1) {
+            pool.invoke(new DoubleQuickSort(nums, 0, end - 1, sequentialThreshold));
+        }
+        orderZeros(nums, end);
+        return nums;
+    }
+
+
+
+
+    /*
+     * Merge sort: sorts a[lo, hi) and leaves the result in w (intoScratch) or in a.
+     * The two halves land in the other array, so each level merges a -> w or w -> a
+     * and nothing is copied back.
+     */
+    private static final class IntMergeSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] a, w;
+        private final int lo, hi, threshold;
+        private final boolean intoScratch;
+
+        IntMergeSort(int[] a, int[] w, int lo, int hi, boolean intoScratch, int threshold) {
+            this.a = a; this.w = w; this.lo = lo; this.hi = hi;
+            this.intoScratch = intoScratch; this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                AlgorithmAPSecond.quickSort(a, lo, hi - 1);
+                if (intoScratch) System.arraycopy(a, lo, w, lo, hi - lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new IntMergeSort(a, w, lo, mid, !intoScratch, threshold),
+                      new IntMergeSort(a, w, mid, hi, !intoScratch, threshold));
+            if (intoScratch) new IntMerge(a, lo, mid, mid, hi, w, lo, threshold).compute();
+            else new IntMerge(w, lo, mid, mid, hi, a, lo, threshold).compute();
+        }
+    }
+
+    /* Merges src[aLo, aHi) and src[bLo, bHi) into dst starting at dLo, splitting the larger run. */
+    private static final class IntMerge extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] src, dst;
+        private final int aLo, aHi, bLo, bHi, dLo, threshold;
+
+        IntMerge(int[] src, int aLo, int aHi, int bLo, int bHi, int[] dst, int dLo, int threshold) {
+            this.src = src; this.aLo = aLo; this.aHi = aHi; this.bLo = bLo; this.bHi = bHi;
+            this.dst = dst; this.dLo = dLo; this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int aLo = this.aLo, aHi = this.aHi, bLo = this.bLo, bHi = this.bHi;
+            if ((aHi - aLo) + (bHi - bLo) <= threshold) {
+                int k = dLo;
+                while (aLo < aHi && bLo < bHi) dst[k++] = (src[aLo] <= src[bLo]) ? src[aLo++] : src[bLo++];
+                System.arraycopy(src, aLo, dst, k, aHi - aLo);
+                System.arraycopy(src, bLo, dst, k + (aHi - aLo), bHi - bLo);
+                return;
+            }
+            if (aHi - aLo < bHi - bLo) { // split the larger run (primitives: stability is not observable)
+                int t = aLo; aLo = bLo; bLo = t;
+                t = aHi; aHi = bHi; bHi = t;
+            }
+            int aMid = (aLo + aHi) >>> 1;
+            int key = src[aMid];
+            int lo = bLo, hi = bHi; // first index in b with src >= key
+            while (lo < hi) {
+                int m = (lo + hi) >>> 1;
+                if (src[m] < key) lo = m + 1;
+                else hi = m;
+            }
+            int dMid = dLo + (aMid - aLo) + (lo - bLo);
+            dst[dMid] = key;
+            invokeAll(new IntMerge(src, aLo, aMid, bLo, lo, dst, dLo, threshold),
+                      new IntMerge(src, aMid + 1, aHi, lo, bHi, dst, dMid + 1, threshold));
+        }
+    }
+
+    /*
+     * Quick sort: partitions a[lo..hi] in place, forks the smaller part and keeps looping on
+     * the larger one, so a task never nests deeper than O(log n).
+     */
+    private static final class IntQuickSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] a;
+        private final int lo, hi, threshold;
+        private IntQuickSort next; // forked siblings, joined in reverse order
+
+        IntQuickSort(int[] a, int lo, int hi, int threshold) {
+            this.a = a; this.lo = lo; this.hi = hi; this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int lo = this.lo, hi = this.hi;
+            IntQuickSort forked = null;
+            while (hi - lo + 1 > threshold) {
+                int j = AlgorithmAPSecond.partition(a, lo, hi);
+                IntQuickSort task;
+                if (j - lo < hi - j) {
+                    task = new IntQuickSort(a, lo, j, threshold);
+                    lo = j + 1;
+                } else {
+                    task = new IntQuickSort(a, j + 1, hi, threshold);
+                    hi = j;
+                }
+                task.next = forked;
+                forked = task;
+                task.fork();
+            }
+            AlgorithmAPSecond.quickSort(a, lo, hi);
+            for (; forked != null; forked = forked.next) forked.join();
+        }
+    }
+
+
+
+
+    private static final class DoubleMergeSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final double[] a, w;
+        private final int lo, hi, threshold;
+        private final boolean intoScratch;
+
+        DoubleMergeSort(double[] a, double[] w, int lo, int hi, boolean intoScratch, int threshold) {
+            this.a = a; this.w = w; this.lo = lo; this.hi = hi;
+            this.intoScratch = intoScratch; this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                quickSort(a, lo, hi - 1);
+                if (intoScratch) System.arraycopy(a, lo, w, lo, hi - lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new DoubleMergeSort(a, w, lo, mid, !intoScratch, threshold),
+                      new DoubleMergeSort(a, w, mid, hi, !intoScratch, threshold));
+            if (intoScratch) new DoubleMerge(a, lo, mid, mid, hi, w, lo, threshold).compute();
+            else new DoubleMerge(w, lo, mid, mid, hi, a, lo, threshold).compute();
+        }
+    }
+
+    private static final class DoubleMerge extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final double[] src, dst;
+        private final int aLo, aHi, bLo, bHi, dLo, threshold;
+
+        DoubleMerge(double[] src, int aLo, int aHi, int bLo, int bHi, double[] dst, int dLo, int threshold) {
+            this.src = src; this.aLo = aLo; this.aHi = aHi; this.bLo = bLo; this.bHi = bHi;
+            this.dst = dst; this.dLo = dLo; this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int aLo = this.aLo, aHi = this.aHi, bLo = this.bLo, bHi = this.bHi;
+            if ((aHi - aLo) + (bHi - bLo) <= threshold) {
+                int k = dLo;
+                while (aLo < aHi && bLo < bHi) dst[k++] = (src[aLo] <= src[bLo]) ? src[aLo++] : src[bLo++];
+                System.arraycopy(src, aLo, dst, k, aHi - aLo);
+                System.arraycopy(src, bLo, dst, k + (aHi - aLo), bHi - bLo);
+                return;
+            }
+            if (aHi - aLo < bHi - bLo) {
+                int t = aLo; aLo = bLo; bLo = t;
+                t = aHi; aHi = bHi; bHi = t;
+            }
+            int aMid = (aLo + aHi) >>> 1;
+            double key = src[aMid];
+            int lo = bLo, hi = bHi;
+            while (lo < hi) {
+                int m = (lo + hi) >>> 1;
+                if (src[m] < key) lo = m + 1;
+                else hi = m;
+            }
+            int dMid = dLo + (aMid - aLo) + (lo - bLo);
+            dst[dMid] = key;
+            invokeAll(new DoubleMerge(src, aLo, aMid, bLo, lo, dst, dLo, threshold),
+                      new DoubleMerge(src, aMid + 1, aHi, lo, bHi, dst, dMid + 1, threshold));
+        }
+    }
+
+    private static final class DoubleQuickSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final double[] a;
+        private final int lo, hi, threshold;
+        private DoubleQuickSort next;
+
+        DoubleQuickSort(double[] a, int lo, int hi, int threshold) {
+            this.a = a; this.lo = lo; this.hi = hi; this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int lo = this.lo, hi = this.hi;
+            DoubleQuickSort forked = null;
+            while (hi - lo + 1 > threshold) {
+                int j = partition(a, lo, hi);
+                DoubleQuickSort task;
+                if (j - lo < hi - j) {
+                    task = new DoubleQuickSort(a, lo, j, threshold);
+                    lo = j + 1;
+                } else {
+                    task = new DoubleQuickSort(a, j + 1, hi, threshold);
+                    hi = j;
+                }
+                task.next = forked;
+                forked = task;
+                task.fork();
+            }
+            quickSort(a, lo, hi);
+            for (; forked != null; forked = forked.next) forked.join();
+        }
+    }
+
+
+
+
+    /*
+     * Sequential double[] kernels, the same in-place quick sort as AlgorithmAPSecond.
+     * They compare with '<' only, so NaNs must be moved out of the range beforehand
+     * and -0.0 / 0.0 are put in order afterwards.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    private static void quickSort(double[] a, int lo, int hi) {
+        while (hi - lo + 1 > INSERTION_THRESHOLD) {
+            int j = partition(a, lo, hi);
+            if (j - lo < hi - j) {
+                quickSort(a, lo, j);
+                lo = j + 1;
+            } else {
+                quickSort(a, j + 1, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            double value = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static int partition(double[] a, int lo, int hi) {
+        swap(a, lo, pivotIndex(a, lo, hi));
+        double pivot = a[lo];
+        int i = lo - 1;
+        int j = hi + 1;
+        while (true) {
+            do i++; while (a[i] < pivot);
+            do j--; while (a[j] > pivot);
+            if (i >= j) return j;
+            swap(a, i, j);
+        }
+    }
+
+    private static int pivotIndex(double[] a, int lo, int hi) {
+        int mid = lo + (hi - lo) / 2;
+        if (hi - lo + 1 <= NINTHER_THRESHOLD) return medianOfThree(a, lo, mid, hi);
+        int step = (hi - lo + 1) / 8;
+        int x = medianOfThree(a, lo, lo + step, lo + 2 * step);
+        int y = medianOfThree(a, mid - step, mid, mid + step);
+        int z = medianOfThree(a, hi - 2 * step, hi - step, hi);
+        return medianOfThree(a, x, y, z);
+    }
+
+    private static int medianOfThree(double[] a, int x, int y, int z) {
+        if (a[x] < a[y]) {
+            if (a[y] < a[z]) return y;
+            return (a[x] < a[z]) ? z : x;
+        }
+        if (a[x] < a[z]) return x;
+        return (a[y] < a[z]) ? z : y;
+    }
+
+    private static void swap(double[] a, int i, int j) {
+        double temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Moves every NaN to the end of the array, keeping its bit pattern.
+     *
+     * @return the number of non-NaN values, which now occupy {@code a[0, end)}
+     */
+    private static int moveNaNsToEnd(double[] a) {
+        int end = a.length;
+        for (int i = end - 1; i >= 0; i--) {
+            double value = a[i];
+            if (value != value) { // NaN
+                a[i] = a[--end];
+                a[end] = value;
+            }
+        }
+        return end;
+    }
+
+    /** Rewrites the run of zeros in the sorted range {@code a[0, end)} as all -0.0 followed by all 0.0. */
+    private static void orderZeros(double[] a, int end) {
+        int lo = 0, hi = end; // first index with a >= 0.0 (-0.0 included)
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            if (a[m] < 0.0) lo = m + 1;
+            else hi = m;
+        }
+        int negativeZeros = 0;
+        int zerosEnd = lo;
+        while (zerosEnd < end && a[zerosEnd] == 0.0) {
+            if (Double.doubleToRawLongBits(a[zerosEnd]) < 0) negativeZeros++;
+            zerosEnd++;
+        }
+        for (int i = lo; i < zerosEnd; i++) {
+            a[i] = (i < lo + negativeZeros) ? -0.0 : 0.0;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// File: ParallelSortTest.java
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The ParallelSortTest class provides JUnit tests for the fork/join sorts
+ * in the ParallelSort class, checked against {@link Arrays#sort}.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      ```
+ *      javac -cp junit-1.9.3.jar std02-arron-algo/ParallelSort*.java std02-arron-algo/AlgorithmAPSecond.java
+ *      ```
+ * 3. Run & Clean:
+ *      ```
+ *      java -jar junit-1.9.3.jar --class-path std02-arron-algo --scan-classpath; rm -rf std02-arron-algo/*.class
+ *      ```
+ */
+public class ParallelSortTest {
+
+    /**
+     * Tests both int[] sorts with a tiny sequential threshold, so every path is split and merged.
+     */
+    @Test
+    public void testIntSorts() {
+        Random random = new Random(7);
+        try (ParallelSort sorter = new ParallelSort(4, 2)) {
+            for (int n : new int[]{0, 1, 2, 3, 17, 1_000, 100_000}) {
+                int[] input = random.ints(n, 0, Math.max(1, n / 3)).toArray();
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+
+                int[] merged = input.clone();
+                assertSame(merged, sorter.mergeSort(merged));
+                assertArrayEquals(expected, merged, "mergeSort n=" + n);
+
+                int[] quick = input.clone();
+                assertSame(quick, sorter.quickSort(quick));
+                assertArrayEquals(expected, quick, "quickSort n=" + n);
+            }
+        }
+    }
+
+    /**
+     * Tests the int[] sorts on large sorted and reversed input with the default threshold.
+     */
+    @Test
+    public void testIntSortsPresorted() {
+        final int n = 2_000_000;
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) sorted[i] = i;
+        try (ParallelSort sorter = new ParallelSort()) {
+            int[] reversed = new int[n];
+            for (int i = 0; i < n; i++) reversed[i] = n - 1 - i;
+            assertArrayEquals(sorted, sorter.mergeSort(reversed.clone()));
+            assertArrayEquals(sorted, sorter.quickSort(reversed));
+            assertArrayEquals(sorted, sorter.quickSort(sorted.clone()));
+        }
+    }
+
+    /**
+     * Tests both double[] sorts, including NaN, -0.0 and infinities, against Arrays.sort ordering.
+     */
+    @Test
+    public void testDoubleSorts() {
+        Random random = new Random(11);
+        double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1.5};
+        try (ParallelSort sorter = new ParallelSort(3, 4)) {
+            for (int n : new int[]{0, 1, 5, 64, 50_000}) {
+                double[] input = new double[n];
+                for (int i = 0; i < n; i++) {
+                    input[i] = (random.nextInt(4) == 0) ? specials[random.nextInt(specials.length)] : random.nextGaussian();
+                }
+                double[] expected = input.clone();
+                Arrays.sort(expected);
+
+                assertArrayEquals(expected, sorter.mergeSort(input.clone()), "mergeSort n=" + n);
+                assertArrayEquals(expected, sorter.quickSort(input.clone()), "quickSort n=" + n);
+            }
+        }
+    }
+
+    /**
+     * Tests that close() shuts down an owned pool but leaves a caller-supplied pool running.
+     */
+    @Test
+    public void testPoolOwnership() {
+        ForkJoinPool shared = new ForkJoinPool(2);
+        try {
+            new ParallelSort(shared, 64).close();
+            assertFalse(shared.isShutdown());
+        } finally {
+            shared.shutdown();
+        }
+
+        try (ParallelSort sorter = new ParallelSort(5)) {
+            assertEquals(5, sorter.parallelism());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSort(0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSort(2, 1));
+    }
+}
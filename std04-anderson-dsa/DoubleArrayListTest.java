@@ -0,0 +1,53 @@
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * The DoubleArrayListTest class provides JUnit tests for the primitive DoubleArrayList.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      `javac -cp junit-1.9.3.jar std04-anderson-dsa/DoubleArrayList*.java std04-anderson-dsa/MyArrayList.java`
+ * 3. Run & Clean:
+ *      `java -jar junit-1.9.3.jar --class-path std04-anderson-dsa --scan-classpath; rm -rf std04-anderson-dsa/*.class`
+ */
+public class DoubleArrayListTest {
+
+    /**
+     * Tests add/addAll/get, the view and the primitive iterator.
+     */
+    @Test
+    public void doubleValuesTest() {
+        DoubleArrayList list = new DoubleArrayList(2);
+        list.add(1.5);
+        list.addAll(new double[]{2.5, 3.5});
+        assertEquals(3, list.size());
+        assertEquals(2.5, list.get(1));
+        assertEquals(3.5, list.view().get(2));
+        PrimitiveIterator.OfDouble it = list.iterator();
+        double sum = 0;
+        while (it.hasNext()) {
+            sum += it.nextDouble();
+        }
+        assertEquals(7.5, sum);
+        assertEquals("[1.5, 2.5, 3.5]", list.toString());
+    }
+
+    /**
+     * Tests that contains/indexOf compare like Double.equals (NaN found, -0.0 distinct from 0.0).
+     */
+    @Test
+    public void equalitySemanticsTest() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.add(Double.NaN);
+        list.add(-0.0);
+        assertTrue(list.contains(Double.NaN), "NaN should be found like Double.equals");
+        assertEquals(1, list.indexOf(-0.0));
+        assertFalse(list.contains(0.0), "0.0 should not match -0.0 like Double.equals");
+    }
+}
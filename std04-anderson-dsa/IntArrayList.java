@@ -0,0 +1,291 @@
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A resizable list of primitive {@code int} values with the same API as {@link MyArrayList}.
+ * <p>
+ * Values are stored directly in an {@code int[]}, so nothing is boxed: a value costs
+ * 4 bytes instead of a 16-byte {@code Integer} plus a reference, and reading the list
+ * walks one contiguous array instead of chasing pointers.
+ */
+public class IntArrayList {
+    /** Largest array some VMs can allocate (header words reserved). */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The array buffer into which the elements of the list are stored.
+     * The capacity of the list is the length of this array buffer.
+     */
+    private int[] data;
+
+    /**
+     * The number of elements actually stored in this list.
+     * Always non‐negative and never greater than {@link #data}.length.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty list with an initial capacity of 10.
+     */
+    public IntArrayList() {
+        this(10);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the number of elements the list can hold before it has to grow
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        data = new int[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value element to be appended to this list
+     */
+    public void add(int value) {
+        if (size == data.length) {
+            grow(size + 1);
+        }
+        data[size++] = value;
+    }
+
+    /**
+     * Appends all of the given values to the end of this list with a single block copy.
+     *
+     * @param values values to be appended to this list
+     */
+    public void addAll(int[] values) {
+        if (values.length > data.length - size) {
+            grow(size + values.length); // a sum that overflows is negative and rejected there
+        }
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Increases the capacity, if necessary, so that at least {@code minCapacity}
+     * elements fit without another resize.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Increases the capacity of the internal array to at least {@code minCapacity}
+     * (and at least double the current one) in one block copy.
+     *
+     * @throws OutOfMemoryError if {@code minCapacity} exceeds the maximum array size
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required capacity too large: " + Integer.toUnsignedString(minCapacity));
+        }
+        int doubled = (data.length > MAX_ARRAY_SIZE / 2) ? MAX_ARRAY_SIZE : data.length * 2;
+        data = Arrays.copyOf(data, Math.max(minCapacity, Math.max(10, doubled)));
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return; must be in the range {@code 0 <= index < size()}
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= size()})
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", Size: " + size);
+        }
+        return data[index];
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this list contains no elements.
+     *
+     * @return {@code true} if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     * The capacity remains unchanged.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the
+     * specified element.
+     *
+     * @param index index of the element to replace; must be in the range {@code 0 <= index < size()}
+     * @param value element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= size()})
+     */
+    public int set(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", Size: " + size);
+        }
+        int old = data[index];
+        data[index] = value;
+        return old;
+    }
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their indices).
+     *
+     * @param index index of the element to be removed; must be in the range {@code 0 <= index < size()}
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= size()})
+     */
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", Size: " + size);
+        }
+        int removed = data[index];
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(data, index + 1, data, index, numMoved);
+        }
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified element.
+     *
+     * @param value element whose presence in this list is to be tested
+     * @return {@code true} if this list contains the specified element
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     *
+     * @param value element to search for
+     * @return the index of the first occurrence of the specified element
+     *         in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a view of the elements {@code [0, size())} backed by the internal array.
+     * Writes through the view change the list. The view is only valid until the list
+     * next grows; it does not follow later {@code add} calls.
+     *
+     * @return a buffer with position 0 and limit {@code size()}
+     */
+    public IntBuffer view() {
+        return IntBuffer.wrap(data, 0, size).slice();
+    }
+
+    /**
+     * Returns a copy of the elements in this list.
+     *
+     * @return a new array of length {@code size()}
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list that yields primitive
+     * {@code int}s through {@link PrimitiveIterator.OfInt#nextInt()}.
+     *
+     * @return a primitive iterator in proper sequence
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return data[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each element, in order.
+     *
+     * @param action the action to be performed for each element
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * Returns a string representation of this list. The string representation
+     * consists of a list of the list’s elements in order, enclosed in square
+     * brackets ("[]"). Adjacent elements are separated by the characters ", "
+     * (comma and space).
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < size; i++) {
+            sb.append(data[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,98 @@
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * The IntArrayListTest class provides JUnit tests for the primitive IntArrayList.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      `javac -cp junit-1.9.3.jar std04-anderson-dsa/IntArrayList*.java std04-anderson-dsa/MyArrayList.java`
+ * 3. Compile (All Tests):
+ *      `javac -cp junit-1.9.3.jar std04-anderson-dsa/*.java`
+ * 4. Run & Clean:
+ *      `java -jar junit-1.9.3.jar --class-path std04-anderson-dsa --scan-classpath; rm -rf std04-anderson-dsa/*.class`
+ */
+public class IntArrayListTest {
+
+    /**
+     * Tests the same add/get/set/remove/contains/indexOf/toString API as MyArrayList.
+     */
+    @Test
+    public void myArrayListApiTest() {
+        IntArrayList list = new IntArrayList();
+        assertTrue(list.isEmpty(), "New list should be empty");
+        for (int i = 0; i < 15; i++) {
+            list.add(i * 2);
+        }
+        assertEquals(15, list.size(), "Size should reflect number of added elements");
+        assertEquals(28, list.get(14), "Element past the initial capacity should be kept");
+        assertEquals(2, list.set(1, 99), "set should return the old element");
+        assertEquals(99, list.remove(1), "remove should return the removed element");
+        assertEquals(4, list.get(1), "Elements should shift left after remove");
+        assertTrue(list.contains(28), "List should contain 28");
+        assertEquals(-1, list.indexOf(99), "indexOf should return -1 for absent element");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(14),
+            "get(size) should throw IndexOutOfBoundsException");
+        list.clear();
+        assertEquals("[]", list.toString(), "Empty list toString should be []");
+        list.add(1);
+        list.add(2);
+        assertEquals("[1, 2]", list.toString(), "toString should list elements in order");
+    }
+
+    /**
+     * Tests addAll(int[]), the capacity constructor and toArray().
+     */
+    @Test
+    public void addAllTest() {
+        IntArrayList list = new IntArrayList(0);
+        list.add(7);
+        list.addAll(new int[]{1, 2, 3});
+        list.addAll(new int[1_000]);
+        assertEquals(1_004, list.size(), "addAll should append every value");
+        assertArrayEquals(new int[]{7, 1, 2, 3, 0}, java.util.Arrays.copyOf(list.toArray(), 5));
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+    }
+
+    /**
+     * Tests that view() reads and writes the backing array without copying.
+     */
+    @Test
+    public void viewTest() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[]{10, 20, 30});
+        IntBuffer view = list.view();
+        assertEquals(3, view.remaining(), "View should cover exactly size() elements");
+        assertEquals(20, view.get(1));
+        view.put(1, 21);
+        assertEquals(21, list.get(1), "Writes through the view should change the list");
+    }
+
+    /**
+     * Tests the primitive iterator and forEach(IntConsumer).
+     */
+    @Test
+    public void iteratorTest() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(new int[]{1, 2, 3, 4});
+        PrimitiveIterator.OfInt it = list.iterator();
+        int sum = 0;
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        assertEquals(10, sum);
+        assertThrows(NoSuchElementException.class, it::nextInt);
+
+        int[] product = {1};
+        list.forEach(v -> product[0] *= v);
+        assertEquals(24, product[0]);
+    }
+}
@@ -0,0 +1,40 @@
+// JDK-17: https://developers.redhat.com/products/openjdk/download?sc_cid=701f2000000RWTnAAO
+// JUnit: https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter/5.10.0
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * The LongArrayListTest class provides JUnit tests for the primitive LongArrayList.
+ *
+ * How to compile and run the application:
+ * 1. Open a terminal or command prompt.
+ * 2. Compile (Current Test Only):
+ *      `javac -cp junit-1.9.3.jar std04-anderson-dsa/LongArrayList*.java std04-anderson-dsa/MyArrayList.java`
+ * 3. Run & Clean:
+ *      `java -jar junit-1.9.3.jar --class-path std04-anderson-dsa --scan-classpath; rm -rf std04-anderson-dsa/*.class`
+ */
+public class LongArrayListTest {
+
+    /**
+     * Tests add/addAll/get/remove, the view and the primitive iterator with values beyond int range.
+     */
+    @Test
+    public void longValuesTest() {
+        LongArrayList list = new LongArrayList();
+        list.add(Long.MAX_VALUE);
+        list.addAll(new long[]{1L << 40, -5L});
+        assertEquals(3, list.size());
+        assertEquals(1L << 40, list.get(1));
+        assertEquals(2, list.indexOf(-5L));
+        assertEquals(Long.MAX_VALUE, list.remove(0));
+        assertEquals(-5L, list.view().get(1));
+        PrimitiveIterator.OfLong it = list.iterator();
+        assertEquals(1L << 40, it.nextLong());
+        assertEquals(-5L, it.nextLong());
+        assertFalse(it.hasNext());
+        assertEquals("[1099511627776, -5]", list.toString());
+    }
+}
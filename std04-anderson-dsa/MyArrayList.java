@@ -1,12 +1,29 @@
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Predicate;
+
 /**
  * A simplified, ArrayList‐style resizable array implementation.
  * <p>
- * Internally uses a plain array to store elements, doubling its capacity
- * whenever more space is needed.
+ * Internally uses a plain array to store elements, growing its capacity by a
+ * configurable factor (2x by default, 1.5x like {@code java.util.ArrayList})
+ * whenever more space is needed. Callers that know the final size up front can
+ * pre-size the list with {@link #MyArrayList(int)} or {@link #ensureCapacity(int)}
+ * and skip the intermediate copies altogether.
  *
  * @param <T> the type of elements held in this list
  */
 public class MyArrayList<T> {
+    /** Capacity of a list created with the no-arg constructor. */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** Growth factor of a list created without one: double on every resize. */
+    public static final double DEFAULT_GROWTH_FACTOR = 2.0;
+
+    /** Largest array some VMs can allocate (header words reserved). */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
     /**
      * The array buffer into which the elements of the list are stored.
      * The capacity of the list is the length of this array buffer.
@@ -19,48 +36,154 @@ public class MyArrayList<T> {
      */
     private int size;
 
+    /**
+     * The factor the capacity is multiplied by when the list runs out of space.
+     * Always greater than 1.
+     */
+    private final double growthFactor;
+
     /**
      * Constructs an empty list with an initial capacity of 10.
      * <p>
      * The list will grow automatically as elements are added.
      */
-    @SuppressWarnings("unchecked")
     public MyArrayList() {
-        data = (T[]) new Object[10];
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the number of elements the list can hold before it has to grow
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public MyArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs an empty list with the specified initial capacity and growth factor.
+     * <p>
+     * A factor of 2 does fewer resizes; a factor of 1.5 wastes less memory after the
+     * last resize and lets the allocator reuse the freed blocks of earlier ones.
+     *
+     * @param initialCapacity the number of elements the list can hold before it has to grow
+     * @param growthFactor    the factor the capacity is multiplied by on each resize; must be greater than 1
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative or {@code growthFactor <= 1}
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayList(int initialCapacity, double growthFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Illegal growth factor: " + growthFactor);
+        }
+        data = (T[]) new Object[initialCapacity];
         size = 0;
+        this.growthFactor = growthFactor;
     }
 
     /**
      * Appends the specified element to the end of this list.
      * <p>
-     * If the internal array is full, its capacity is doubled
-     * by invoking {@link #grow()} before appending.
+     * If the internal array is full, its capacity is increased
+     * by invoking {@link #grow(int)} before appending.
      *
      * @param value element to be appended to this list
      */
     public void add(T value) {
         if (size == data.length) {
-            grow();
+            grow(size + 1);
         }
         data[size++] = value;
     }
 
+    /**
+     * Appends all elements of the given collection to the end of this list,
+     * in the order of its {@code toArray()}.
+     * <p>
+     * The capacity is increased at most once and the elements are moved with a
+     * single block copy, instead of one {@code add} (and possibly one resize) per element.
+     *
+     * @param values elements to be appended to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(Collection<? extends T> values) {
+        Object[] added = values.toArray();
+        if (added.length > data.length - size) {
+            grow(size + added.length); // a sum that overflows is negative and rejected there
+        }
+        System.arraycopy(added, 0, data, size, added.length);
+        size += added.length;
+        return added.length > 0;
+    }
+
+    /**
+     * Appends all elements of the given list to the end of this list, in order,
+     * with a single block copy.
+     *
+     * @param values elements to be appended to this list
+     * @return {@code true} if this list changed as a result of the call
+     */
+    public boolean addAll(MyArrayList<? extends T> values) {
+        int count = values.size;
+        if (count > data.length - size) {
+            grow(size + count); // a sum that overflows is negative and rejected there
+        }
+        System.arraycopy(values.data, 0, data, size, count); // safe for values == this
+        size += count;
+        return count > 0;
+    }
+
+    /**
+     * Increases the capacity, if necessary, so that at least {@code minCapacity}
+     * elements fit without another resize.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the capacity of this list to its current size, releasing the
+     * unused tail of the internal array.
+     */
+    public void trimToSize() {
+        if (size < data.length) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    /**
+     * Returns the length of the internal array.
+     *
+     * @return the number of elements the list can hold before it has to grow
+     */
+    int capacity() {
+        return data.length;
+    }
+
     /**
      * Increases the capacity of the internal array.
      * <p>
-     * Doubles the current capacity, copies all existing elements
-     * into the new array, and replaces the old buffer.
+     * Multiplies the current capacity by the growth factor (but grows to at least
+     * {@code minCapacity}) and moves the elements with one {@link Arrays#copyOf} block copy.
      * This operation is <em>O(n)</em> in the current size of the list.
      *
-     * @throws OutOfMemoryError if there is insufficient memory to allocate the new array
+     * @param minCapacity the smallest capacity that is needed
+     * @throws OutOfMemoryError if {@code minCapacity} exceeds the maximum array size
      */
-    @SuppressWarnings("unchecked")
-    private void grow() {
-        T[] newData = (T[]) new Object[data.length * 2];
-        for (int i = 0; i < data.length; i++) {
-            newData[i] = data[i];
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required capacity too large: " + Integer.toUnsignedString(minCapacity));
         }
-        data = newData;
+        long grown = (long) (data.length * growthFactor);
+        int newCapacity = (int) Math.min(MAX_ARRAY_SIZE, Math.max(grown, DEFAULT_CAPACITY));
+        data = Arrays.copyOf(data, Math.max(minCapacity, newCapacity));
     }
 
     /**
@@ -151,6 +274,58 @@ public class MyArrayList<T> {
         return removed;
     }
 
+    /**
+     * Removes the elements whose index is between {@code fromIndex} (inclusive) and
+     * {@code toIndex} (exclusive). The tail is shifted left with one block copy.
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0}, {@code toIndex > size()}
+     *         or {@code fromIndex > toIndex}
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                "From Index: " + fromIndex + ", To Index: " + toIndex + ", Size: " + size);
+        }
+        System.arraycopy(data, toIndex, data, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(data, newSize, size, null); // clear to let GC do its work
+        size = newSize;
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate.
+     * <p>
+     * The filter is first applied to every element, then the kept elements are compacted
+     * towards the front in one pass, so the call is <em>O(n)</em> no matter how many
+     * elements are removed, whereas calling {@link #remove(int)} for each of them shifts
+     * the tail every time (<em>O(n²)</em>). If the filter throws, the list is unchanged.
+     *
+     * @param filter returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        BitSet removed = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (filter.test(data[i])) {
+                removed.set(i);
+            }
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!removed.get(i)) {
+                data[kept++] = data[i];
+            }
+        }
+        Arrays.fill(data, kept, size, null); // clear to let GC do its work
+        size = kept;
+        return true;
+    }
+
     /**
      * Returns {@code true} if this list contains the specified element.
      * More formally, returns {@code true} if and only if this list contains
@@ -5,6 +5,8 @@
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+
 /**
  * The AlgorithmAPTest class provides JUnit tests for the recursive methods in the AlgorithmAP class.
  * 
@@ -137,4 +139,104 @@ public class MyArrayListTest {
         list.add(3);
         assertEquals("[1, 2, 3]", list.toString(), "toString should list elements in order");
     }
+
+    /**
+     * Tests the capacity constructors, ensureCapacity(int), the growth factor and trimToSize().
+     */
+    @Test
+    public void capacityTest() {
+        MyArrayList<Integer> presized = new MyArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            presized.add(i);
+        }
+        assertEquals(100, presized.capacity(), "Pre-sized list should not grow");
+
+        MyArrayList<Integer> doubling = new MyArrayList<>(16);
+        MyArrayList<Integer> oneAndHalf = new MyArrayList<>(16, 1.5);
+        for (int i = 0; i < 17; i++) {
+            doubling.add(i);
+            oneAndHalf.add(i);
+        }
+        assertEquals(32, doubling.capacity(), "Default growth factor should double the capacity");
+        assertEquals(24, oneAndHalf.capacity(), "Growth factor 1.5 should grow 16 to 24");
+        assertEquals(16, oneAndHalf.get(16), "Elements should survive the resize");
+
+        oneAndHalf.ensureCapacity(1_000);
+        assertTrue(oneAndHalf.capacity() >= 1_000, "ensureCapacity should reserve the requested space");
+        oneAndHalf.trimToSize();
+        assertEquals(17, oneAndHalf.capacity(), "trimToSize should shrink the capacity to the size");
+        oneAndHalf.add(17);
+        assertEquals(18, oneAndHalf.size(), "List should still grow after trimToSize");
+
+        MyArrayList<Integer> empty = new MyArrayList<>(0);
+        empty.add(1);
+        assertEquals(1, empty.get(0), "Zero-capacity list should grow on first add");
+
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList<>(10, 1.0));
+    }
+
+    /**
+     * Tests addAll(Collection) and addAll(MyArrayList), including adding a list to itself.
+     */
+    @Test
+    public void addAllTest() {
+        MyArrayList<String> list = new MyArrayList<>();
+        assertTrue(list.addAll(Arrays.asList("A", "B", "C")), "addAll should report a change");
+        assertFalse(list.addAll(Arrays.asList()), "Adding nothing should not report a change");
+        assertTrue(list.addAll(list), "A list can be appended to itself");
+        assertEquals("[A, B, C, A, B, C]", list.toString(), "addAll should append in order");
+    }
+
+    /**
+     * Tests removeRange(int,int) shifts the tail and rejects invalid ranges.
+     */
+    @Test
+    public void removeRangeTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.removeRange(2, 5);
+        assertEquals("[0, 1, 5, 6, 7, 8, 9]", list.toString(), "Elements 2..4 should be removed");
+        list.removeRange(3, 3);
+        assertEquals(7, list.size(), "Empty range should remove nothing");
+        list.removeRange(5, 7);
+        assertEquals("[0, 1, 5, 6, 7]", list.toString(), "Tail range should be removed");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 6));
+    }
+
+    /**
+     * Tests removeIf(Predicate) keeps the order of the remaining elements.
+     */
+    @Test
+    public void removeIfTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        assertTrue(list.removeIf(v -> v % 3 != 0), "removeIf should report removed elements");
+        assertEquals("[0, 3, 6, 9, 12, 15, 18]", list.toString(), "Kept elements should stay in order");
+        assertFalse(list.removeIf(v -> v < 0), "Nothing matched, nothing removed");
+        assertTrue(list.removeIf(v -> true));
+        assertTrue(list.isEmpty(), "Removing everything should leave the list empty");
+    }
+
+    /**
+     * Tests removeIf(Predicate) leaves the list unchanged when the filter throws.
+     */
+    @Test
+    public void removeIfThrowingFilterTest() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertThrows(IllegalStateException.class, () -> list.removeIf(v -> {
+            if (v == 7) throw new IllegalStateException("filter failed");
+            return v % 2 == 0;
+        }));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", list.toString(), "List should be unchanged");
+        assertEquals(10, list.size());
+    }
 }
@@ -52,7 +52,8 @@ public class BinarySearchDemo
       integer array. The array is searched for the number passed
       to value. If the number is found, its array subscript is
       returned. Otherwise, -1 is returned indicating the value was
-      not found in the array.
+      not found in the array. The SearchTools and EytzingerArray
+      classes have faster searches for large arrays.
       @param array The array to search.
       @param value The value to search for.
    */
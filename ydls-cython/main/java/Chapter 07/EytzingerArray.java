@@ -0,0 +1,142 @@
+import java.util.Arrays;
+
+/**
+   The EytzingerArray class stores a sorted array in
+   Eytzinger (breadth-first) order for fast searching.
+
+   A binary search of a sorted array first looks at the
+   middle, then at a quarter or three quarters, and so on:
+   every step lands far from the last one, on a new cache
+   line. In Eytzinger order the element at subscript k is
+   followed in the search by the elements at 2k and 2k + 1,
+   so the first levels of every search are packed into a
+   few cache lines that stay cached, and the 16 elements
+   four levels below any element share one 64-byte line.
+   The search loop has no unpredictable branch.
+
+   Java cannot issue a prefetch instruction, so a single
+   search still waits for one cache miss per deep level;
+   searchAll hides that by running GROUP searches side by
+   side, so their misses overlap.
+*/
+
+public class EytzingerArray
+{
+   static final int GROUP = 16;   // Searches that searchAll runs side by side
+
+   private int[] tree;       // tree[1..n] in breadth-first order; tree[0] is unused
+   private int[] position;   // position[k] is the sorted subscript of tree[k]
+
+   /**
+      Constructor.
+      @param sortedArray The values in ascending order.
+             The array is copied.
+   */
+
+   public EytzingerArray(int[] sortedArray)
+   {
+      tree = new int[sortedArray.length + 1];
+      position = new int[sortedArray.length + 1];
+      fill(sortedArray, 0, 1);
+   }
+
+   /**
+      The fill method copies the sorted values into the
+      subtree rooted at k with an in-order walk.
+      @param sortedArray The values in ascending order.
+      @param next The subscript of the next sorted value.
+      @param k The root of the subtree.
+      @return The subscript of the next sorted value after
+              the subtree.
+   */
+
+   private int fill(int[] sortedArray, int next, int k)
+   {
+      // The tree is complete, so this is only log2(n) deep.
+      if (k < tree.length)
+      {
+         next = fill(sortedArray, next, 2 * k);
+         tree[k] = sortedArray[next];
+         position[k] = next;
+         next++;
+         next = fill(sortedArray, next, 2 * k + 1);
+      }
+      return next;
+   }
+
+   /**
+      The search method searches for a value.
+      @param value The value to search for.
+      @return The subscript of the value in the sorted array
+              passed to the constructor (the first one, if it
+              occurs more than once), or -1.
+   */
+
+   public int search(int value)
+   {
+      int k = 1;
+      while (k < tree.length)
+         k = 2 * k + ((tree[k] < value) ? 1 : 0);
+
+      // The path went right after every element less than
+      // the value; undo those right turns and the last left
+      // turn to get to the first element not less than it.
+      k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+      if (k != 0 && tree[k] == value)
+         return position[k];
+      return -1;
+   }
+
+   /**
+      The searchAll method searches for many values at once.
+      The values are searched in groups of GROUP, which walk
+      down the tree together one level at a time. The loads
+      of one level do not depend on each other, so the CPU
+      waits for their cache misses at the same time instead
+      of one after another.
+      @param values The values to search for.
+      @return An array with, for each value, its subscript in
+              the sorted array, or -1.
+   */
+
+   public int[] searchAll(int[] values)
+   {
+      int[] result = new int[values.length];
+      int[] k = new int[GROUP];   // Current node of each search in the group
+      int levels = 32 - Integer.numberOfLeadingZeros(tree.length - 1);
+
+      for (int from = 0; from < values.length; from += GROUP)
+      {
+         int count = Math.min(GROUP, values.length - from);
+         Arrays.fill(k, 1);
+         for (int level = 0; level < levels; level++)
+         {
+            for (int i = 0; i < count; i++)
+            {
+               int node = k[i];
+               if (node < tree.length)
+                  k[i] = 2 * node + ((tree[node] < values[from + i]) ? 1 : 0);
+            }
+         }
+         for (int i = 0; i < count; i++)
+         {
+            int node = k[i] >>> (Integer.numberOfTrailingZeros(~k[i]) + 1);
+            if (node != 0 && tree[node] == values[from + i])
+               result[from + i] = position[node];
+            else
+               result[from + i] = -1;
+         }
+      }
+      return result;
+   }
+
+   /**
+      The length method returns the number of elements.
+      @return The number of elements.
+   */
+
+   public int length()
+   {
+      return tree.length - 1;
+   }
+}
@@ -0,0 +1,169 @@
+import java.util.Arrays;
+
+/**
+   The SearchTools class provides faster versions of the
+   binary search in BinarySearchDemo for large sorted
+   arrays, where most of the time is spent waiting for
+   array elements to arrive from memory.
+
+   Every search method returns the subscript of the value
+   if it is found (the first one, if the value occurs more
+   than once), otherwise -1, like binarySearch.
+*/
+
+public class SearchTools
+{
+   // Number of interpolation probes per search before
+   // interpolationSearch gives up on a skewed array and
+   // switches to branchlessSearch.
+   static final int INTERPOLATION_PROBES = 8;
+
+   /**
+      The branchlessSearch method performs a binary search
+      whose loop has no unpredictable branch. The textbook
+      loop stops early when it hits the value, so its branch
+      is a coin flip the CPU mispredicts half the time. This
+      loop always halves the range and picks the half with a
+      conditional expression the JIT turns into a conditional
+      move, so the number of steps only depends on the length.
+      @param array The sorted array to search.
+      @param value The value to search for.
+      @return The subscript of the value, or -1.
+   */
+
+   public static int branchlessSearch(int[] array, int value)
+   {
+      int position = lowerBound(array, 0, array.length, value);
+      if (position < array.length && array[position] == value)
+         return position;
+      return -1;
+   }
+
+   /**
+      The lowerBound method finds the first element in a
+      range of a sorted array that is not less than a value.
+      @param array The sorted array to search.
+      @param from The first subscript of the range.
+      @param to One past the last subscript of the range.
+      @param value The value to search for.
+      @return The subscript, or to if every element is less.
+   */
+
+   static int lowerBound(int[] array, int from, int to, int value)
+   {
+      int base = from;          // The answer is in [base, base + length]
+      int length = to - from;   // Elements left to look at
+
+      while (length > 1)
+      {
+         int half = length / 2;
+         base = (array[base + half - 1] < value) ? base + half : base;
+         length -= half;
+      }
+      if (length == 1 && array[base] < value)
+         base++;
+      return base;
+   }
+
+   /**
+      The interpolationSearch method guesses where the value
+      should be from its distance to the first and last value
+      of the range, like looking up a name in a phone book.
+      For evenly spread values this takes about log(log(n))
+      probes instead of log(n): 5 instead of 27 for 100
+      million elements. On skewed arrays it can probe
+      almost every element, so after INTERPOLATION_PROBES
+      probes it finishes the range with branchlessSearch.
+      @param array The sorted array to search.
+      @param value The value to search for.
+      @return The subscript of the value, or -1.
+   */
+
+   public static int interpolationSearch(int[] array, int value)
+   {
+      int first = 0;                   // First element of the range
+      int last = array.length - 1;     // Last element of the range
+
+      for (int probe = 0; probe < INTERPOLATION_PROBES; probe++)
+      {
+         if (first > last || value < array[first] || value > array[last])
+            return -1;
+         if (array[first] == array[last])
+            return (array[first] == value) ? first : -1;
+
+         // Estimate the position (in long, since the
+         // differences may overflow an int).
+         long span = (long) array[last] - array[first];
+         int guess = first + (int) (((long) value - array[first]) *
+                                    (last - first) / span);
+
+         if (array[guess] < value)
+            first = guess + 1;
+         else if (array[guess] > value || (guess > first && array[guess - 1] == value))
+            last = guess;
+         else
+            return guess;
+      }
+
+      int position = lowerBound(array, first, last + 1, value);
+      if (position <= last && array[position] == value)
+         return position;
+      return -1;
+   }
+
+   /**
+      The searchAll method answers many searches together.
+      Looking up values one by one jumps to a random part of
+      a large array each time. Here the queries are sorted
+      first, so the array is walked once from left to right:
+      each search starts where the previous one ended and
+      gallops forward (1, 2, 4, 8, ... elements) before a
+      binary search of the last step. Nearby queries then
+      share the same cache lines and memory pages.
+      @param sortedArray The sorted array to search.
+      @param queries The values to search for, in any order.
+      @return An array with, for each query, the subscript
+              of its value in sortedArray, or -1.
+   */
+
+   public static int[] searchAll(int[] sortedArray, int[] queries)
+   {
+      int[] result = new int[queries.length];
+
+      // Sort the queries, remembering where each came from:
+      // the value goes in the high 32 bits and the query
+      // number in the low 32 bits of one long.
+      long[] order = new long[queries.length];
+      for (int i = 0; i < queries.length; i++)
+         order[i] = ((long) queries[i] << 32) | i;
+      if (order.length > 1 << 16)
+         Arrays.parallelSort(order);
+      else
+         Arrays.sort(order);
+
+      int start = 0;   // No later query can be before this
+      for (long entry : order)
+      {
+         int value = (int) (entry >> 32);
+         int query = (int) entry;
+
+         // Gallop to a range that ends at or after the value.
+         int step = 1;
+         int end = start;
+         while (end < sortedArray.length && sortedArray[end] < value)
+         {
+            start = end + 1;
+            end = (step < sortedArray.length - end) ? end + step : sortedArray.length;
+            step *= 2;
+         }
+         end = Math.min(end + 1, sortedArray.length);
+
+         start = lowerBound(sortedArray, start, end, value);
+         if (start < sortedArray.length && sortedArray[start] == value)
+            result[query] = start;
+         else
+            result[query] = -1;
+      }
+      return result;
+   }
+}
@@ -0,0 +1,92 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+   This program times the search methods of the
+   SearchTools and EytzingerArray classes against the
+   binary search in BinarySearchDemo on a table that is
+   too large for the CPU caches.
+*/
+
+public class SearchToolsDemo
+{
+   private static final int QUERIES = 2_000_000;
+
+   public static void main(String[] args)
+   {
+      final int TABLE_SIZE = 20_000_000;   // 80 MB of ints
+
+      // Create a sorted table of evenly spread values and
+      // random queries, half of which are in the table.
+      Random random = new Random(0);
+      int[] table = new int[TABLE_SIZE];
+      for (int i = 0; i < table.length; i++)
+         table[i] = random.nextInt();
+      Arrays.sort(table);
+      int[] queries = new int[QUERIES];
+      for (int i = 0; i < queries.length; i++)
+      {
+         if (i % 2 == 0)
+            queries[i] = table[random.nextInt(table.length)];
+         else
+            queries[i] = random.nextInt();
+      }
+      EytzingerArray eytzinger = new EytzingerArray(table);
+
+      // Time each method; repeat to let the JIT compile them.
+      for (int round = 1; round <= 3; round++)
+      {
+         System.out.println("Round " + round);
+         long start = System.nanoTime();
+         long found = 0;
+         for (int query : queries)
+            found += (BinarySearchDemo.binarySearch(table, query) >= 0) ? 1 : 0;
+         display("binarySearch", start, found);
+
+         start = System.nanoTime();
+         found = 0;
+         for (int query : queries)
+            found += (SearchTools.branchlessSearch(table, query) >= 0) ? 1 : 0;
+         display("branchlessSearch", start, found);
+
+         start = System.nanoTime();
+         found = 0;
+         for (int query : queries)
+            found += (SearchTools.interpolationSearch(table, query) >= 0) ? 1 : 0;
+         display("interpolationSearch", start, found);
+
+         start = System.nanoTime();
+         found = 0;
+         for (int query : queries)
+            found += (eytzinger.search(query) >= 0) ? 1 : 0;
+         display("EytzingerArray.search", start, found);
+
+         start = System.nanoTime();
+         found = 0;
+         for (int position : eytzinger.searchAll(queries))
+            found += (position >= 0) ? 1 : 0;
+         display("EytzingerArray.searchAll", start, found);
+
+         start = System.nanoTime();
+         found = 0;
+         for (int position : SearchTools.searchAll(table, queries))
+            found += (position >= 0) ? 1 : 0;
+         display("searchAll", start, found);
+      }
+   }
+
+   /**
+      The display method shows the lookups per second since
+      a start time.
+      @param name The name of the method.
+      @param start The start time from System.nanoTime.
+      @param found The number of values found.
+   */
+
+   public static void display(String name, long start, long found)
+   {
+      double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.printf("   %-24s %6.1f million lookups/s (%d found)%n",
+                        name, QUERIES / seconds / 1e6, found);
+   }
+}
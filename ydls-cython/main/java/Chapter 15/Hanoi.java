@@ -1,10 +1,30 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
 /**
    This class displays a solution to the Towers of
    Hanoi game.
+
+   The constructor prints every move with the classic
+   recursion. The static methods produce the same
+   solution without recursion: move k of the 2^n - 1
+   moves can be computed directly from the bits of k,
+   so moves can be queried in O(1), iterated lazily,
+   streamed, or written in large blocks to a channel.
+   All of them move the discs from peg 1 to peg 3.
 */
 
 public class Hanoi
 {
+   public static final int MAX_DISCS = 62;   // 2^62 - 1 moves still fit in a long
+   static final int BLOCK_DISCS = 16;        // writeMoves repeats blocks of 2^16 - 1 moves
+   static final int BATCH_BYTES = 1 << 20;   // Block size of writeMoves
+
    private int numDiscs;   // Number of discs
    
    /**
@@ -41,4 +61,224 @@ public class Hanoi
          moveDiscs(num - 1, tempPeg, toPeg, fromPeg);
       }
    }
+
+   /**
+      The moveCount method returns the number of moves
+      needed to solve the game.
+      @param discs The number of discs (0 to MAX_DISCS).
+      @return 2^discs - 1
+   */
+
+   public static long moveCount(int discs)
+   {
+      if (discs < 0 || discs > MAX_DISCS)
+         throw new IllegalArgumentException("Number of discs must be between 0 and " +
+                                            MAX_DISCS + ": " + discs);
+      return (1L << discs) - 1;
+   }
+
+   /**
+      The move method returns move number k of the solution
+      in constant time. Disc d (1 = smallest) moves at every
+      k with d - 1 trailing zero bits. For an odd number of
+      discs, move k goes from peg (k & (k - 1)) % 3 to peg
+      ((k | (k - 1)) + 1) % 3 (pegs counted from 0); for an
+      even number, pegs 1 and 2 of that formula swap places.
+      @param discs The number of discs.
+      @param k The move number, from 1 to moveCount(discs).
+      @return The move, encoded as disc * 16 + fromPeg * 4 + toPeg;
+              see discOf, fromPegOf and toPegOf.
+   */
+
+   public static int move(int discs, long k)
+   {
+      if (k < 1 || k > moveCount(discs))
+         throw new IllegalArgumentException("Move " + k + " is outside 1.." +
+                                            moveCount(discs));
+      return encodedMove(discs, k);
+   }
+
+   /**
+      The discOf method decodes the disc of a move.
+      @param move A move from the move method.
+      @return The disc, 1 being the smallest.
+   */
+
+   public static int discOf(int move)
+   {
+      return move >>> 4;
+   }
+
+   /**
+      The fromPegOf method decodes the peg a move starts at.
+      @param move A move from the move method.
+      @return The peg, 1 to 3.
+   */
+
+   public static int fromPegOf(int move)
+   {
+      return (move >>> 2) & 3;
+   }
+
+   /**
+      The toPegOf method decodes the peg a move ends at.
+      @param move A move from the move method.
+      @return The peg, 1 to 3.
+   */
+
+   public static int toPegOf(int move)
+   {
+      return move & 3;
+   }
+
+   /**
+      The iterator method returns the moves of the solution
+      in order, computing each one when it is requested.
+      @param discs The number of discs.
+      @return An iterator of encoded moves.
+   */
+
+   public static PrimitiveIterator.OfInt iterator(int discs)
+   {
+      long total = moveCount(discs);
+      return new PrimitiveIterator.OfInt()
+      {
+         private long k = 1;   // Number of the next move
+
+         @Override
+         public boolean hasNext()
+         {
+            return k <= total;
+         }
+
+         @Override
+         public int nextInt()
+         {
+            if (k > total)
+               throw new NoSuchElementException();
+            return encodedMove(discs, k++);
+         }
+      };
+   }
+
+   /**
+      The moves method returns the moves of the solution as
+      a lazy stream. Each move only depends on its number,
+      so the stream splits evenly when run in parallel.
+      @param discs The number of discs.
+      @return A stream of encoded moves, in order.
+   */
+
+   public static IntStream moves(int discs)
+   {
+      return LongStream.rangeClosed(1, moveCount(discs))
+                       .mapToInt(k -> encodedMove(discs, k));
+   }
+
+   /**
+      The writeMoves method writes the solution to a channel
+      as one line per move, "from to" (for example "1 3").
+      Every line is 4 bytes. Between two moves of a disc
+      larger than BLOCK_DISCS, the solution repeats its first
+      2^BLOCK_DISCS - 1 moves with every peg turned by the
+      same amount (k and k + 2^BLOCK_DISCS only differ in
+      high bits, which add a constant to both formulas), so
+      those moves are prepared once for each of the three
+      turns and copied into a direct buffer that is written
+      in blocks of BATCH_BYTES bytes, instead of one
+      synchronized println per move.
+      @param discs The number of discs.
+      @param out The channel to write to. It is not closed.
+      @return The number of moves written.
+      @exception IOException When the channel fails.
+   */
+
+   public static long writeMoves(int discs, WritableByteChannel out)
+      throws IOException
+   {
+      long total = moveCount(discs);
+
+      // line[from * 3 + to] holds the bytes of "from to\n",
+      // with the pegs of the move formula (counted from 0).
+      int[] line = new int[9];
+      for (int from = 0; from < 3; from++)
+      {
+         for (int to = 0; to < 3; to++)
+         {
+            int fromPeg = (discs % 2 == 0) ? (3 - from) % 3 : from;
+            int toPeg = (discs % 2 == 0) ? (3 - to) % 3 : to;
+            line[from * 3 + to] = (('1' + fromPeg) << 24) | (' ' << 16) |
+                                  (('1' + toPeg) << 8) | '\n';
+         }
+      }
+
+      // block[turn] holds moves 1 to blockMoves with every
+      // peg turned by turn.
+      int blockDiscs = Math.min(discs, BLOCK_DISCS);
+      int blockMoves = (1 << blockDiscs) - 1;
+      byte[][] block = new byte[3][blockMoves * 4];
+      for (int turn = 0; turn < 3; turn++)
+      {
+         ByteBuffer moves = ByteBuffer.wrap(block[turn]);
+         for (int r = 1; r <= blockMoves; r++)
+         {
+            int from = ((r & (r - 1)) + turn) % 3;
+            int to = ((r | (r - 1)) + 1 + turn) % 3;
+            moves.putInt(line[from * 3 + to]);
+         }
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BATCH_BYTES);
+      long blocks = 1L << (discs - blockDiscs);
+      for (long q = 0; q < blocks; q++)
+      {
+         long k = q << blockDiscs;   // Move of a larger disc
+         if (q > 0)
+         {
+            int from = (int) ((k & (k - 1)) % 3);
+            int to = (int) (((k | (k - 1)) + 1) % 3);
+            if (buffer.remaining() < 4)
+               drain(buffer, out);
+            buffer.putInt(line[from * 3 + to]);
+         }
+         byte[] moves = block[(int) (k % 3)];
+         if (buffer.remaining() < moves.length)
+            drain(buffer, out);
+         buffer.put(moves);
+      }
+      drain(buffer, out);
+      return total;
+   }
+
+   /**
+      The drain method writes the contents of a buffer to a
+      channel and empties the buffer.
+   */
+
+   private static void drain(ByteBuffer buffer, WritableByteChannel out)
+      throws IOException
+   {
+      buffer.flip();
+      while (buffer.hasRemaining())
+         out.write(buffer);
+      buffer.clear();
+   }
+
+   /**
+      The encodedMove method computes move k without checking
+      its arguments.
+   */
+
+   private static int encodedMove(int discs, long k)
+   {
+      int from = (int) ((k & (k - 1)) % 3);
+      int to = (int) (((k | (k - 1)) + 1) % 3);
+      if (discs % 2 == 0)
+      {
+         from = (3 - from) % 3;
+         to = (3 - to) % 3;
+      }
+      int disc = Long.numberOfTrailingZeros(k) + 1;
+      return (disc << 4) | ((from + 1) << 2) | (to + 1);
+   }
 }
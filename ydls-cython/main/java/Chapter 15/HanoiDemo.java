@@ -1,3 +1,10 @@
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.PrimitiveIterator;
+
 /**
    This class demonstrates the Hanoi class, which
    displays the steps necessary to solve the Towers
@@ -6,8 +13,41 @@
 
 public class HanoiDemo
 {
-   static public void main(String[] args)
+   static public void main(String[] args) throws IOException
    {
       Hanoi towersOfHanoi = new Hanoi(3);
+
+      // Produce the same moves without recursion.
+      PrimitiveIterator.OfInt moves = Hanoi.iterator(3);
+      while (moves.hasNext())
+      {
+         int move = moves.nextInt();
+         System.out.println("Disc " + Hanoi.discOf(move) +
+                            ": peg " + Hanoi.fromPegOf(move) +
+                            " to peg " + Hanoi.toPegOf(move));
+      }
+
+      // Look up a single move of a 40-disc game.
+      int move = Hanoi.move(40, 549_755_813_888L);
+      System.out.println("Move 549755813888 of 40 discs moves disc " +
+                         Hanoi.discOf(move) + " from peg " +
+                         Hanoi.fromPegOf(move) + " to peg " +
+                         Hanoi.toPegOf(move));
+
+      // Write the 20-disc solution to a temporary file in
+      // large blocks, then delete the file.
+      Path file = Files.createTempFile("hanoi20", ".txt");
+      try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE))
+      {
+         long start = System.nanoTime();
+         long count = Hanoi.writeMoves(20, out);
+         System.out.println("Wrote " + count + " moves (" + Files.size(file) +
+                            " bytes) in " +
+                            (System.nanoTime() - start) / 1_000_000 + " ms");
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package anderson.app.lwjgl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads images from the classpath into memory, decoding each distinct file only once.
+ * <p>
+ * A resource is read straight into a direct {@link ByteBuffer} and handed to the
+ * {@link Decoder} from there (the game decodes with {@code stbi_load_from_memory}), with
+ * no temp file in between. Decoded images are cached by the SHA-256 of their encoded bytes,
+ * and the hash of each resource name is remembered: loading a resource again costs a map
+ * lookup, and two resources with the same content share one decode. The decoder makes no
+ * GL call, so loading can run on a background thread and be tested without a context.
+ * </p>
+ */
+public class Assets {
+    /** Turns an encoded image (PNG, ...) into RGBA pixels. */
+    @FunctionalInterface
+    public interface Decoder {
+        /**
+         * @param encoded the file's bytes, from position to limit, in a direct buffer
+         * @throws IOException if the bytes are not an image the decoder understands
+         */
+        Image decode(ByteBuffer encoded) throws IOException;
+    }
+
+    /** A decoded image: {@code width * height} pixels of 4 bytes (RGBA), row by row. */
+    public static final class Image {
+        public final int width, height;
+        public final ByteBuffer rgba;
+
+        public Image(int width, int height, ByteBuffer rgba) {
+            if (rgba.remaining() != width * height * 4) {
+                throw new IllegalArgumentException("Expected " + width * height * 4 + " bytes for " + width + "x" + height + ", got " + rgba.remaining());
+            }
+            this.width = width;
+            this.height = height;
+            this.rgba = rgba;
+        }
+    }
+
+    private final Decoder decoder;
+    private final Map<String, String> hashByResource = new ConcurrentHashMap<>();
+    private final Map<String, Image> imageByHash = new ConcurrentHashMap<>();
+    private final AtomicInteger decodes = new AtomicInteger();
+
+    public Assets(Decoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Loads an image from the classpath.
+     *
+     * @param resource absolute resource name, e.g. {@code /anderson/number_0.png}
+     * @throws IOException if the resource does not exist or cannot be decoded
+     */
+    public Image load(String resource) throws IOException {
+        String hash = hashByResource.get(resource);
+        if (hash != null) return imageByHash.get(hash);
+
+        byte[] bytes;
+        try (InputStream in = Assets.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IOException("Image not found: " + resource);
+            bytes = in.readAllBytes();
+        }
+        return load(resource, bytes);
+    }
+
+    /**
+     * Decodes an image given its encoded bytes, unless the same bytes were decoded before.
+     *
+     * @param resource name to remember the image under
+     * @throws IOException if the bytes cannot be decoded
+     */
+    public Image load(String resource, byte[] encoded) throws IOException {
+        String hash = sha256(encoded);
+        Image image = imageByHash.get(hash);
+        if (image == null) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+            image = decoder.decode(buffer);
+            decodes.incrementAndGet();
+            // two threads may decode the same bytes at once; either result is fine to keep
+            Image previous = imageByHash.putIfAbsent(hash, image);
+            if (previous != null) image = previous;
+        }
+        hashByResource.put(resource, hash);
+        return image;
+    }
+
+    /** @return how many times the decoder ran */
+    public int decodes() {
+        return decodes.get();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package anderson.app.lwjgl;
+
+import java.util.Arrays;
+
+/**
+ * Entities of one kind (mobs, stars) stored as a struct of arrays: entity {@code i} is
+ * {@code x[i], y[i], vx[i], vy[i], size[i]}, for {@code i} from 0 to {@link #size()} - 1.
+ * <p>
+ * A pass over all entities (moving every mob, rebuilding the {@link SpatialGrid}) walks a few
+ * flat {@code float[]} arrays front to back instead of chasing one heap object per entity,
+ * and nothing is allocated per entity. The arrays only grow, by doubling, when more entities
+ * are alive than ever before; the slots past {@code size()} are the free list that
+ * {@link #add} reuses, so spawning and removing in steady play allocates nothing.
+ * </p>
+ * <p>
+ * Removal is two-phase so that indices stay valid while a pass is running: {@link #kill}
+ * only sets a bit, and {@link #removeDead()} then swap-removes the marked entities (the last
+ * entity moves into each hole), which changes the order of the survivors.
+ * </p>
+ */
+final class EntityStore {
+    // lower-left corner, and the step taken during the last tick (the previous position is x - vx)
+    float[] x, y, vx, vy;
+    float[] size;
+    private long[] dead; // bit i set: entity i is killed and waits for removeDead()
+    private int count;
+    private int deadCount;
+
+    /**
+     * @param initialCapacity number of entities that fit before the arrays grow
+     */
+    EntityStore(int initialCapacity) {
+        x = new float[initialCapacity];
+        y = new float[initialCapacity];
+        vx = new float[initialCapacity];
+        vy = new float[initialCapacity];
+        size = new float[initialCapacity];
+        dead = new long[(initialCapacity + 63) >>> 6];
+    }
+
+    /** @return the number of entities, killed ones included until {@link #removeDead()} */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Adds an entity at rest.
+     *
+     * @return the index of the new entity
+     */
+    int add(float x, float y, float size) {
+        if (count == this.x.length) grow();
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.vx[i] = 0;
+        this.vy[i] = 0;
+        this.size[i] = size;
+        return i;
+    }
+
+    /** Marks entity {@code i} for removal by the next {@link #removeDead()}. */
+    void kill(int i) {
+        long bit = 1L << i;
+        if ((dead[i >>> 6] & bit) == 0) {
+            dead[i >>> 6] |= bit;
+            deadCount++;
+        }
+    }
+
+    boolean isDead(int i) {
+        return (dead[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Removes every killed entity by moving the last entity into its slot.
+     *
+     * @return the number of entities removed
+     */
+    int removeDead() {
+        int removed = deadCount;
+        // from the highest index down, so the entity moved into a hole is never a killed one
+        for (int word = (count - 1) >>> 6; deadCount > 0; word--) {
+            while (dead[word] != 0) {
+                int i = (word << 6) + 63 - Long.numberOfLeadingZeros(dead[word]);
+                dead[word] &= ~(1L << i);
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                size[i] = size[last];
+                deadCount--;
+            }
+        }
+        return removed;
+    }
+
+    /** Removes every entity; the arrays are kept for reuse. */
+    void clear() {
+        Arrays.fill(dead, 0, ((count + 63) >>> 6), 0L);
+        count = 0;
+        deadCount = 0;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, 2 * x.length);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        size = Arrays.copyOf(size, capacity);
+        dead = Arrays.copyOf(dead, (capacity + 63) >>> 6);
+    }
+}
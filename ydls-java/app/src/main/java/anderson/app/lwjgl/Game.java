@@ -12,12 +12,14 @@ import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWErrorCallback;
 import org.lwjgl.opengl.GL;
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
 import static org.lwjgl.stb.STBImage.*;
 import static org.lwjgl.stb.STBTruetype.*;
 import org.lwjgl.stb.STBTTFontinfo;
 import org.lwjgl.system.MemoryStack;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 
 import java.nio.ByteBuffer;
@@ -25,90 +27,31 @@ import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.io.IOException;
 import java.io.InputStream;
-import java.nio.channels.Channels;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
-import java.io.File;
+import java.io.UncheckedIOException;
 
 import java.util.Scanner;
 import static org.lwjgl.opengl.GL11.*;
 
 public class Game {
-    // world & camera
-    private final static float worldWidth = 2400f, worldHeight = 600f;
-    public static float getWorldWidth() { return worldWidth; }
-    private final float mapCenterX = worldWidth / 2.0f, mapCenterY = worldHeight / 2.0f;
-    private final float pctWidth = worldWidth*0.8f, pctHeight = worldHeight*0.8f;
-
-    private float[] starRectSpawnArea = {mapCenterX,mapCenterY,pctWidth,pctHeight}; //changeable
-    private float[] mobsRectsSpanArea = {mapCenterX,mapCenterY,pctWidth,pctHeight};
-    //[0]	Center X position of the rectangle,  [1]	Center Y position of the rectangle,
-    //  [2]	Width of the rectangle, [3]	Height of the rectangle
-    // normal starRectSpawnArea = {mapCenterX,mapCenterY,pctWidth,pctHeight};
-    //or clumped {50,20,1,1};         {mapCenterX,mapCenterY,0,0};
-    private Difficulty difficulty = Difficulty.IMPOSSIBLE; // Change to EASY, NORMAL, HARD, IMPOSSIBLE, NIGHTMARE.//changeable
-    private int totalMobsA = 0;
-    enum Difficulty {
-    EASY(10),
-    NORMAL(5),
-    HARD(1),
-    IMPOSSIBLE(0.5f),
-    NIGHTMARE(0.25f);
-    public final float mobPerStar;
-    Difficulty(float mobPerStar) { this.mobPerStar = mobPerStar;}
-    }
-    public static boolean freezeTime;
-
     private long window;
     private final int width = 800, height = 600;
 
-    List<Character> keys = new ArrayList<>(Arrays.asList('W','A','D','S','Q','E'));
-    private boolean keyShuffing;
-    private int DWSMB = 0; //determines with to show the movement keys
-    private void iFNIGHTMARESetUp() {
-    if (difficulty == Difficulty.NIGHTMARE) {
-        keyShuffing = true;
-    } else {
-        keyShuffing = false;
-    }
-    // If you want to do a more difficult EASY, NORMAL, HARD, or IMPOSSIBLE change the 2second keyshuffing to true;
-    keyShuffing = keyShuffing;
-    }
-
-
-    private boolean addMobsA = false;
-    private boolean MobsAlwayed = true; //changeable
-
-    // Texture cache for digits
-    private int[] digitTextures = null;
-
-
+    // Sprites packed into one texture, decoded on a background thread while the window opens
+    private CompletableFuture<TextureAtlas> spritesLoading;
+    private int spriteTexture;
+    private TextureAtlas.Region[] digits;
 
+    // The simulation: stepped at a fixed rate, drawn interpolated between its last two ticks
+    private World world;
+    private InputState input;
     private Camera camera;
-    private Player player;
-    private List<Platform> platforms;
-    private List<Star> stars;
-    private List<MobA> mobs;
 
-    //GAMBLING//    
-    private boolean dealarPayedThisRound = false;
-    private boolean canGamble = true;
-    //Shop//
-    private boolean shopOpened = false;
-    private boolean submitKeyPreviouslyDown = false;
-    private boolean key1PreviouslyDown = false;
-    private boolean key2PreviouslyDown = false;
-    public static boolean showDashCooldownMessage = false;
+    // Every sprite of a pass goes into the batch, which is uploaded to the VBO and drawn at once
+    private SpriteBatch batch;
+    private int spriteVbo;
 
-    // UI
-    private int lives = 5; 
-    private int score = 0;
-    
-    // Message system
-    private List<TextBoxMessage> messages = new ArrayList<>();
-    private static final int MAX_MESSAGES = 3;
-    
     // Font rendering system
     private ByteBuffer fontData;
     private int fontTexture;
@@ -116,10 +59,6 @@ public class Game {
     private static final int FONT_SIZE = 32;
     private static final int FONT_TEXTURE_SIZE = 512;
 
-    // controls mapping
-    private Map<String, Integer> keyMap;
-    //private final String[] possibleKeys = {"Q","A","W","S","E","D"};
-
     public void run() {
         init();
         loop();
@@ -137,232 +76,44 @@ public class Game {
         glClearColor(0.5f, 0.8f, 1f, 0);
 
         // setup world
-        camera = new Camera(width, height, worldWidth);
-        randomizeControls();
-        player = new Player(100, 50);
-        generatePlatforms();
-        spawnStars(5);
-        mobs = new ArrayList<>();
-        
-        // Initialize font
-        initFont();
-        
-    }
+        camera = new Camera(width, height, World.WIDTH);
+        world = new World(World.Difficulty.IMPOSSIBLE, System.nanoTime()); // Change to EASY, NORMAL, HARD, IMPOSSIBLE, NIGHTMARE.//changeable
+        input = key -> GLFW.glfwGetKey(window, getKeyCode(key)) == GLFW.GLFW_PRESS;
 
-    private void randomizeControls() {
-        if (keyShuffing) { Collections.shuffle(keys); }
-        keyMap = new HashMap<>();
-        keyMap.put("UP",    getKeyCode(keys.get(0)));
-        keyMap.put("LEFT",  getKeyCode(keys.get(1)));
-        keyMap.put("RIGHT", getKeyCode(keys.get(2)));
-        keyMap.put("DOWN",  getKeyCode(keys.get(3)));
-        keyMap.put("CHARATER SKILL",  getKeyCode(keys.get(4)));
-        keyMap.put("SUBMIT", GLFW.GLFW_KEY_ENTER); // Enter key fixed binding
-
-        if (keyShuffing) {
-            showMessage("Key Mapping:");
-            showMessage("UP    = " + keys.get(0));
-            showMessage("LEFT  = " + keys.get(1));
-            showMessage("RIGHT = " + keys.get(2));
-            showMessage("DOWN  = " + keys.get(3));
-            showMessage("CHARATER SKILL = " + keys.get(4));
-            DWSMB = 0;
-        }
-        showMessage("Press Enter For Shop");
-    }
+        // setup sprite batching
+        batch = new SpriteBatch(4096);
+        spriteVbo = glGenBuffers();
 
-    // Map character to GLFW key code
-    private int getKeyCode(char c) {
-        switch (c) {
-            case 'Q': return GLFW.GLFW_KEY_Q;
-            case 'A': return GLFW.GLFW_KEY_A;
-            case 'W': return GLFW.GLFW_KEY_W;
-            case 'S': return GLFW.GLFW_KEY_S;
-            case 'E': return GLFW.GLFW_KEY_E;
-            case 'D': return GLFW.GLFW_KEY_D;
-            default:  return GLFW.GLFW_KEY_SPACE;
-        }
-    }
+        // start decoding the sprites, the font loads meanwhile
+        Assets assets = new Assets(Game::decodeImage);
+        spritesLoading = CompletableFuture.supplyAsync(() -> packSprites(assets));
 
-    private void generatePlatforms() {
-        platforms = new ArrayList<>();
-        // ground
-        platforms.add(new Platform(0, 0, worldWidth, 20));
-        // floating
-        platforms.add(new Platform(400, 90, 200, 20));
-        platforms.add(new Platform(800, 140, 150, 20));
-        platforms.add(new Platform(1400,  290, 200, 20));
-        platforms.add(new Platform(2000, 190, 200, 20));
-    }
-
-    private void spawnStars(int count) {
-        stars = new ArrayList<>();
-        Random rnd = new Random();
-        for (int i = 0; i < count; i++) {
-            // Use starRectSpawnArea to define spawn boundaries
-            // 
-            // [0] = lowest y, [1] = leftmost x, [2] = highest y, [3] = rightmost x
-            // 20 50 20 50
-            // private int[] starRectSpawnArea = {mapCenterX,mapCenterY,pctWidth,pctHeight}; // {centerX, centerY, }
-            float x = starRectSpawnArea[0] - starRectSpawnArea[2] / 2.0f + rnd.nextFloat() * starRectSpawnArea[2];
-            float y = starRectSpawnArea[1] - starRectSpawnArea[3] / 2.0f + rnd.nextFloat() * starRectSpawnArea[3];
-            stars.add(new Star(x, y));
-        }
+        // Initialize font
+        initFont();
+        
     }
 
-    
-    private void spawnMobsA(int count) {
-        if (mobs == null) return; // respect your null check system
-
-        Random rnd = new Random();
-        for (int i = 0; i < count; i++) {
-            float x = mobsRectsSpanArea[0] - mobsRectsSpanArea[2] / 2.0f + rnd.nextFloat() * mobsRectsSpanArea[2];
-            float y = mobsRectsSpanArea[1] - mobsRectsSpanArea[3] / 2.0f + rnd.nextFloat() * mobsRectsSpanArea[3];
-            mobs.add(new MobA(x, y));
-        }
-        totalMobsA += count;
+    // Map key character to GLFW key code (GLFW codes of letters and digits are their ASCII codes)
+    private static int getKeyCode(char c) {
+        if (c == InputState.ENTER) return GLFW.GLFW_KEY_ENTER;
+        if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) return c;
+        return GLFW.GLFW_KEY_SPACE;
     }
 
     private void loop() {
         double last = GLFW.glfwGetTime();
         while (!GLFW.glfwWindowShouldClose(window)) {
             double now = GLFW.glfwGetTime();
-            float delta = (float)(now - last);
+            double delta = now - last;
             last = now;
 
-            update(delta);
-            render();
+            world.advance(delta, input); // zero, one or several fixed ticks
+            render(world.alpha());
             GLFW.glfwSwapBuffers(window);
             GLFW.glfwPollEvents();
         }
     }
 
-    
-    private void update(float dt) {
-        boolean submitPressed = GLFW.glfwGetKey(window, keyMap.get("SUBMIT")) == GLFW.GLFW_PRESS;
-        boolean key1Pressed = GLFW.glfwGetKey(window, GLFW.GLFW_KEY_1) == GLFW.GLFW_PRESS;
-        boolean key2Pressed = GLFW.glfwGetKey(window, GLFW.GLFW_KEY_2) == GLFW.GLFW_PRESS;
-        if (keyShuffing /*&& !freezeTime*/) {DWSMB += 1;}
-        if (DWSMB >= 500 && keyShuffing /*&& !freezeTime*/){
-            showMessage("Key Mapping:");
-            showMessage("UP    = " + keys.get(0));
-            showMessage("LEFT  = " + keys.get(1));
-            showMessage("RIGHT = " + keys.get(2));
-            showMessage("DOWN  = " + keys.get(3));
-            DWSMB = 0;
-        }
-
-        if (GLFW.glfwGetKey(window, keyMap.get("LEFT")) == GLFW.GLFW_PRESS) player.moveHoriz(-1, false);
-        if (GLFW.glfwGetKey(window, keyMap.get("RIGHT")) == GLFW.GLFW_PRESS) player.moveHoriz(1, true);
-        if (GLFW.glfwGetKey(window, keyMap.get("CHARATER SKILL")) == GLFW.GLFW_PRESS) {
-            if (player.witchCharter == 0) {
-                player.dash();
-            } else if (player.witchCharter == 1) {
-                canGamble = false;
-                gambling();
-            }
-        }
-        if (GLFW.glfwGetKey(window, keyMap.get("CHARATER SKILL")) == GLFW.GLFW_RELEASE && player.witchCharter == 1) {canGamble = true;}
-        if (GLFW.glfwGetKey(window, keyMap.get("UP")) == GLFW.GLFW_PRESS) player.jCharge();
-        if (GLFW.glfwGetKey(window, keyMap.get("UP")) == GLFW.GLFW_RELEASE) player.jump();
-        if (GLFW.glfwGetKey(window, keyMap.get("DOWN")) == GLFW.GLFW_PRESS) player.fall();
-
-        // Toggle shop with Enter
-        if (submitPressed && !submitKeyPreviouslyDown) {
-            shopOpened = !shopOpened;
-            freezeTime = shopOpened;
-            if (shopOpened) {
-                showMessage("You have entered the shop");
-                showMessage("The things you can buy are:");
-                if (player.witchCharter == 0) {
-                    showMessage("Press 1 for dash level 2 for 200 score");
-                } else if (player.witchCharter == 1 && !dealarPayedThisRound) {
-                    showMessage("Press 1 to pay the dealer this round for 200 score");
-                }
-            } else {
-                showMessage("You have left the shop");
-            }
-        }
-        submitKeyPreviouslyDown = submitPressed;
-
-        // Handle in-shop purchases (does NOT close shop)
-        if (shopOpened) {
-            if (key1Pressed && !key1PreviouslyDown) {
-                if (player.witchCharter == 0 && score >= 200) {
-                    score -= 200;
-                    showMessage("Dash level purchased!");
-                } else if (player.witchCharter == 1 && score >= 200 && !dealarPayedThisRound) {
-                    score -= 200;
-                    dealarPayedThisRound = true;
-                    showMessage("Dealer paid, your score is now: " + score);
-                } else {
-                    showMessage("You're too poor to buy that");
-                }
-            }
-        }
-        key1PreviouslyDown = key1Pressed;
-        key2PreviouslyDown = key2Pressed;
-
-        player.applyGravity(dt);
-        player.update(dt, platforms);
-        camera.follow(player);
-
-        // collect stars
-        stars.removeIf(s -> {
-            if (player.collides(s) || player.isStarInDashTriangle(s)) {
-                score++;
-                return true;
-            }
-            return false;
-        });
-        if (stars.isEmpty()) {
-            spawnStars(5);
-            randomizeControls();
-            addMobsA = true;
-        }
-        if (addMobsA && MobsAlwayed) {
-            int mobCount = Math.round(score * (1f / difficulty.mobPerStar));
-            spawnMobsA(mobCount);
-            addMobsA = false;
-        }
-
-        if (mobs != null) {
-            for (MobA m : mobs) m.update(dt);
-            mobs.removeIf(m -> {
-                if (player.collides(m)) {
-                    lives--;
-                    totalMobsA--;
-                    return true;
-                }
-                return false;
-            });
-        }
-
-        if (player.testing) {
-            showMessage("Total MobsA = " + totalMobsA);
-        }
-        
-        // Handle dash cooldown message
-        if (showDashCooldownMessage) {
-            showMessage("Dash is on cooldown! Wait for " + String.format("%.1f", player.getDashCooldown()) + " seconds.");
-            showDashCooldownMessage = false;
-        }
-        
-        // Update message timers and remove expired
-        messages.removeIf(msg -> {
-            msg.timer -= dt;
-            return msg.timer <= 0;
-        });
-    }
-    
-    public void showMessage(String text) {
-        // Limit to MAX_MESSAGES
-        if (messages.size() >= MAX_MESSAGES) {
-            messages.remove(0); // Remove oldest message
-        }
-        messages.add(new TextBoxMessage(text, 2.5f, 1.0f)); // 2.5s display, 1s fade
-    }
-    
     private void initFont() {
         try {
             // Load font file from resources using Path
@@ -396,12 +147,9 @@ public class Game {
     }
     
     private void renderMessages() {
+        List<TextBoxMessage> messages = world.messages();
         if (messages.isEmpty()) return;
         
-        // Enable blending for transparency
-        glEnable(GL_BLEND);
-        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
-        
         float startY = height * 0.25f;
         float messageHeight = 80f;  // Increased from 50f to accommodate larger text
         float spacing = 20f;        // Increased from 15f
@@ -413,34 +161,21 @@ public class Game {
             if (alpha <= 0) continue;
             
             // Draw background box
-            glColor4f(0f, 0f, 0f, 0.9f * alpha);  // More opaque background
+            batch.color(0f, 0f, 0f, 0.9f * alpha);  // More opaque background
             float boxW = width * 0.6f;
             float boxH = messageHeight;
             float boxX = (width - boxW) / 2f;
             float boxY = startY + i * (messageHeight + spacing);
-            
-            glBegin(GL_QUADS);
-            glVertex2f(boxX, boxY);
-            glVertex2f(boxX + boxW, boxY);
-            glVertex2f(boxX + boxW, boxY + boxH);
-            glVertex2f(boxX, boxY + boxH);
-            glEnd();
+            batch.quad(boxX, boxY, boxW, boxH);
             
             // Draw border
-            glColor4f(1f, 1f, 1f, 0.3f * alpha);
-            glBegin(GL_LINE_LOOP);
-            glVertex2f(boxX, boxY);
-            glVertex2f(boxX + boxW, boxY);
-            glVertex2f(boxX + boxW, boxY + boxH);
-            glVertex2f(boxX, boxY + boxH);
-            glEnd();
+            batch.color(1f, 1f, 1f, 0.3f * alpha);
+            batch.outline(boxX, boxY, boxW, boxH, 1);
             
             // Draw text
-            glColor4f(1f, 1f, 1f, alpha);
+            batch.color(1f, 1f, 1f, alpha);
             renderText(msg.text, boxX + 30, boxY + boxH / 2 + 10);
         }
-        
-        glDisable(GL_BLEND);
     }
     
     private void renderText(String text, float x, float y) {
@@ -455,7 +190,8 @@ public class Game {
         float currentX = x;
         float currentY = y;
         
-        for (char c : text.toCharArray()) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
             if (c == '\n') {
                 currentY -= charHeight + 5;
                 currentX = x;
@@ -468,79 +204,144 @@ public class Game {
             }
             
             // Draw a colored rectangle for each character with better contrast
-            glColor4f(1f, 1f, 1f, 1f);
-            glBegin(GL_QUADS);
-            glVertex2f(currentX, currentY);
-            glVertex2f(currentX + charWidth, currentY);
-            glVertex2f(currentX + charWidth, currentY + charHeight);
-            glVertex2f(currentX, currentY + charHeight);
-            glEnd();
+            batch.color(1f, 1f, 1f, 1f);
+            batch.quad(currentX, currentY, charWidth, charHeight);
             
             // Add a darker border for much better definition
-            glColor4f(0.3f, 0.3f, 0.3f, 1f);
-            glBegin(GL_LINE_LOOP);
-            glVertex2f(currentX, currentY);
-            glVertex2f(currentX + charWidth, currentY);
-            glVertex2f(currentX + charWidth, currentY + charHeight);
-            glVertex2f(currentX, currentY + charHeight);
-            glEnd();
+            batch.color(0.3f, 0.3f, 0.3f, 1f);
+            batch.outline(currentX, currentY, charWidth, charHeight, 1);
             
             currentX += charWidth + 3;
         }
     }
 
-    public void gambling() {
-        Random rnd = new Random();
-        if (!dealarPayedThisRound){
-            if (rnd.nextBoolean() && rnd.nextBoolean()) {
-                canGamble = false;
-                score += score;
-                showMessage("You won!");
-                showMessage("Your score has been doubled");
-                showMessage("Your new score is " + score);
-            } else {
-                canGamble = false;
-                score = 0;
-                showMessage("You lost!");
-                showMessage("The house always wins");
-                showMessage("Better luck next time and also buy the game pass");
-            }
-        }else {
-            if (rnd.nextBoolean() && rnd.nextBoolean()) {
-                canGamble = false;
-                dealarPayedThisRound = false;
-                score = 0;
-                showMessage("You lost!");
-                showMessage("The house always wins");
-                showMessage("Better luck next time and also buy the game pass");
-            } else {
-                canGamble = false;
-                dealarPayedThisRound = false;
-                score += score;
-                showMessage("You won!");
-                showMessage("Your score has been doubled");
-                showMessage("Your new score is " + score);
-            }
-        }
-    }
-
-    private void render() {
+    private void render(float alpha) {
         glClear(GL_COLOR_BUFFER_BIT);
+        Player player = world.player();
+        camera.follow(player.x(alpha));
         camera.begin();
 
         // draw platforms
-        for (Platform p : platforms) p.render();
+        for (Platform p : world.platforms()) renderPlatform(p);
         // draw stars
-        for (Star s : stars) s.render();
+        EntityStore stars = world.stars();
+        for (int i = 0; i < stars.size(); i++) renderStar(stars.x[i], stars.y[i]);
         // draw player
-        player.render();
+        renderPlayer(player, alpha);
         // draw mobs
-        if (mobs != null) { for (MobA m : mobs) m.render();}
+        EntityStore mobs = world.mobs();
+        for (int i = 0; i < mobs.size(); i++) renderMob(mobs, i, alpha);
+        drawBatch();
 
         camera.end();
 
         // UI overlay
         renderUI();
+        drawBatch();
+    }
+
+    /**
+     * Draws everything added to the batch since the last call, with the current projection,
+     * and empties the batch. The vertices are uploaded with {@code glBufferData}, which orphans
+     * the buffer the previous pass drew from instead of waiting for the GPU to finish with it,
+     * then each run of the same texture is one {@code glDrawArrays}. Only GL 1.5 buffers and
+     * client-side arrays are used, which every driver has, llvmpipe included.
+     */
+    private void drawBatch() {
+        if (batch.vertexCount() == 0) return;
+        glBindBuffer(GL_ARRAY_BUFFER, spriteVbo);
+        glBufferData(GL_ARRAY_BUFFER, batch.vertices(), GL_STREAM_DRAW);
+
+        glEnableClientState(GL_VERTEX_ARRAY);
+        glEnableClientState(GL_TEXTURE_COORD_ARRAY);
+        glEnableClientState(GL_COLOR_ARRAY);
+        glVertexPointer(2, GL_FLOAT, SpriteBatch.STRIDE, 0);
+        glTexCoordPointer(2, GL_FLOAT, SpriteBatch.STRIDE, 2 * Float.BYTES);
+        glColorPointer(4, GL_FLOAT, SpriteBatch.STRIDE, 4 * Float.BYTES);
+
+        // Enable blending for transparency
+        glEnable(GL_BLEND);
+        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        for (int r = 0; r < batch.runs(); r++) {
+            if (batch.runTexture(r) == 0) {
+                glDisable(GL_TEXTURE_2D);
+            } else {
+                glEnable(GL_TEXTURE_2D);
+                glBindTexture(GL_TEXTURE_2D, batch.runTexture(r));
+            }
+            glDrawArrays(GL_TRIANGLES, batch.runFirst(r), batch.runCount(r));
+        }
+        glBindTexture(GL_TEXTURE_2D, 0);
+        glDisable(GL_TEXTURE_2D);
+        glDisable(GL_BLEND);
+
+        glDisableClientState(GL_COLOR_ARRAY);
+        glDisableClientState(GL_TEXTURE_COORD_ARRAY);
+        glDisableClientState(GL_VERTEX_ARRAY);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+        batch.clear();
+        batch.texture(0);
+    }
+
+    private void renderPlatform(Platform p) {
+        batch.color(0.3f,0.3f,0.3f);
+        batch.quad(p.x, p.y, p.w, p.h);
+    }
+
+    private void renderStar(float sx, float sy) {
+        batch.color(1,1,0);
+        batch.triangle(sx, sy, sx+10, sy, sx+5, sy+15);
+    }
+
+    private void renderMob(EntityStore mobs, int i, float alpha) {
+        // back from the current position by the part of the last step not yet shown
+        float x = mobs.x[i] - mobs.vx[i] * (1 - alpha), y = mobs.y[i] - mobs.vy[i] * (1 - alpha);
+        float size = mobs.size[i];
+        batch.color(0.4f, 0.0f, 0.4f); // dark purple
+        batch.quad(x, y, size, size);
+    }
+
+    private void renderPlayer(Player p, float alpha) {
+        renderJumpOval(p); // draw oval if needed
+        renderDashEffect(p, alpha); // draw dash effect if needed
+
+        float x = p.x(alpha), y = p.y(alpha);
+        if (p.counter == 0) {
+            batch.color(0, 0, 1); // Blue when on ground
+        } else {
+            float red = Math.min(1.0f, p.counter / 300f); // Scale red based on charge
+            batch.color(red, 0, 1 - red); // Transition from blue to red
+        }
+        batch.quad(x, y, 20, 20);
+    }
+
+    private void renderJumpOval(Player p) {
+        if (!p.showAdditionalJumpOval || p.jumpOvalAlpha <= 0f) return;
+
+        batch.color(1f, 1f, 1f, p.jumpOvalAlpha); // fading opacity
+        batch.ellipse(p.jumpOvalX, p.jumpOvalY, 15f, 7f, 40);
+    }
+
+    private void renderDashEffect(Player p, float alpha) {
+        if (!p.showDashEffect || p.dashEffectAlpha <= 0f) return;
+
+        float x = p.x(alpha), y = p.y(alpha); // Position at current player position
+
+        // Use same color as player
+        if (p.counter == 0) {
+            batch.color(0, 0, 1, p.dashEffectAlpha); // Blue when on ground
+        } else {
+            float red = Math.min(1.0f, p.counter / 300f); // Scale red based on charge
+            batch.color(red, 0, 1 - red, p.dashEffectAlpha); // Transition from blue to red
+        }
+
+        if (p.dashLeftOrRight) {
+            // Triangle pointing left (base on right side of player)
+            batch.triangle(x, y, x, y + 20, x - 200, y + 10);
+        } else {
+            // Triangle pointing right (base on left side of player)
+            batch.triangle(x, y, x, y + 20, x + 200, y + 10);
+        }
     }
 
     private void renderUI() {
@@ -552,59 +353,37 @@ public class Game {
         glLoadIdentity();
 
         // Lives
-        glColor3f(1,0,0);
-        for (int i = 0; i < lives; i++) {
-            glBegin(GL_QUADS);
-            glVertex2f(10 + i*25, height - 10);
-            glVertex2f(25 + i*25, height - 10);
-            glVertex2f(25 + i*25, height - 25);
-            glVertex2f(10 + i*25, height - 25);
-            glEnd();
+        batch.color(1,0,0);
+        for (int i = 0; i < world.getLives(); i++) {
+            batch.quad(10 + i*25, height - 10, 15, -15);
         }
-        // Score indicator using digit textures
-        if (digitTextures == null) {
-            digitTextures = new int[10];
-            for (int i = 0; i < 10; i++) {
-                Path path = Paths.get("anderson", "number_" + i + ".png");
-                digitTextures[i] = loadTexture(path);
-            } 
+        // Score indicator using the digit sprites, from the first frame they are loaded
+        if (spriteTexture == 0 && spritesLoading.isDone()) {
+            TextureAtlas sprites = spritesLoading.join();
+            spriteTexture = uploadTexture(sprites);
+            digits = new TextureAtlas.Region[10];
+            for (int i = 0; i < 10; i++) digits[i] = sprites.region("number_" + i);
         }
 
-        String scoreStr = Integer.toString(score);
+        String scoreStr = Integer.toString(world.getScore());
         float sx = width / 2f - (scoreStr.length() * 20) / 2f;
         float sy = height - 30;
         float dx = 0;
 
         // Draw background for score
-        glColor3f(0.5f, 0.8f, 1f);
-        glBegin(GL_QUADS);
-        glVertex2f(sx - 10, sy - 5);
-        glVertex2f(sx + scoreStr.length() * 20 + 10, sy - 5);
-        glVertex2f(sx + scoreStr.length() * 20 + 10, sy + 25);
-        glVertex2f(sx - 10, sy - 5);
-        glEnd();
+        batch.color(0.5f, 0.8f, 1f);
+        batch.triangle(sx - 10, sy - 5, sx + scoreStr.length() * 20 + 10, sy - 5, sx + scoreStr.length() * 20 + 10, sy + 25);
 
-        // Enable blending for transparency
-        glEnable(GL_BLEND);
-        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
-        glEnable(GL_TEXTURE_2D);
-        
-        for (char c : scoreStr.toCharArray()) {
-            int digit = c - '0';
+        batch.color(1, 1, 1, 1); // Use alpha channel
+        batch.texture(spriteTexture); // all digits in one run
+        for (int i = 0; i < scoreStr.length() && digits != null; i++) {
+            int digit = scoreStr.charAt(i) - '0';
             if (digit < 0 || digit > 9) continue;
-            glBindTexture(GL_TEXTURE_2D, digitTextures[digit]);
-            glColor4f(1, 1, 1, 1); // Use alpha channel
-            glBegin(GL_QUADS);
-            glTexCoord2f(0, 0); glVertex2f(sx + dx, sy);
-            glTexCoord2f(1, 0); glVertex2f(sx + dx + 20, sy);
-            glTexCoord2f(1, 1); glVertex2f(sx + dx + 20, sy + 20);
-            glTexCoord2f(0, 1); glVertex2f(sx + dx, sy + 20);
-            glEnd();
+            TextureAtlas.Region d = digits[digit];
+            batch.quad(sx + dx, sy, 20, 20, d.u0, d.v0, d.u1, d.v1);
             dx += 20;
         }
-        glBindTexture(GL_TEXTURE_2D, 0);
-        glDisable(GL_TEXTURE_2D);
-        glDisable(GL_BLEND);
+        batch.texture(0);
         
         // Render messages
         renderMessages();
@@ -624,53 +403,56 @@ public class Game {
 
 
 
-    // Texture loading utility
-    private int loadTexture(Path resourcePath) {
-        int textureID;
+    // Packs every sprite into one atlas; runs on a background thread, without GL
+    private static TextureAtlas packSprites(Assets assets) {
+        TextureAtlas atlas = new TextureAtlas(256, 128, 1);
+        try {
+            for (int i = 0; i < 10; i++) {
+                atlas.add("number_" + i, assets.load("/anderson/number_" + i + ".png"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return atlas;
+    }
+
+    // Decodes a PNG from memory to RGBA, flipped so its first row is the bottom one as in GL
+    private static Assets.Image decodeImage(ByteBuffer encoded) throws IOException {
         try (MemoryStack stack = MemoryStack.stackPush()) {
             IntBuffer width = stack.mallocInt(1);
             IntBuffer height = stack.mallocInt(1);
             IntBuffer channels = stack.mallocInt(1);
 
-            // Load image from resource - convert Path to proper resource path
-            String resourcePathStr = "/" + resourcePath.toString().replace('\\', '/');
-            InputStream in = getClass().getResourceAsStream(resourcePathStr);
-            if (in == null) throw new RuntimeException("Image not found: " + resourcePathStr);
-
-            // Copy resource to a temp file
-            Path tempFile = Files.createTempFile("texture", ".png");
-            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
-
-            // Flip image vertically on load
-            stbi_set_flip_vertically_on_load(true);
-
-            // Load image data with alpha channel
-            ByteBuffer image = stbi_load(tempFile.toString(), width, height, channels, 4);
-            if (image == null) throw new RuntimeException("Failed to load texture: " + stbi_failure_reason());
-
-            // Generate OpenGL texture
-            textureID = glGenTextures();
-            glBindTexture(GL_TEXTURE_2D, textureID);
-            
-            // Enable alpha channel
-            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width.get(), height.get(), 0, GL_RGBA, GL_UNSIGNED_BYTE, image);
-
-            // Set texture parameters
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
-
-            stbi_image_free(image);
-            
-            // Clean up temp file
-            Files.deleteIfExists(tempFile);
-        } catch (Exception e) {
-            throw new RuntimeException("Error loading texture: " + resourcePath, e);
+            stbi_set_flip_vertically_on_load_thread(1);
+            ByteBuffer image = stbi_load_from_memory(encoded, width, height, channels, 4);
+            if (image == null) throw new IOException("Failed to decode image: " + stbi_failure_reason());
+            try {
+                ByteBuffer rgba = ByteBuffer.allocateDirect(image.remaining()).put(image).flip();
+                return new Assets.Image(width.get(0), height.get(0), rgba);
+            } finally {
+                stbi_image_free(image);
+            }
         }
+    }
+
+    // Texture upload utility
+    private static int uploadTexture(TextureAtlas atlas) {
+        int textureID = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, textureID);
+        
+        // Enable alpha channel
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, atlas.width(), atlas.height(), 0, GL_RGBA, GL_UNSIGNED_BYTE, atlas.pixels());
 
+        // Set texture parameters
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        glBindTexture(GL_TEXTURE_2D, 0);
         return textureID;
     }
 
     private void cleanup() {
+        glDeleteBuffers(spriteVbo);
+        if (spriteTexture != 0) glDeleteTextures(spriteTexture);
         GLFW.glfwDestroyWindow(window);
         GLFW.glfwTerminate();
         GLFW.glfwSetErrorCallback(null).free();
@@ -686,8 +468,8 @@ class Camera {
     private final float worldW;
     private float x;
     public Camera(int w, int h, float worldW) { screenW=w; screenH=h; this.worldW=worldW; }
-    public void follow(Player p) {
-        x = p.x - screenW/2f;
+    public void follow(float playerX) {
+        x = playerX - screenW/2f;
         if (x<0) x=0;
         if (x>worldW-screenW) x=worldW-screenW;
     }
@@ -700,385 +482,3 @@ class Camera {
     }
     public void end() { /* nothing */ }
 }
-
-// Simple player with gravity and collision
-class Player {
-    private final int width = 800, height = 600;
-    private final float worldWidth = width * 3f, worldHeight = height;
-    private final float speed = 200, jumpSpeed = 400, higherJumpAdditionalSpeed = 300, additionalJumpSpeed = 400;
-    private final int MAX_ADDITIONAL_JUMP = 2; //changed  /2 //changeable
-    private final int MAX_COUNTER = 300; //changeable
-    private final int _COUNTER_INCREMENT = 10; //changeable
-    public boolean testing = false; //changeable
-    public int witchCharter = 0; //changeable
-
-    public static float x, y;
-    private float vx, vy;
-    private boolean onGround;
-    private int counter;
-    private boolean enableAdditionalJump;
-    private boolean dashLeftOrRight = false;
-    private float dashCooldownTime = 0.51f; // changed  //1.0f //changeable
-    private float dashCooldown = dashCooldownTime; 
-    private int numberOfJump;
-    
-    // Dash effect variables
-    private boolean showDashEffect = false;
-    private float dashEffectTimer = 0f;
-    private final float dashEffectDuration = 0.1f; // Much faster fade out // 0.2f
-    private float dashEffectAlpha = 0f;
-    private float dashStartX = 0f; // Track where dash started
-    private int stopdashTellSpam;
-    private boolean uhhIThinkIsAboutTimeWhereDashShouldTell;
-
-    // For additional jump oval rendering
-    private boolean showAdditionalJumpOval = false;
-    private float jumpOvalTimer = 0f;
-    private final float jumpOvalDuration = 0.3f;
-    private float jumpOvalX = 0f, jumpOvalY = 0f;
-    private float jumpOvalAlpha = 0f;
-
-    public Player(float x, float y) {
-        this.x = x;
-        this.y = y;
-    }
-
-    public void moveHoriz(int dir,boolean leftOrRight ) {
-        if(!Game.freezeTime){
-            vx = dir * speed;
-            dashLeftOrRight = leftOrRight;
-        }
-    }
-
-    public void dash(){
-        if (dashCooldown <= 0.0f && !Game.freezeTime){
-            dashStartX = x; // Record starting position
-            if (dashLeftOrRight == true){
-                x += 200;
-                dashCooldown = dashCooldownTime;
-                dashEffectTimer = dashEffectDuration;
-                dashEffectAlpha = dashCooldownTime;
-                showDashEffect = true;
-                uhhIThinkIsAboutTimeWhereDashShouldTell = false;
-            }
-            if (dashLeftOrRight == false){
-                x += -200;
-                dashCooldown = dashCooldownTime;
-                dashEffectTimer = dashEffectDuration;
-                dashEffectAlpha = dashCooldownTime;
-                showDashEffect = true;
-                uhhIThinkIsAboutTimeWhereDashShouldTell = false;
-            }
-        } else if(!Game.freezeTime && uhhIThinkIsAboutTimeWhereDashShouldTell){
-            // Signal to Game that we want to show a dash cooldown message
-            Game.showDashCooldownMessage = true;
-            uhhIThinkIsAboutTimeWhereDashShouldTell = false;
-        }
-    }
-
-    public void jCharge() {
-        if (!Game.freezeTime) {
-            enableAdditionalJump = (!onGround && numberOfJump < MAX_ADDITIONAL_JUMP);
-
-            if (onGround && counter < MAX_COUNTER) {
-                counter += _COUNTER_INCREMENT;
-            }
-            if (counter >= higherJumpAdditionalSpeed) {
-                
-                counter = MAX_COUNTER;
-            }
-        }
-    }
-
-    public void jump() {
-        if (!Game.freezeTime) {
-            if (counter > _COUNTER_INCREMENT && onGround) {
-                vy = jumpSpeed + counter;
-                counter = 0;
-            }
-            if (enableAdditionalJump && !onGround) {
-                vy = additionalJumpSpeed;
-                this.enableAdditionalJump = false;
-                numberOfJump++;
-
-                // Show oval only when additional jump occurs
-                showAdditionalJumpOval = true;
-                jumpOvalTimer = jumpOvalDuration;
-                jumpOvalX = x + 10;
-                jumpOvalY = y - 5;
-                jumpOvalAlpha = 0.5f;
-            }
-        }
-    }
-
-    public void fall() {
-        if(!Game.freezeTime){
-            y += - 20;
-            testing = true;
-        }
-    }
-
-    public void applyGravity(float dt) {
-        if(!Game.freezeTime){
-        vy -= 980 * dt;
-        }
-    }
-
-    public void update(float dt, List<Platform> plats) {
-        if(!Game.freezeTime){
-            x += vx * dt;
-            y += vy * dt;
-            stopdashTellSpam += 1;
-            onGround = false;
-            testing = false;
-
-            if (stopdashTellSpam >= 10){
-                stopdashTellSpam = 0;
-                uhhIThinkIsAboutTimeWhereDashShouldTell = true;
-            }
-            if (x > worldWidth - 20) x = worldWidth - 20;
-            if (x < 0) x = 0;
-            if (y > worldHeight - 20) y = worldHeight - 20;
-            if (y < 20) y = 20;
-            for (Platform p : plats) {
-                if (p.x - 20 < x && x < p.x + p.w 
-                    && 
-                    p.y + p.h - 5 < y && y < p.y + p.h + 5) { // on the platform
-                    if(vy <= -1) { // only when falling (comming from top)
-                        y = p.y + p.h;
-                        onGround = true;
-                        numberOfJump = 0;
-                        vy = 0;
-                    }
-                }
-            }
-            // In Player class or wherever you manage dashCooldown
-            if (dashCooldown > 0.0f) {
-                dashCooldown -= 1.0f * dt;
-                if (dashCooldown < 0.0f){
-                    dashCooldown = 0.0f;
-                }
-            }
-
-            // Countdown timer for additional jump oval
-                    if (showAdditionalJumpOval) {
-                jumpOvalTimer += dt;
-
-                // Fade in for first 0.2s, then fade out for next 0.8s
-                if (jumpOvalTimer <= 0.2f) {
-                    jumpOvalAlpha = jumpOvalTimer / 0.2f; // 0 to 1
-                } else if (jumpOvalTimer <= 1.0f) {
-                    jumpOvalAlpha = 1f - (jumpOvalTimer - 0.2f) / 0.8f; // 1 to 0
-                } else {
-                    showAdditionalJumpOval = false;
-                    jumpOvalAlpha = 0f;
-                    jumpOvalTimer = 0f;
-                }
-            }
-            
-            // Update dash effect
-            if (showDashEffect) {
-                dashEffectTimer -= dt;
-                if (dashEffectTimer <= 0) {
-                    showDashEffect = false;
-                    dashEffectTimer = 0;
-                    dashEffectAlpha = 0;
-                } else {
-                    // Fade out effect
-                    dashEffectAlpha = dashEffectTimer / dashEffectDuration;
-                }
-            }
-            
-            if (testing) {
-                System.out.println("Player{x = " + x + 
-                ", y = " + y + ", vx = " + vx + ", vy = " + vy + 
-                ", onGround = " + onGround + ", dashLeftOrRight = " + dashLeftOrRight +
-                ",  counter = " + counter + ", numberOfJump = " + numberOfJump +
-                ", dashCooldown = " + dashCooldown +
-                "}");
-            }
-
-
-            if (y <= 20) {
-                y = 20;
-                onGround = true;
-                vy = 0;
-            }
-
-            vx = 0;
-        }
-    }
-
-    public boolean collides(Star s) {
-        return Math.hypot((x + 10) - s.x, (y + 10) - s.y) < 15;
-    }
-
-    public boolean collides(MobA m) {
-        return x < m.x + m.size && x + 20 > m.x && y < m.y + m.size && y + 20 > m.y;
-    }
-
-    public boolean isStarInDashTriangle(Star s) {// s.x = 10 && x = 50 --> x = -150 && s.x = 10 --> -10 (-150 - 200) = 340 == not within 50
-        if (!showDashEffect) return false; 
-        
-        return Math.abs((dashLeftOrRight ? x - 200 : x + 200) - s.x) <= 201 && Math.abs((y + 10) - s.y) < 15;
-    }
-
-    public void renderJumpOval() {
-        if (!showAdditionalJumpOval || jumpOvalAlpha <= 0f) return;
-
-        glPushMatrix();
-        glTranslatef(jumpOvalX, jumpOvalY, 0);
-
-        glColor4f(1f, 1f, 1f, jumpOvalAlpha); // fading opacity
-
-        int segments = 40;
-        float radiusX = 15f;
-        float radiusY = 7f;
-
-        glBegin(GL_TRIANGLE_FAN);
-        glVertex2f(0, 0);
-        for (int i = 0; i <= segments; i++) {
-            double angle = 2 * Math.PI * i / segments;
-            float dx = (float) Math.cos(angle) * radiusX;
-            float dy = (float) Math.sin(angle) * radiusY;
-            glVertex2f(dx, dy);
-        }
-        glEnd();
-
-        glPopMatrix();
-    }
-
-    public void renderDashEffect() {
-        if (!showDashEffect || dashEffectAlpha <= 0f) return;
-
-        glPushMatrix();
-        glTranslatef(x, y, 0); // Position at current player position
-
-        // Use same color as player
-        if (counter == 0) {
-            glColor4f(0, 0, 1, dashEffectAlpha); // Blue when on ground
-        } else {
-            float red = Math.min(1.0f, counter / 300f); // Scale red based on charge
-            glColor4f(red, 0, 1 - red, dashEffectAlpha); // Transition from blue to red
-        }
-
-        glBegin(GL_TRIANGLES);
-        if (dashLeftOrRight) {
-            // Triangle pointing left (base on right side of player)
-            glVertex2f(0, 0); // Base point
-            glVertex2f(0, 20); // Base point
-            glVertex2f(-200, 10); // Point back to start
-        } else {
-            // Triangle pointing right (base on left side of player)
-            glVertex2f(0, 0); // Base point
-            glVertex2f(0, 20); // Base point
-            glVertex2f(200, 10); // Point back to start
-        }
-        glEnd();
-
-        glPopMatrix();
-    }
-
-    public float getDashCooldown() {
-        return dashCooldown;
-    }
-
-    public void render() {
-        renderJumpOval(); // draw oval if needed
-        renderDashEffect(); // draw dash effect if needed
-
-        if (counter == 0) {
-            glColor3f(0, 0, 1); // Blue when on ground
-        } else {
-            float red = Math.min(1.0f, counter / 300f); // Scale red based on charge
-            glColor3f(red, 0, 1 - red); // Transition from blue to red
-        }
-
-        glBegin(GL_QUADS);
-        glVertex2f(x, y);
-        glVertex2f(x + 20, y);
-        glVertex2f(x + 20, y + 20);
-        glVertex2f(x, y + 20);
-        glEnd();
-    }
-}
-
-
-
-// Static platforms
-class Platform {
-    public float x, y, w, h;
-    public Platform(float x, float y, float w, float h) { this.x=x; this.y=y; this.w=w; this.h=h; }
-    public void render() {
-        glColor3f(0.3f,0.3f,0.3f);
-        glBegin(GL_QUADS);
-        glVertex2f(x, y);
-        glVertex2f(x+w, y);
-        glVertex2f(x+w, y+h);
-        glVertex2f(x, y+h);
-        glEnd();
-    }
-}
-
-// Collectible stars
-class Star {
-    public float x, y;
-    public Star(float x, float y) { this.x=x; this.y=y; }
-    public void render() {
-        glColor3f(1,1,0);
-        glBegin(GL_TRIANGLES);
-        glVertex2f(x, y);
-        glVertex2f(x+10, y);
-        glVertex2f(x+5, y+15);
-        glEnd();
-    }
-}
-
-// Simple mob stub
-class MobA {
-    public float x, y;
-    public float size=20;
-    public float movementdistants = 1;
-    public MobA(float x, float y) { this.x=x; this.y=y; }
-    public void update(float dt) {
-        render();
-        if (Game.freezeTime) return;
-        float distanceToPlayer = (float) Math.sqrt((Player.x - x)*(Player.x - x) + (Player.y - y)*(Player.y - y));
-        movementdistants = (float) (3 * Math.pow(0.998, distanceToPlayer) + 1);
-        int maxSpeed = 6;
-        int minSpeed = 2;
-        movementdistants = (float) ((maxSpeed - minSpeed) / Game.getWorldWidth() * distanceToPlayer + minSpeed);
-        if (Player.x - x > 0) {x += movementdistants;}
-        if (Player.x - x < 0) {x += -movementdistants;}
-        if (Player.y - y > 0) {y += movementdistants;}
-        if (Player.y - y < 0) {y += -movementdistants;}
-    }
-            
-    public void render() {
-        glColor3f(0.4f, 0.0f, 0.4f); // dark purple
-        glBegin(GL_QUADS);
-        glVertex2f(x, y);
-        glVertex2f(x+size, y);
-        glVertex2f(x+size, y+size);
-        glVertex2f(x, y+size);
-        glEnd();
-    }
-}
-
-// TextBox message class for in-game notifications
-class TextBoxMessage {
-    public String text;
-    public float timer; // seconds left
-    public float fadeTime; // seconds to fade out
-
-    public TextBoxMessage(String text, float duration, float fadeTime) {
-        this.text = text;
-        this.timer = duration;
-        this.fadeTime = fadeTime;
-    }
-
-    public float getAlpha() {
-        if (timer > fadeTime) return 1f;
-        return Math.max(0f, timer / fadeTime);
-    }
-}
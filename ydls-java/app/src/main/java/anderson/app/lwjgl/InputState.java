@@ -0,0 +1,24 @@
+package anderson.app.lwjgl;
+
+/**
+ * The keys {@link World} reads each tick, so the simulation does not depend on GLFW.
+ * <p>
+ * A key is named by the character printed on it: the movement letters {@code 'Q', 'W', 'E',
+ * 'A', 'S', 'D'}, the shop digits {@code '1'} and {@code '2'}, and {@link #ENTER}. The window
+ * adapts {@code glfwGetKey} to this interface; headless runs and tests pass a lambda.
+ * </p>
+ */
+@FunctionalInterface
+public interface InputState {
+    /** the Enter key */
+    char ENTER = '\n';
+
+    /** no key held down */
+    InputState NONE = key -> false;
+
+    /**
+     * @param key the character on the key
+     * @return whether the key is held down during the current tick
+     */
+    boolean isDown(char key);
+}
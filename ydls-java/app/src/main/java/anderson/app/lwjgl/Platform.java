@@ -0,0 +1,7 @@
+package anderson.app.lwjgl;
+
+// Static platforms
+class Platform {
+    public float x, y, w, h;
+    public Platform(float x, float y, float w, float h) { this.x=x; this.y=y; this.w=w; this.h=h; }
+}
@@ -0,0 +1,241 @@
+package anderson.app.lwjgl;
+
+import java.util.List;
+
+// Simple player with gravity and collision
+class Player {
+    private final int width = 800, height = 600;
+    private final float worldWidth = width * 3f, worldHeight = height;
+    private final float speed = 200, jumpSpeed = 400, higherJumpAdditionalSpeed = 300, additionalJumpSpeed = 400;
+    private final int MAX_ADDITIONAL_JUMP = 2; //changed  /2 //changeable
+    private final int MAX_COUNTER = 300; //changeable
+    private final int _COUNTER_INCREMENT = 10; //changeable
+    public boolean testing = false; //changeable
+    public int witchCharter = 0; //changeable
+
+    public float x, y;
+    float px, py; // position at the start of the tick, for interpolation
+    private float vx, vy;
+    private boolean onGround;
+    int counter;
+    private boolean enableAdditionalJump;
+    boolean dashLeftOrRight = false;
+    private float dashCooldownTime = 0.51f; // changed  //1.0f //changeable
+    private float dashCooldown = dashCooldownTime;
+    private int numberOfJump;
+    boolean frozen; // set by World while the shop is open
+    boolean dashCooldownMessage; // asks World to show the dash cooldown message
+
+    // Dash effect variables
+    boolean showDashEffect = false;
+    private float dashEffectTimer = 0f;
+    private final float dashEffectDuration = 0.1f; // Much faster fade out // 0.2f
+    float dashEffectAlpha = 0f;
+    private float dashStartX = 0f; // Track where dash started
+    private int stopdashTellSpam;
+    private boolean uhhIThinkIsAboutTimeWhereDashShouldTell;
+
+    // For additional jump oval rendering
+    boolean showAdditionalJumpOval = false;
+    private float jumpOvalTimer = 0f;
+    private final float jumpOvalDuration = 0.3f;
+    float jumpOvalX = 0f, jumpOvalY = 0f;
+    float jumpOvalAlpha = 0f;
+
+    public Player(float x, float y) {
+        this.x = x;
+        this.y = y;
+        savePosition();
+    }
+
+    void savePosition() { px = x; py = y; }
+    /** x between the previous and the current tick, {@code alpha} of the way */
+    float x(float alpha) { return px + (x - px) * alpha; }
+    /** y between the previous and the current tick, {@code alpha} of the way */
+    float y(float alpha) { return py + (y - py) * alpha; }
+
+    public void moveHoriz(int dir,boolean leftOrRight ) {
+        if(!frozen){
+            vx = dir * speed;
+            dashLeftOrRight = leftOrRight;
+        }
+    }
+
+    public void dash(){
+        if (dashCooldown <= 0.0f && !frozen){
+            dashStartX = x; // Record starting position
+            if (dashLeftOrRight == true){
+                x += 200;
+                dashCooldown = dashCooldownTime;
+                dashEffectTimer = dashEffectDuration;
+                dashEffectAlpha = dashCooldownTime;
+                showDashEffect = true;
+                uhhIThinkIsAboutTimeWhereDashShouldTell = false;
+            }
+            if (dashLeftOrRight == false){
+                x += -200;
+                dashCooldown = dashCooldownTime;
+                dashEffectTimer = dashEffectDuration;
+                dashEffectAlpha = dashCooldownTime;
+                showDashEffect = true;
+                uhhIThinkIsAboutTimeWhereDashShouldTell = false;
+            }
+        } else if(!frozen && uhhIThinkIsAboutTimeWhereDashShouldTell){
+            // Signal to World that we want to show a dash cooldown message
+            dashCooldownMessage = true;
+            uhhIThinkIsAboutTimeWhereDashShouldTell = false;
+        }
+    }
+
+    public void jCharge() {
+        if (!frozen) {
+            enableAdditionalJump = (!onGround && numberOfJump < MAX_ADDITIONAL_JUMP);
+
+            if (onGround && counter < MAX_COUNTER) {
+                counter += _COUNTER_INCREMENT;
+            }
+            if (counter >= higherJumpAdditionalSpeed) {
+
+                counter = MAX_COUNTER;
+            }
+        }
+    }
+
+    public void jump() {
+        if (!frozen) {
+            if (counter > _COUNTER_INCREMENT && onGround) {
+                vy = jumpSpeed + counter;
+                counter = 0;
+            }
+            if (enableAdditionalJump && !onGround) {
+                vy = additionalJumpSpeed;
+                this.enableAdditionalJump = false;
+                numberOfJump++;
+
+                // Show oval only when additional jump occurs
+                showAdditionalJumpOval = true;
+                jumpOvalTimer = jumpOvalDuration;
+                jumpOvalX = x + 10;
+                jumpOvalY = y - 5;
+                jumpOvalAlpha = 0.5f;
+            }
+        }
+    }
+
+    public void fall() {
+        if(!frozen){
+            y += - 20;
+            testing = true;
+        }
+    }
+
+    public void applyGravity(float dt) {
+        if(!frozen){
+        vy -= 980 * dt;
+        }
+    }
+
+    public void update(float dt, List<Platform> plats) {
+        if(!frozen){
+            x += vx * dt;
+            y += vy * dt;
+            stopdashTellSpam += 1;
+            onGround = false;
+            testing = false;
+
+            if (stopdashTellSpam >= 10){
+                stopdashTellSpam = 0;
+                uhhIThinkIsAboutTimeWhereDashShouldTell = true;
+            }
+            if (x > worldWidth - 20) x = worldWidth - 20;
+            if (x < 0) x = 0;
+            if (y > worldHeight - 20) y = worldHeight - 20;
+            if (y < 20) y = 20;
+            for (int i = 0; i < plats.size(); i++) {
+                Platform p = plats.get(i);
+                if (p.x - 20 < x && x < p.x + p.w
+                    &&
+                    p.y + p.h - 5 < y && y < p.y + p.h + 5) { // on the platform
+                    if(vy <= -1) { // only when falling (comming from top)
+                        y = p.y + p.h;
+                        onGround = true;
+                        numberOfJump = 0;
+                        vy = 0;
+                    }
+                }
+            }
+            // In Player class or wherever you manage dashCooldown
+            if (dashCooldown > 0.0f) {
+                dashCooldown -= 1.0f * dt;
+                if (dashCooldown < 0.0f){
+                    dashCooldown = 0.0f;
+                }
+            }
+
+            // Countdown timer for additional jump oval
+                    if (showAdditionalJumpOval) {
+                jumpOvalTimer += dt;
+
+                // Fade in for first 0.2s, then fade out for next 0.8s
+                if (jumpOvalTimer <= 0.2f) {
+                    jumpOvalAlpha = jumpOvalTimer / 0.2f; // 0 to 1
+                } else if (jumpOvalTimer <= 1.0f) {
+                    jumpOvalAlpha = 1f - (jumpOvalTimer - 0.2f) / 0.8f; // 1 to 0
+                } else {
+                    showAdditionalJumpOval = false;
+                    jumpOvalAlpha = 0f;
+                    jumpOvalTimer = 0f;
+                }
+            }
+
+            // Update dash effect
+            if (showDashEffect) {
+                dashEffectTimer -= dt;
+                if (dashEffectTimer <= 0) {
+                    showDashEffect = false;
+                    dashEffectTimer = 0;
+                    dashEffectAlpha = 0;
+                } else {
+                    // Fade out effect
+                    dashEffectAlpha = dashEffectTimer / dashEffectDuration;
+                }
+            }
+
+            if (testing) {
+                System.out.println("Player{x = " + x +
+                ", y = " + y + ", vx = " + vx + ", vy = " + vy +
+                ", onGround = " + onGround + ", dashLeftOrRight = " + dashLeftOrRight +
+                ",  counter = " + counter + ", numberOfJump = " + numberOfJump +
+                ", dashCooldown = " + dashCooldown +
+                "}");
+            }
+
+
+            if (y <= 20) {
+                y = 20;
+                onGround = true;
+                vy = 0;
+            }
+
+            vx = 0;
+        }
+    }
+
+    public boolean collidesStar(float starX, float starY) {
+        return Math.hypot((x + 10) - starX, (y + 10) - starY) < 15;
+    }
+
+    public boolean collidesMob(float mobX, float mobY, float mobSize) {
+        return x < mobX + mobSize && x + 20 > mobX && y < mobY + mobSize && y + 20 > mobY;
+    }
+
+    public boolean isStarInDashTriangle(float starX, float starY) {// s.x = 10 && x = 50 --> x = -150 && s.x = 10 --> -10 (-150 - 200) = 340 == not within 50
+        if (!showDashEffect) return false;
+
+        return Math.abs((dashLeftOrRight ? x - 200 : x + 200) - starX) <= 201 && Math.abs((y + 10) - starY) < 15;
+    }
+
+    public float getDashCooldown() {
+        return dashCooldown;
+    }
+}
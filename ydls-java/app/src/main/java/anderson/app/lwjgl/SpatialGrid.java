@@ -0,0 +1,130 @@
+package anderson.app.lwjgl;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid over the world that buckets entities by the cell of their lower-left corner,
+ * so a box query looks at the few cells around the box instead of at every entity.
+ * <p>
+ * The grid is rebuilt from the entity positions every tick with a counting sort, in the
+ * compressed layout of a sparse matrix: the entities of cell {@code c} are
+ * {@code items[cellStart[c]]} to {@code items[cellStart[c + 1] - 1]}. A rebuild is two linear
+ * passes over the entities and allocates nothing once the arrays fit the entity count.
+ * </p>
+ * <p>
+ * Entities are boxes no larger than {@code extent} on either side, and cells are as large as
+ * that extent: an entity overlapping a query box has its corner at most one extent left of or
+ * below the box, so a query of a 20x20 box over 20x20 entities touches at most 3x3 cells.
+ * Positions outside the world are clamped into the border cells and are still found.
+ * </p>
+ */
+public class SpatialGrid {
+    private final float extent;
+    private final float cellSize;
+    private final int columns, rows;
+    private final int[] cellStart; // cell c holds items[cellStart[c]] to items[cellStart[c + 1] - 1]
+    private final int[] cursor;    // next free slot of each cell while placing
+    private int[] cellOf = new int[0];
+    private int[] items = new int[0];
+    private int[] found = new int[64];
+    private int size;
+
+    /**
+     * @param width  width of the world
+     * @param height height of the world
+     * @param extent largest width or height of an entity
+     * @throws IllegalArgumentException if a size is not positive
+     */
+    public SpatialGrid(float width, float height, float extent) {
+        if (!(width > 0 && height > 0 && extent > 0)) {
+            throw new IllegalArgumentException("Sizes must be positive: " + width + "x" + height + ", extent " + extent);
+        }
+        this.extent = extent;
+        this.cellSize = extent;
+        columns = (int) Math.ceil(width / cellSize);
+        rows = (int) Math.ceil(height / cellSize);
+        cellStart = new int[columns * rows + 1];
+        cursor = new int[columns * rows];
+    }
+
+    /**
+     * Replaces the contents of the grid with entities {@code 0} to {@code count - 1}.
+     *
+     * @param x     lower-left x of each entity
+     * @param y     lower-left y of each entity
+     * @param count number of entities
+     */
+    public void build(float[] x, float[] y, int count) {
+        if (items.length < count) {
+            int capacity = Math.max(count, 2 * items.length);
+            items = new int[capacity];
+            cellOf = new int[capacity];
+        }
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < count; i++) {
+            int c = column(x[i]) + row(y[i]) * columns;
+            cellOf[i] = c;
+            cellStart[c + 1]++;
+        }
+        for (int c = 0; c < cursor.length; c++) {
+            cellStart[c + 1] += cellStart[c];
+            cursor[c] = cellStart[c];
+        }
+        for (int i = 0; i < count; i++) {
+            items[cursor[cellOf[i]]++] = i;
+        }
+        size = count;
+    }
+
+    /**
+     * Finds the entities that may overlap a box: every entity that does is found, along with
+     * some near it that do not, so callers still test each result exactly.
+     *
+     * @return the number of entities found; their indices are the first ones of {@link #results()}
+     */
+    public int query(float minX, float minY, float maxX, float maxY) {
+        return query(minX, minY, maxX, maxY, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #query(float, float, float, float)}, but stops after {@code limit} entities,
+     * so a query into a crowded spot costs no more than {@code limit}. The entities kept are
+     * the first ones of the cells, by row from the bottom, not the nearest ones.
+     */
+    public int query(float minX, float minY, float maxX, float maxY, int limit) {
+        int c0 = column(minX - extent), c1 = column(maxX);
+        int r0 = row(minY - extent), r1 = row(maxY);
+        int n = 0;
+        for (int r = r0; r <= r1 && n < limit; r++) {
+            int from = cellStart[r * columns + c0], to = cellStart[r * columns + c1 + 1];
+            int length = Math.min(to - from, limit - n);
+            if (n + length > found.length) {
+                found = Arrays.copyOf(found, Math.max(n + length, 2 * found.length));
+            }
+            // the cells of a row are adjacent in items
+            System.arraycopy(items, from, found, n, length);
+            n += length;
+        }
+        return n;
+    }
+
+    /**
+     * @return the indices found by the last {@link #query}, valid until the next query
+     */
+    public int[] results() {
+        return found;
+    }
+
+    /** @return the number of entities in the grid */
+    public int size() {
+        return size;
+    }
+
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+}
@@ -0,0 +1,180 @@
+package anderson.app.lwjgl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+/**
+ * Collects the sprites of a frame as triangles in one vertex buffer, so they can be drawn with
+ * one upload and one draw call per texture instead of one {@code glBegin}/{@code glEnd} per quad.
+ * <p>
+ * Each vertex is {@link #FLOATS_PER_VERTEX} floats, {@code x, y, u, v, r, g, b, a}, and every
+ * shape is stored as separate triangles ({@code GL_TRIANGLES}), so quads, triangles and fans
+ * share one buffer. The vertices go into a direct, native-order buffer that GL can read
+ * as is, but this class makes no GL call: the vertex output can be checked without a context.
+ * </p>
+ * <p>
+ * The vertices are split into runs by texture: run {@code r} is {@link #runCount(int)}
+ * vertices from {@link #runFirst(int)}, drawn with texture {@link #runTexture(int)}, where 0
+ * means untextured. Consecutive sprites with the same texture extend the same run.
+ * </p>
+ */
+public class SpriteBatch {
+    /** floats per vertex: position, texture coordinates, color */
+    public static final int FLOATS_PER_VERTEX = 8;
+    /** bytes between two vertices */
+    public static final int STRIDE = FLOATS_PER_VERTEX * Float.BYTES;
+
+    private FloatBuffer vertices;
+    private int vertexCount;
+    private float r = 1, g = 1, b = 1, a = 1;
+    private int texture;
+
+    private int[] runTexture = new int[8], runFirst = new int[8], runCount = new int[8];
+    private int runs;
+
+    /**
+     * @param initialVertices number of vertices that fit before the buffer grows
+     */
+    public SpriteBatch(int initialVertices) {
+        vertices = allocate(Math.max(6, initialVertices));
+    }
+
+    /** Sets the color of the following vertices. */
+    public void color(float r, float g, float b, float a) {
+        this.r = r;
+        this.g = g;
+        this.b = b;
+        this.a = a;
+    }
+
+    public void color(float r, float g, float b) {
+        color(r, g, b, 1);
+    }
+
+    /** Sets the texture of the following shapes, 0 for none. */
+    public void texture(int texture) {
+        this.texture = texture;
+    }
+
+    /** Adds an untextured rectangle; a negative width or height extends left or down. */
+    public void quad(float x, float y, float w, float h) {
+        quad(x, y, w, h, 0, 0, 0, 0);
+    }
+
+    /** Adds a rectangle with texture coordinates {@code (u0, v0)} at {@code (x, y)} to {@code (u1, v1)} at the opposite corner. */
+    public void quad(float x, float y, float w, float h, float u0, float v0, float u1, float v1) {
+        reserve(6);
+        vertex(x, y, u0, v0);
+        vertex(x + w, y, u1, v0);
+        vertex(x + w, y + h, u1, v1);
+        vertex(x, y, u0, v0);
+        vertex(x + w, y + h, u1, v1);
+        vertex(x, y + h, u0, v1);
+    }
+
+    public void triangle(float x0, float y0, float x1, float y1, float x2, float y2) {
+        reserve(3);
+        vertex(x0, y0, 0, 0);
+        vertex(x1, y1, 0, 0);
+        vertex(x2, y2, 0, 0);
+    }
+
+    /**
+     * Adds the border of a rectangle as four bars {@code thickness} wide, inside the rectangle,
+     * in place of a {@code GL_LINE_LOOP}.
+     */
+    public void outline(float x, float y, float w, float h, float thickness) {
+        quad(x, y, w, thickness);
+        quad(x, y + h - thickness, w, thickness);
+        quad(x, y + thickness, thickness, h - 2 * thickness);
+        quad(x + w - thickness, y + thickness, thickness, h - 2 * thickness);
+    }
+
+    /**
+     * Adds a filled ellipse around {@code (cx, cy)} as {@code segments} triangles, in place
+     * of a {@code GL_TRIANGLE_FAN}.
+     */
+    public void ellipse(float cx, float cy, float radiusX, float radiusY, int segments) {
+        float px = cx + radiusX, py = cy;
+        for (int i = 1; i <= segments; i++) {
+            double angle = 2 * Math.PI * i / segments;
+            float x = cx + (float) Math.cos(angle) * radiusX;
+            float y = cy + (float) Math.sin(angle) * radiusY;
+            triangle(cx, cy, px, py, x, y);
+            px = x;
+            py = y;
+        }
+    }
+
+    /**
+     * @return the vertices added since the last {@link #clear()}, from position 0 to the limit;
+     *         a view that stays valid until the next shape is added
+     */
+    public FloatBuffer vertices() {
+        FloatBuffer view = vertices.duplicate();
+        view.position(0).limit(vertexCount * FLOATS_PER_VERTEX);
+        return view;
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    /** @return the number of runs, one per change of texture */
+    public int runs() {
+        return runs;
+    }
+
+    public int runTexture(int run) {
+        return runTexture[run];
+    }
+
+    public int runFirst(int run) {
+        return runFirst[run];
+    }
+
+    public int runCount(int run) {
+        return runCount[run];
+    }
+
+    /** Drops every shape and run; the color, the texture and the buffer are kept. */
+    public void clear() {
+        vertices.clear();
+        vertexCount = 0;
+        runs = 0;
+    }
+
+    // makes room for n more vertices of the current texture, in the current run or a new one
+    private void reserve(int n) {
+        int needed = (vertexCount + n) * FLOATS_PER_VERTEX;
+        if (needed > vertices.capacity()) {
+            FloatBuffer larger = allocate(Math.max(needed, 2 * vertices.capacity()) / FLOATS_PER_VERTEX);
+            vertices.flip();
+            larger.put(vertices);
+            vertices = larger;
+        }
+        if (runs == 0 || runTexture[runs - 1] != texture) {
+            if (runs == runTexture.length) {
+                runTexture = Arrays.copyOf(runTexture, 2 * runs);
+                runFirst = Arrays.copyOf(runFirst, 2 * runs);
+                runCount = Arrays.copyOf(runCount, 2 * runs);
+            }
+            runTexture[runs] = texture;
+            runFirst[runs] = vertexCount;
+            runCount[runs] = 0;
+            runs++;
+        }
+        runCount[runs - 1] += n;
+    }
+
+    private void vertex(float x, float y, float u, float v) {
+        vertices.put(x).put(y).put(u).put(v).put(r).put(g).put(b).put(a);
+        vertexCount++;
+    }
+
+    private static FloatBuffer allocate(int vertices) {
+        return ByteBuffer.allocateDirect(vertices * STRIDE).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+}
@@ -0,0 +1,21 @@
+package anderson.app.lwjgl;
+
+// TextBox message class for in-game notifications
+class TextBoxMessage {
+    public String text;
+    public float timer; // seconds left
+    public float fadeTime; // seconds to fade out
+
+    // reused through World's free list instead of allocated per message
+    TextBoxMessage reset(String text, float duration, float fadeTime) {
+        this.text = text;
+        this.timer = duration;
+        this.fadeTime = fadeTime;
+        return this;
+    }
+
+    public float getAlpha() {
+        if (timer > fadeTime) return 1f;
+        return Math.max(0f, timer / fadeTime);
+    }
+}
@@ -0,0 +1,103 @@
+package anderson.app.lwjgl;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Packs many small images into one RGBA texture, so sprites drawn from different images
+ * share a texture and a {@link SpriteBatch} draws them in a single run.
+ * <p>
+ * Images are placed left to right on shelves, a new shelf starting above the tallest image
+ * of the previous one, with {@code padding} empty pixels around each so linear filtering
+ * does not bleed neighbors in. Each image's {@link Region} gives its texture coordinates.
+ * Packing is plain Java and makes no GL call; uploading {@link #pixels()} is up to the caller.
+ * </p>
+ */
+public class TextureAtlas {
+    /** Where an image landed, in pixels and in texture coordinates. */
+    public static final class Region {
+        public final int x, y, width, height;
+        public final float u0, v0, u1, v1;
+
+        Region(int x, int y, int width, int height, int atlasWidth, int atlasHeight) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            u0 = (float) x / atlasWidth;
+            v0 = (float) y / atlasHeight;
+            u1 = (float) (x + width) / atlasWidth;
+            v1 = (float) (y + height) / atlasHeight;
+        }
+    }
+
+    private final int width, height, padding;
+    private final ByteBuffer pixels;
+    private final Map<String, Region> regions = new HashMap<>();
+    private int shelfX, shelfY, shelfHeight;
+
+    /**
+     * @param width   width of the atlas in pixels
+     * @param height  height of the atlas in pixels
+     * @param padding empty pixels kept around every image
+     * @throws IllegalArgumentException if a size is not positive or the padding is negative
+     */
+    public TextureAtlas(int width, int height, int padding) {
+        if (width <= 0 || height <= 0 || padding < 0) {
+            throw new IllegalArgumentException("Invalid atlas " + width + "x" + height + ", padding " + padding);
+        }
+        this.width = width;
+        this.height = height;
+        this.padding = padding;
+        pixels = ByteBuffer.allocateDirect(width * height * 4);
+        shelfX = padding;
+        shelfY = padding;
+    }
+
+    /**
+     * Copies an image into the atlas.
+     *
+     * @return where it was placed
+     * @throws IllegalArgumentException if the name is already in the atlas
+     * @throws IllegalStateException    if the image does not fit in the space left
+     */
+    public Region add(String name, Assets.Image image) {
+        if (regions.containsKey(name)) throw new IllegalArgumentException("Already in the atlas: " + name);
+        if (shelfX + image.width + padding > width) { // next shelf
+            shelfX = padding;
+            shelfY += shelfHeight + padding;
+            shelfHeight = 0;
+        }
+        if (shelfX + image.width + padding > width || shelfY + image.height + padding > height) {
+            throw new IllegalStateException("No room for " + name + " (" + image.width + "x" + image.height + ") in the " + width + "x" + height + " atlas");
+        }
+        Region region = new Region(shelfX, shelfY, image.width, image.height, width, height);
+        int rowBytes = image.width * 4, from = image.rgba.position();
+        for (int row = 0; row < image.height; row++) {
+            pixels.put(((region.y + row) * width + region.x) * 4, image.rgba, from + row * rowBytes, rowBytes);
+        }
+        shelfX += image.width + padding;
+        shelfHeight = Math.max(shelfHeight, image.height);
+        regions.put(name, region);
+        return region;
+    }
+
+    /** @return the region of the image added under {@code name}, or null if there is none */
+    public Region region(String name) {
+        return regions.get(name);
+    }
+
+    /** @return the pixels of the whole atlas, RGBA row by row, unused ones transparent */
+    public ByteBuffer pixels() {
+        return pixels.duplicate();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+}
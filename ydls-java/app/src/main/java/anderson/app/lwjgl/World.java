@@ -0,0 +1,473 @@
+package anderson.app.lwjgl;
+
+import java.util.*;
+
+/**
+ * The platformer's game state and rules, without any window, GL context or GLFW call.
+ * <p>
+ * {@link #step(InputState)} advances the world by exactly one {@link #TICK}.
+ * {@link #advance(double, InputState)} takes the real time since the last frame, runs as many
+ * whole ticks as it covers and keeps the rest in an accumulator; {@link #alpha()} says how far
+ * into the next tick that rest is, so the renderer can draw moving entities between their
+ * previous and current positions instead of snapping to the last tick.
+ * </p>
+ * <p>
+ * The tick is 1/60 s, the frame rate the game was tuned at: jump charging, mob steps and the
+ * key-mapping reminder count ticks, not seconds, so they now play the same on any monitor.
+ * With the same seed and the same inputs, two worlds evolve identically, which lets tests
+ * and soak runs step thousands of ticks per second without opening a window.
+ * </p>
+ */
+public class World {
+    /** length of one simulation step, in seconds */
+    public static final float TICK = 1f / 60f;
+    /** longest frame {@link #advance} catches up on; a longer stall (debugger, window drag) is dropped */
+    static final double MAX_FRAME = 0.25;
+
+    // world
+    public static final float WIDTH = 2400f, HEIGHT = 600f;
+    private final float mapCenterX = WIDTH / 2.0f, mapCenterY = HEIGHT / 2.0f;
+    private final float pctWidth = WIDTH*0.8f, pctHeight = HEIGHT*0.8f;
+
+    private float[] starRectSpawnArea = {mapCenterX,mapCenterY,pctWidth,pctHeight}; //changeable
+    private float[] mobsRectsSpanArea = {mapCenterX,mapCenterY,pctWidth,pctHeight};
+    //[0]	Center X position of the rectangle,  [1]	Center Y position of the rectangle,
+    //  [2]	Width of the rectangle, [3]	Height of the rectangle
+    // normal starRectSpawnArea = {mapCenterX,mapCenterY,pctWidth,pctHeight};
+    //or clumped {50,20,1,1};         {mapCenterX,mapCenterY,0,0};
+    private final Difficulty difficulty;
+    private int totalMobsA = 0;
+    public enum Difficulty {
+    EASY(10),
+    NORMAL(5),
+    HARD(1),
+    IMPOSSIBLE(0.5f),
+    NIGHTMARE(0.25f);
+    public final float mobPerStar;
+    Difficulty(float mobPerStar) { this.mobPerStar = mobPerStar;}
+    }
+
+    List<Character> keys = new ArrayList<>(Arrays.asList('W','A','D','S','Q','E'));
+    private boolean keyShuffing;
+    private int DWSMB = 0; //determines with to show the movement keys
+    private void iFNIGHTMARESetUp() {
+    if (difficulty == Difficulty.NIGHTMARE) {
+        keyShuffing = true;
+    } else {
+        keyShuffing = false;
+    }
+    // If you want to do a more difficult EASY, NORMAL, HARD, or IMPOSSIBLE change the 2second keyshuffing to true;
+    keyShuffing = keyShuffing;
+    }
+
+    private boolean addMobsA = false;
+    private boolean MobsAlwayed = true; //changeable
+    private boolean mobSeparation = false; // push overlapping mobs apart //changeable
+
+    private final Random rnd;
+    private final Player player;
+    private final List<Platform> platforms;
+    // stars and mobs as structs of arrays, see EntityStore
+    private final EntityStore stars = new EntityStore(8);
+    private final EntityStore mobs = new EntityStore(64);
+    static final float STAR_SIZE = 10, MOB_SIZE = 20;
+    private static final int MOB_MIN_SPEED = 2, MOB_MAX_SPEED = 6; // per tick, near and across the world
+    // mobs bucketed by position, rebuilt every tick
+    private final SpatialGrid mobGrid = new SpatialGrid(WIDTH, HEIGHT, MOB_SIZE);
+    private float[] pushX = new float[0], pushY = new float[0];
+    private static final int SEPARATION_NEIGHBORS = 16;
+
+    //GAMBLING//
+    private boolean dealarPayedThisRound = false;
+    private boolean canGamble = true;
+    //Shop//
+    private boolean shopOpened = false;
+    private boolean submitKeyPreviouslyDown = false;
+    private boolean key1PreviouslyDown = false;
+    private boolean key2PreviouslyDown = false;
+
+    // UI
+    private int lives = 5;
+    private int score = 0;
+
+    // Message system
+    private List<TextBoxMessage> messages = new ArrayList<>();
+    private final ArrayDeque<TextBoxMessage> freeMessages = new ArrayDeque<>(); // expired ones, for reuse
+    private static final int MAX_MESSAGES = 3;
+
+    // controls mapping
+    private Map<String, Character> keyMap;
+
+    // fixed timestep
+    private double accumulator;
+    private long ticks;
+
+    /**
+     * Creates the starting world: the player on the left, five stars and no mobs yet.
+     *
+     * @param difficulty how many mobs each collected star brings
+     * @param seed       seed for star and mob spawn positions, key shuffling and gambling
+     */
+    public World(Difficulty difficulty, long seed) {
+        this.difficulty = difficulty;
+        rnd = new Random(seed);
+        randomizeControls();
+        player = new Player(100, 50);
+        platforms = generatePlatforms();
+        spawnStars(5);
+    }
+
+    private void randomizeControls() {
+        if (keyShuffing) { Collections.shuffle(keys, rnd); }
+        keyMap = new HashMap<>();
+        keyMap.put("UP",    keys.get(0));
+        keyMap.put("LEFT",  keys.get(1));
+        keyMap.put("RIGHT", keys.get(2));
+        keyMap.put("DOWN",  keys.get(3));
+        keyMap.put("CHARATER SKILL",  keys.get(4));
+        keyMap.put("SUBMIT", InputState.ENTER); // Enter key fixed binding
+
+        if (keyShuffing) {
+            showMessage("Key Mapping:");
+            showMessage("UP    = " + keys.get(0));
+            showMessage("LEFT  = " + keys.get(1));
+            showMessage("RIGHT = " + keys.get(2));
+            showMessage("DOWN  = " + keys.get(3));
+            showMessage("CHARATER SKILL = " + keys.get(4));
+            DWSMB = 0;
+        }
+        showMessage("Press Enter For Shop");
+    }
+
+    private static List<Platform> generatePlatforms() {
+        List<Platform> platforms = new ArrayList<>();
+        // ground
+        platforms.add(new Platform(0, 0, WIDTH, 20));
+        // floating
+        platforms.add(new Platform(400, 90, 200, 20));
+        platforms.add(new Platform(800, 140, 150, 20));
+        platforms.add(new Platform(1400,  290, 200, 20));
+        platforms.add(new Platform(2000, 190, 200, 20));
+        return platforms;
+    }
+
+    private void spawnStars(int count) {
+        stars.clear();
+        for (int i = 0; i < count; i++) {
+            // Use starRectSpawnArea to define spawn boundaries
+            float x = starRectSpawnArea[0] - starRectSpawnArea[2] / 2.0f + rnd.nextFloat() * starRectSpawnArea[2];
+            float y = starRectSpawnArea[1] - starRectSpawnArea[3] / 2.0f + rnd.nextFloat() * starRectSpawnArea[3];
+            stars.add(x, y, STAR_SIZE);
+        }
+    }
+
+    /**
+     * Spawns {@code count} mobs at random positions, as collecting all stars does.
+     * Headless runs and benchmarks call it to start from a crowded world.
+     */
+    public void spawnMobsA(int count) {
+        for (int i = 0; i < count; i++) {
+            float x = mobsRectsSpanArea[0] - mobsRectsSpanArea[2] / 2.0f + rnd.nextFloat() * mobsRectsSpanArea[2];
+            float y = mobsRectsSpanArea[1] - mobsRectsSpanArea[3] / 2.0f + rnd.nextFloat() * mobsRectsSpanArea[3];
+            mobs.add(x, y, MOB_SIZE);
+        }
+        totalMobsA += count;
+    }
+
+    /**
+     * Adds the real time that passed since the last call and runs every whole tick it covers.
+     *
+     * @param seconds time since the previous frame; at most {@value #MAX_FRAME} s of it is simulated
+     * @param input   the keys held down during this frame, read by every tick it runs
+     * @return the number of ticks run, 0 if less than a tick has built up
+     */
+    public int advance(double seconds, InputState input) {
+        accumulator += Math.min(seconds, MAX_FRAME);
+        int run = 0;
+        while (accumulator >= TICK) {
+            step(input);
+            accumulator -= TICK;
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * @return how far the time left over by {@link #advance} is into the next tick, from 0 to 1
+     */
+    public float alpha() {
+        return (float) (accumulator / TICK);
+    }
+
+    /**
+     * Advances the world by one {@link #TICK}.
+     *
+     * @param input the keys held down during this tick
+     */
+    public void step(InputState input) {
+        ticks++;
+        float dt = TICK;
+        player.savePosition();
+
+        boolean submitPressed = input.isDown(keyMap.get("SUBMIT"));
+        boolean key1Pressed = input.isDown('1');
+        boolean key2Pressed = input.isDown('2');
+        if (keyShuffing /*&& !freezeTime*/) {DWSMB += 1;}
+        if (DWSMB >= 500 && keyShuffing /*&& !freezeTime*/){
+            showMessage("Key Mapping:");
+            showMessage("UP    = " + keys.get(0));
+            showMessage("LEFT  = " + keys.get(1));
+            showMessage("RIGHT = " + keys.get(2));
+            showMessage("DOWN  = " + keys.get(3));
+            DWSMB = 0;
+        }
+
+        boolean skillDown = input.isDown(keyMap.get("CHARATER SKILL"));
+        boolean upDown = input.isDown(keyMap.get("UP"));
+        if (input.isDown(keyMap.get("LEFT"))) player.moveHoriz(-1, false);
+        if (input.isDown(keyMap.get("RIGHT"))) player.moveHoriz(1, true);
+        if (skillDown) {
+            if (player.witchCharter == 0) {
+                player.dash();
+            } else if (player.witchCharter == 1) {
+                canGamble = false;
+                gambling();
+            }
+        }
+        if (!skillDown && player.witchCharter == 1) {canGamble = true;}
+        if (upDown) player.jCharge();
+        if (!upDown) player.jump();
+        if (input.isDown(keyMap.get("DOWN"))) player.fall();
+
+        // Toggle shop with Enter
+        if (submitPressed && !submitKeyPreviouslyDown) {
+            shopOpened = !shopOpened;
+            player.frozen = shopOpened;
+            if (shopOpened) {
+                showMessage("You have entered the shop");
+                showMessage("The things you can buy are:");
+                if (player.witchCharter == 0) {
+                    showMessage("Press 1 for dash level 2 for 200 score");
+                } else if (player.witchCharter == 1 && !dealarPayedThisRound) {
+                    showMessage("Press 1 to pay the dealer this round for 200 score");
+                }
+            } else {
+                showMessage("You have left the shop");
+            }
+        }
+        submitKeyPreviouslyDown = submitPressed;
+
+        // Handle in-shop purchases (does NOT close shop)
+        if (shopOpened) {
+            if (key1Pressed && !key1PreviouslyDown) {
+                if (player.witchCharter == 0 && score >= 200) {
+                    score -= 200;
+                    showMessage("Dash level purchased!");
+                } else if (player.witchCharter == 1 && score >= 200 && !dealarPayedThisRound) {
+                    score -= 200;
+                    dealarPayedThisRound = true;
+                    showMessage("Dealer paid, your score is now: " + score);
+                } else {
+                    showMessage("You're too poor to buy that");
+                }
+            }
+        }
+        key1PreviouslyDown = key1Pressed;
+        key2PreviouslyDown = key2Pressed;
+
+        player.applyGravity(dt);
+        player.update(dt, platforms);
+
+        // collect stars
+        for (int i = 0; i < stars.size(); i++) {
+            if (player.collidesStar(stars.x[i], stars.y[i]) || player.isStarInDashTriangle(stars.x[i], stars.y[i])) {
+                score++;
+                stars.kill(i);
+            }
+        }
+        stars.removeDead();
+        if (stars.size() == 0) {
+            spawnStars(5);
+            randomizeControls();
+            addMobsA = true;
+        }
+        if (addMobsA && MobsAlwayed) {
+            int mobCount = Math.round(score * (1f / difficulty.mobPerStar));
+            spawnMobsA(mobCount);
+            addMobsA = false;
+        }
+
+        if (!shopOpened) {
+            moveMobs();
+        } else {
+            Arrays.fill(mobs.vx, 0, mobs.size(), 0f);
+            Arrays.fill(mobs.vy, 0, mobs.size(), 0f);
+        }
+        mobGrid.build(mobs.x, mobs.y, mobs.size());
+        if (mobSeparation && !shopOpened) {
+            separateMobs();
+            mobGrid.build(mobs.x, mobs.y, mobs.size());
+        }
+
+        // only the mobs in the cells around the player can touch it
+        int near = mobGrid.query(player.x, player.y, player.x + 20, player.y + 20);
+        int[] hits = mobGrid.results();
+        for (int k = 0; k < near; k++) {
+            int m = hits[k];
+            if (player.collidesMob(mobs.x[m], mobs.y[m], mobs.size[m])) {
+                lives--;
+                totalMobsA--;
+                mobs.kill(m);
+            }
+        }
+        mobs.removeDead();
+
+        if (player.testing) {
+            showMessage("Total MobsA = " + totalMobsA);
+        }
+
+        // Handle dash cooldown message
+        if (player.dashCooldownMessage) {
+            showMessage("Dash is on cooldown! Wait for " + String.format("%.1f", player.getDashCooldown()) + " seconds.");
+            player.dashCooldownMessage = false;
+        }
+
+        // Update message timers and remove expired
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            TextBoxMessage msg = messages.get(i);
+            msg.timer -= dt;
+            if (msg.timer <= 0) freeMessages.push(messages.remove(i));
+        }
+    }
+
+    /**
+     * Moves every mob one step toward the player, longer the farther away it is. On each axis
+     * a mob steps right (up) if the player is that way, then left (down) if the player is now
+     * the other way, so it jitters around the player instead of stopping on it.
+     * The loop only touches flat arrays and has no calls besides the sqrt intrinsic, so the
+     * JIT compiles it to a tight loop with the branches as conditional moves.
+     */
+    private void moveMobs() {
+        float[] x = mobs.x, y = mobs.y, vx = mobs.vx, vy = mobs.vy;
+        float playerX = player.x, playerY = player.y;
+        float slope = (float) (MOB_MAX_SPEED - MOB_MIN_SPEED) / WIDTH;
+        for (int i = 0, n = mobs.size(); i < n; i++) {
+            float dx = playerX - x[i], dy = playerY - y[i];
+            float distanceToPlayer = (float) Math.sqrt(dx*dx + dy*dy);
+            float speed = slope * distanceToPlayer + MOB_MIN_SPEED;
+            float nx = x[i] + (dx > 0 ? speed : 0);
+            nx -= (playerX - nx < 0) ? speed : 0;
+            float ny = y[i] + (dy > 0 ? speed : 0);
+            ny -= (playerY - ny < 0) ? speed : 0;
+            vx[i] = nx - x[i];
+            vy[i] = ny - y[i];
+            x[i] = nx;
+            y[i] = ny;
+        }
+    }
+
+    /**
+     * Moves every mob half of its overlap away from each mob it overlaps, along the axis they
+     * overlap less on, so each overlapping pair separates. Each mob looks at no more than
+     * {@value #SEPARATION_NEIGHBORS} neighbors, so a pass stays O(n) even when the chase piles
+     * hundreds of mobs into one cell; one pass per tick spreads dense clumps over a few ticks
+     * instead of resolving them exactly.
+     */
+    private void separateMobs() {
+        int n = mobs.size();
+        if (pushX.length < n) {
+            pushX = new float[Math.max(n, 2 * pushX.length)];
+            pushY = new float[pushX.length];
+        }
+        float[] x = mobs.x, y = mobs.y;
+        for (int i = 0; i < n; i++) {
+            float ax = x[i], ay = y[i];
+            float px = 0, py = 0;
+            int near = mobGrid.query(ax, ay, ax + MOB_SIZE, ay + MOB_SIZE, SEPARATION_NEIGHBORS);
+            int[] others = mobGrid.results();
+            for (int k = 0; k < near; k++) {
+                int j = others[k];
+                if (j == i) continue;
+                float dx = x[j] - ax, dy = y[j] - ay;
+                float overlapX = MOB_SIZE - Math.abs(dx), overlapY = MOB_SIZE - Math.abs(dy);
+                if (overlapX <= 0 || overlapY <= 0) continue;
+                if (overlapX < overlapY) {
+                    px += (dx < 0) ? overlapX / 2 : -overlapX / 2;
+                } else {
+                    py += (dy < 0) ? overlapY / 2 : -overlapY / 2;
+                }
+            }
+            pushX[i] = px;
+            pushY[i] = py;
+        }
+        // applied after all pushes are known, so they do not depend on the order of the mobs
+        for (int i = 0; i < n; i++) {
+            x[i] += pushX[i];
+            y[i] += pushY[i];
+            mobs.vx[i] += pushX[i];
+            mobs.vy[i] += pushY[i];
+        }
+    }
+
+    public void showMessage(String text) {
+        // Limit to MAX_MESSAGES
+        if (messages.size() >= MAX_MESSAGES) {
+            freeMessages.push(messages.remove(0)); // Remove oldest message
+        }
+        TextBoxMessage msg = freeMessages.poll();
+        if (msg == null) msg = new TextBoxMessage();
+        messages.add(msg.reset(text, 2.5f, 1.0f)); // 2.5s display, 1s fade
+    }
+
+    public void gambling() {
+        if (!dealarPayedThisRound){
+            if (rnd.nextBoolean() && rnd.nextBoolean()) {
+                canGamble = false;
+                score += score;
+                showMessage("You won!");
+                showMessage("Your score has been doubled");
+                showMessage("Your new score is " + score);
+            } else {
+                canGamble = false;
+                score = 0;
+                showMessage("You lost!");
+                showMessage("The house always wins");
+                showMessage("Better luck next time and also buy the game pass");
+            }
+        }else {
+            if (rnd.nextBoolean() && rnd.nextBoolean()) {
+                canGamble = false;
+                dealarPayedThisRound = false;
+                score = 0;
+                showMessage("You lost!");
+                showMessage("The house always wins");
+                showMessage("Better luck next time and also buy the game pass");
+            } else {
+                canGamble = false;
+                dealarPayedThisRound = false;
+                score += score;
+                showMessage("You won!");
+                showMessage("Your score has been doubled");
+                showMessage("Your new score is " + score);
+            }
+        }
+    }
+
+    /*
+     * Read by the renderer (and tests) after a step; nothing outside this class changes them.
+     */
+    Player player() { return player; }
+    List<Platform> platforms() { return platforms; }
+    EntityStore stars() { return stars; }
+    EntityStore mobs() { return mobs; }
+    List<TextBoxMessage> messages() { return messages; }
+
+    public int getScore() { return score; }
+    public int getLives() { return lives; }
+    public int getMobCount() { return mobs.size(); }
+    public int getTotalMobsA() { return totalMobsA; }
+    public boolean isShopOpened() { return shopOpened; }
+    public void setMobSeparation(boolean mobSeparation) { this.mobSeparation = mobSeparation; }
+    /** @return the number of ticks stepped since the world was created */
+    public long getTicks() { return ticks; }
+}
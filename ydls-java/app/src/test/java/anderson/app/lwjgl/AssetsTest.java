@@ -0,0 +1,59 @@
+package anderson.app.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetsTest {
+    /**
+     * Stands in for stb: reads the size from the PNG header and fills the image with its
+     * first byte of image data, so images from different files differ.
+     */
+    static Assets.Image fakeDecode(ByteBuffer png) throws IOException {
+        assertTrue(png.isDirect(), "decoded from a direct buffer");
+        if (png.remaining() < 24 || png.get(1) != 'P') throw new IOException("not a PNG");
+        int width = png.getInt(16), height = png.getInt(20);
+        ByteBuffer rgba = ByteBuffer.allocateDirect(width * height * 4);
+        while (rgba.hasRemaining()) rgba.put(png.get(png.limit() - 1));
+        return new Assets.Image(width, height, rgba.flip());
+    }
+
+    @Test
+    public void testLoadsFromClasspathOnce() throws IOException {
+        Assets assets = new Assets(AssetsTest::fakeDecode);
+        Assets.Image zero = assets.load("/anderson/number_0.png");
+        assertEquals(40, zero.width);
+        assertEquals(43, zero.height);
+        assertSame(zero, assets.load("/anderson/number_0.png"));
+        assertEquals(1, assets.decodes());
+        assertNotSame(zero, assets.load("/anderson/number_1.png"));
+        assertEquals(2, assets.decodes());
+    }
+
+    @Test
+    public void testSameContentDecodedOnce() throws IOException {
+        Assets assets = new Assets(AssetsTest::fakeDecode);
+        byte[] png = new byte[24];
+        png[1] = 'P';
+        png[19] = 2;
+        png[23] = 3;
+        Assets.Image a = assets.load("a.png", png);
+        Assets.Image b = assets.load("b.png", png.clone());
+        assertSame(a, b);
+        assertEquals(1, assets.decodes());
+        png[23] = 4;
+        assertEquals(4, assets.load("a.png", png).height, "new content is decoded again");
+        assertEquals(2, assets.decodes());
+    }
+
+    @Test
+    public void testErrors() {
+        Assets assets = new Assets(AssetsTest::fakeDecode);
+        assertThrows(IOException.class, () -> assets.load("/anderson/missing.png"));
+        assertThrows(IOException.class, () -> assets.load("bad.png", new byte[] {1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> new Assets.Image(2, 2, ByteBuffer.allocate(15)));
+    }
+}
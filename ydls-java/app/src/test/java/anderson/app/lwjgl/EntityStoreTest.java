@@ -0,0 +1,78 @@
+package anderson.app.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityStoreTest {
+    static Set<Float> xs(EntityStore store) {
+        Set<Float> xs = new HashSet<>();
+        for (int i = 0; i < store.size(); i++) xs.add(store.x[i]);
+        return xs;
+    }
+
+    @Test
+    public void testAddGrows() {
+        EntityStore store = new EntityStore(0);
+        for (int i = 0; i < 1_000; i++) assertEquals(i, store.add(i, -i, 20));
+        assertEquals(1_000, store.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, store.x[i]);
+            assertEquals(-i, store.y[i]);
+            assertEquals(0, store.vx[i]);
+            assertEquals(20, store.size[i]);
+        }
+    }
+
+    /**
+     * Killing only marks; removeDead keeps exactly the survivors, whatever was killed,
+     * including the last entity and several in the same 64-bit word.
+     */
+    @Test
+    public void testRemoveDeadKeepsSurvivors() {
+        EntityStore store = new EntityStore(16);
+        for (int i = 0; i < 200; i++) store.add(i, 0, 20);
+        Set<Float> alive = xs(store);
+        for (int i : new int[] {0, 1, 2, 63, 64, 100, 150, 198, 199}) {
+            store.kill(i);
+            store.kill(i); // twice is once
+            assertTrue(store.isDead(i));
+            alive.remove((float) i);
+        }
+        assertEquals(200, store.size(), "kill only marks");
+        assertEquals(9, store.removeDead());
+        assertEquals(191, store.size());
+        assertEquals(alive, xs(store));
+        for (int i = 0; i < store.size(); i++) assertFalse(store.isDead(i));
+    }
+
+    @Test
+    public void testRemoveAll() {
+        EntityStore store = new EntityStore(4);
+        for (int i = 0; i < 130; i++) store.add(i, 0, 20);
+        for (int i = 0; i < 130; i++) store.kill(i);
+        assertEquals(130, store.removeDead());
+        assertEquals(0, store.size());
+        assertEquals(0, store.removeDead());
+    }
+
+    /** Removed slots are reused: the arrays do not grow again for the same number of entities. */
+    @Test
+    public void testReusesSlots() {
+        EntityStore store = new EntityStore(64);
+        float[] x = store.x;
+        for (int round = 0; round < 10; round++) {
+            while (store.size() < 64) store.add(round, 0, 20);
+            for (int i = 0; i < 64; i += 2) store.kill(i);
+            store.removeDead();
+        }
+        assertSame(x, store.x);
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(0, store.add(1, 1, 10));
+        assertFalse(store.isDead(0));
+    }
+}
@@ -0,0 +1,57 @@
+package anderson.app.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialGridTest {
+    static boolean overlaps(float ax, float ay, float bx, float by, float size) {
+        return ax < bx + size && ax + size > bx && ay < by + size && ay + size > by;
+    }
+
+    /**
+     * Every entity that overlaps the query box is found, including ones outside the world.
+     */
+    @Test
+    public void testQueryFindsEveryOverlap() {
+        Random random = new Random(1);
+        int n = 5_000;
+        float[] x = new float[n], y = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextFloat() * 2500 - 50;
+            y[i] = random.nextFloat() * 700 - 50;
+        }
+        SpatialGrid grid = new SpatialGrid(World.WIDTH, World.HEIGHT, 20);
+        grid.build(x, y, n);
+        assertEquals(n, grid.size());
+
+        for (int q = 0; q < 1_000; q++) {
+            float qx = random.nextFloat() * 2500 - 50, qy = random.nextFloat() * 700 - 50;
+            int found = grid.query(qx, qy, qx + 20, qy + 20);
+            Set<Integer> results = new HashSet<>();
+            for (int k = 0; k < found; k++) assertTrue(results.add(grid.results()[k]), "found once");
+            for (int i = 0; i < n; i++) {
+                if (overlaps(qx, qy, x[i], y[i], 20)) assertTrue(results.contains(i), "overlap " + i);
+            }
+            assertTrue(found < n / 20, "a query only looks at nearby cells");
+        }
+    }
+
+    /**
+     * Rebuilding replaces the previous contents, also with fewer entities.
+     */
+    @Test
+    public void testRebuild() {
+        SpatialGrid grid = new SpatialGrid(100, 100, 10);
+        grid.build(new float[] {5, 5, 50}, new float[] {5, 5, 50}, 3);
+        assertEquals(2, grid.query(0, 0, 10, 10));
+        grid.build(new float[] {50, 5}, new float[] {50, 5}, 1);
+        assertEquals(0, grid.query(0, 0, 10, 10));
+        assertEquals(1, grid.query(45, 45, 55, 55));
+        assertEquals(0, grid.results()[0]);
+    }
+}
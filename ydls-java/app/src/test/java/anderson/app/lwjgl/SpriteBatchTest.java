@@ -0,0 +1,111 @@
+package anderson.app.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the vertices the batch would upload, without a GL context.
+ */
+public class SpriteBatchTest {
+    static float[] vertex(SpriteBatch batch, int i) {
+        float[] v = new float[SpriteBatch.FLOATS_PER_VERTEX];
+        FloatBuffer vertices = batch.vertices();
+        vertices.position(i * SpriteBatch.FLOATS_PER_VERTEX);
+        vertices.get(v);
+        return v;
+    }
+
+    @Test
+    public void testQuadIsTwoTriangles() {
+        SpriteBatch batch = new SpriteBatch(0);
+        batch.color(0.25f, 0.5f, 0.75f, 1f);
+        batch.quad(10, 20, 30, 40, 0, 0, 1, 1);
+        assertEquals(6, batch.vertexCount());
+        assertEquals(6 * SpriteBatch.FLOATS_PER_VERTEX, batch.vertices().remaining());
+
+        float[][] corners = {{10, 20, 0, 0}, {40, 20, 1, 0}, {40, 60, 1, 1}, {10, 20, 0, 0}, {40, 60, 1, 1}, {10, 60, 0, 1}};
+        for (int i = 0; i < 6; i++) {
+            float[] v = vertex(batch, i);
+            assertArrayEquals(corners[i], new float[] {v[0], v[1], v[2], v[3]}, "vertex " + i);
+            assertArrayEquals(new float[] {0.25f, 0.5f, 0.75f, 1f}, new float[] {v[4], v[5], v[6], v[7]});
+        }
+    }
+
+    @Test
+    public void testColorChangesOnlyFollowingVertices() {
+        SpriteBatch batch = new SpriteBatch(0);
+        batch.color(1, 0, 0);
+        batch.triangle(0, 0, 1, 0, 0, 1);
+        batch.color(0, 1, 0, 0.5f);
+        batch.triangle(0, 0, 1, 0, 0, 1);
+        assertEquals(1, vertex(batch, 2)[4]);
+        assertEquals(0.5f, vertex(batch, 3)[7]);
+        assertEquals(1, vertex(batch, 2)[7]);
+    }
+
+    /**
+     * Sprites of the same texture share a run, so a frame full of mobs is one draw call;
+     * a texture change starts a new run.
+     */
+    @Test
+    public void testRunsByTexture() {
+        SpriteBatch batch = new SpriteBatch(16);
+        for (int i = 0; i < 10_000; i++) batch.quad(i, i, 20, 20);
+        assertEquals(1, batch.runs());
+        assertEquals(60_000, batch.runCount(0));
+
+        batch.texture(7);
+        batch.quad(0, 0, 20, 20, 0, 0, 1, 1);
+        batch.quad(20, 0, 20, 20, 0, 0, 1, 1);
+        batch.texture(0);
+        batch.triangle(0, 0, 1, 0, 0, 1);
+        assertEquals(3, batch.runs());
+        assertEquals(0, batch.runTexture(0));
+        assertEquals(7, batch.runTexture(1));
+        assertEquals(60_000, batch.runFirst(1));
+        assertEquals(12, batch.runCount(1));
+        assertEquals(0, batch.runTexture(2));
+        assertEquals(60_012, batch.runFirst(2));
+        assertEquals(60_015, batch.vertexCount());
+        // growing kept what was written before
+        assertEquals(9_999, vertex(batch, 59_994)[0]);
+    }
+
+    @Test
+    public void testClear() {
+        SpriteBatch batch = new SpriteBatch(6);
+        batch.quad(0, 0, 1, 1);
+        batch.clear();
+        assertEquals(0, batch.vertexCount());
+        assertEquals(0, batch.runs());
+        assertEquals(0, batch.vertices().remaining());
+        batch.quad(5, 5, 1, 1);
+        assertEquals(5, vertex(batch, 0)[0]);
+        assertEquals(1, batch.runs());
+    }
+
+    @Test
+    public void testOutlineStaysInside() {
+        SpriteBatch batch = new SpriteBatch(0);
+        batch.outline(10, 10, 100, 50, 1);
+        assertEquals(24, batch.vertexCount());
+        for (int i = 0; i < batch.vertexCount(); i++) {
+            float[] v = vertex(batch, i);
+            assertTrue(v[0] >= 10 && v[0] <= 110 && v[1] >= 10 && v[1] <= 60, "vertex " + i);
+        }
+    }
+
+    @Test
+    public void testEllipse() {
+        SpriteBatch batch = new SpriteBatch(0);
+        batch.ellipse(0, 0, 15, 7, 40);
+        assertEquals(120, batch.vertexCount());
+        for (int i = 0; i < batch.vertexCount(); i++) {
+            float[] v = vertex(batch, i);
+            assertTrue((v[0] / 15) * (v[0] / 15) + (v[1] / 7) * (v[1] / 7) <= 1 + 1e-4f, "vertex " + i);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package anderson.app.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Packs images without a GL context and checks where their pixels end up.
+ */
+public class TextureAtlasTest {
+    static Assets.Image solid(int width, int height, int value) {
+        ByteBuffer rgba = ByteBuffer.allocateDirect(width * height * 4);
+        while (rgba.hasRemaining()) rgba.put((byte) value);
+        return new Assets.Image(width, height, rgba.flip());
+    }
+
+    static boolean overlap(TextureAtlas.Region a, TextureAtlas.Region b, int padding) {
+        return a.x < b.x + b.width + padding && b.x < a.x + a.width + padding
+                && a.y < b.y + b.height + padding && b.y < a.y + a.height + padding;
+    }
+
+    /**
+     * The digits the game packs fit the game's atlas, apart from each other, and every pixel of
+     * the atlas belongs to the image whose region covers it.
+     */
+    @Test
+    public void testPacksDigits() throws IOException {
+        Assets assets = new Assets(AssetsTest::fakeDecode);
+        TextureAtlas atlas = new TextureAtlas(256, 128, 1);
+        List<TextureAtlas.Region> regions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            regions.add(atlas.add("number_" + i, solid(assets.load("/anderson/number_" + i + ".png").width, 43, i + 1)));
+        }
+        ByteBuffer pixels = atlas.pixels();
+        for (int i = 0; i < 10; i++) {
+            TextureAtlas.Region r = regions.get(i);
+            assertSame(r, atlas.region("number_" + i));
+            assertTrue(r.x >= 1 && r.y >= 1 && r.x + r.width < 256 && r.y + r.height < 128);
+            for (int j = 0; j < i; j++) assertFalse(overlap(r, regions.get(j), 1), i + " and " + j);
+            for (int y = r.y; y < r.y + r.height; y++) {
+                for (int x = r.x; x < r.x + r.width; x++) assertEquals(i + 1, pixels.get((y * 256 + x) * 4));
+            }
+            // the padding around it stays transparent
+            assertEquals(0, pixels.get(((r.y - 1) * 256 + r.x) * 4 + 3));
+            assertEquals(0, pixels.get((r.y * 256 + r.x + r.width) * 4 + 3));
+        }
+        assertNull(atlas.region("number_10"));
+    }
+
+    @Test
+    public void testTextureCoordinates() {
+        TextureAtlas atlas = new TextureAtlas(64, 32, 0);
+        atlas.add("a", solid(16, 8, 1));
+        TextureAtlas.Region b = atlas.add("b", solid(16, 32, 2));
+        assertEquals(16, b.x);
+        assertEquals(0.25f, b.u0);
+        assertEquals(0.5f, b.u1);
+        assertEquals(0f, b.v0);
+        assertEquals(1f, b.v1);
+    }
+
+    @Test
+    public void testRowsKeepTheirOrder() {
+        ByteBuffer rgba = ByteBuffer.allocateDirect(2 * 3 * 4);
+        for (int i = 0; i < 24; i++) rgba.put((byte) i);
+        TextureAtlas atlas = new TextureAtlas(8, 8, 1);
+        atlas.add("gradient", new Assets.Image(2, 3, rgba.flip()));
+        for (int row = 0; row < 3; row++) {
+            assertEquals(row * 8, atlas.pixels().get(((1 + row) * 8 + 1) * 4), "row " + row);
+        }
+    }
+
+    @Test
+    public void testFull() {
+        TextureAtlas atlas = new TextureAtlas(32, 32, 1);
+        atlas.add("a", solid(20, 20, 1));
+        assertThrows(IllegalArgumentException.class, () -> atlas.add("a", solid(1, 1, 1)));
+        atlas.add("b", solid(9, 9, 1)); // still fits beside a
+        assertThrows(IllegalStateException.class, () -> atlas.add("c", solid(20, 20, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new TextureAtlas(0, 32, 1));
+    }
+}
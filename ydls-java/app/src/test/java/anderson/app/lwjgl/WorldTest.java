@@ -0,0 +1,158 @@
+package anderson.app.lwjgl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the simulation headless: no window, no GL context, thousands of ticks per second.
+ */
+public class WorldTest {
+    /**
+     * A player that runs toward one of the stars (a different one every ten seconds, in case it
+     * cannot reach it), jumps and double-jumps while the star is above it, and dashes at random.
+     */
+    static InputState chaser(World world, long seed) {
+        Random random = new Random(seed);
+        return new InputState() {
+            private long tick = -1;
+            private boolean up, left, right, skill;
+
+            @Override
+            public boolean isDown(char key) {
+                if (tick != world.getTicks()) { // decide once per tick
+                    tick = world.getTicks();
+                    Player p = world.player();
+                    EntityStore stars = world.stars();
+                    int target = (int) (tick / 600 % stars.size());
+                    left = stars.x[target] < p.x - 5;
+                    right = stars.x[target] > p.x + 15;
+                    up = stars.y[target] > p.y + 20 && (tick % 40) < 30;
+                    skill = random.nextInt(200) == 0;
+                }
+                switch (key) {
+                    case 'W': return up;
+                    case 'A': return left;
+                    case 'D': return right;
+                    case 'Q': return skill;
+                    default:  return false;
+                }
+            }
+        };
+    }
+
+    @Test
+    public void testAdvanceRunsWholeTicks() {
+        World world = new World(World.Difficulty.NORMAL, 1);
+        assertEquals(2, world.advance(2.5 * World.TICK, InputState.NONE));
+        assertEquals(0.5f, world.alpha(), 1e-3f);
+        assertEquals(1, world.advance(0.5 * World.TICK, InputState.NONE));
+        assertEquals(0f, world.alpha(), 1e-3f);
+
+        // a long stall is not caught up on
+        int ticks = world.advance(10.0, InputState.NONE);
+        assertEquals(World.MAX_FRAME / World.TICK, ticks, 1.0);
+        assertEquals(3 + ticks, world.getTicks());
+    }
+
+    @Test
+    public void testInterpolatesBetweenTicks() {
+        World world = new World(World.Difficulty.NORMAL, 1);
+        world.step(key -> key == 'D'); // run right for one tick
+        Player p = world.player();
+        assertTrue(p.x > p.px);
+        assertEquals(p.px, p.x(0f));
+        assertEquals(p.x, p.x(1f));
+        assertEquals((p.px + p.x) / 2, p.x(0.5f), 1e-4f);
+    }
+
+    @Test
+    public void testSameSeedSameGame() {
+        World a = new World(World.Difficulty.HARD, 42);
+        World b = new World(World.Difficulty.HARD, 42);
+        InputState inputA = chaser(a, 7);
+        InputState inputB = chaser(b, 7);
+        for (int i = 0; i < 20_000; i++) {
+            a.step(inputA);
+            b.step(inputB);
+        }
+        assertEquals(a.getScore(), b.getScore());
+        assertEquals(a.getLives(), b.getLives());
+        assertEquals(a.getMobCount(), b.getMobCount());
+        assertEquals(a.player().x, b.player().x);
+        assertEquals(a.player().y, b.player().y);
+    }
+
+    @Test
+    public void testSoakSpawnGrowth() {
+        World world = new World(World.Difficulty.NIGHTMARE, 3);
+        InputState input = chaser(world, 3);
+        int maxMobs = 0;
+        for (int i = 0; i < 60 * 60 * 10; i++) { // ten minutes of play
+            world.step(input);
+            maxMobs = Math.max(maxMobs, world.getMobCount());
+            assertEquals(world.getTotalMobsA(), world.getMobCount());
+            assertTrue(world.stars().size() > 0);
+            assertTrue(world.messages().size() <= 3);
+        }
+        assertTrue(maxMobs > 0, "collecting stars spawns mobs");
+    }
+
+    static int overlappingPairs(World world) {
+        int pairs = 0;
+        EntityStore mobs = world.mobs();
+        for (int i = 0; i < mobs.size(); i++) {
+            for (int j = i + 1; j < mobs.size(); j++) {
+                if (SpatialGridTest.overlaps(mobs.x[i], mobs.y[i], mobs.x[j], mobs.y[j], World.MOB_SIZE)) pairs++;
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    public void testMobSeparation() {
+        World crowded = new World(World.Difficulty.NIGHTMARE, 5);
+        World separated = new World(World.Difficulty.NIGHTMARE, 5);
+        separated.setMobSeparation(true);
+        crowded.spawnMobsA(2_000);
+        separated.spawnMobsA(2_000);
+        for (int i = 0; i < 120; i++) { // the chase piles mobs up within two seconds
+            crowded.step(InputState.NONE);
+            separated.step(InputState.NONE);
+        }
+        assertTrue(overlappingPairs(separated) < overlappingPairs(crowded) / 2);
+        // the player still loses a life per mob that reaches it
+        assertEquals(5 - (2_000 - separated.getMobCount()), separated.getLives());
+    }
+
+    /**
+     * Once the stores and the grid have grown to fit, a tick allocates nothing: no entity
+     * objects, no iterators, no lambdas. Ticks with messages are left out, since formatting
+     * a message allocates its text.
+     */
+    @Test
+    public void testSteadyTicksDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        long allocated = -1;
+        for (int run = 0; run < 5 && allocated != 0; run++) { // the first runs warm up the JIT
+            World world = new World(World.Difficulty.NIGHTMARE, 9);
+            world.setMobSeparation(true);
+            world.spawnMobsA(5_000);
+            for (int i = 0; i < 240; i++) world.step(InputState.NONE); // messages expire, arrays grow
+            assertTrue(world.messages().isEmpty());
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 60; i++) world.step(InputState.NONE);
+            allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(world.getMobCount() > 0, "mobs are still chasing");
+        }
+        assertEquals(0, allocated, "bytes allocated by 60 ticks");
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * JMH micro-benchmarks for the student algorithm folders.
+ *
+ * The student code lives outside of this Gradle build (e.g. `std01-jayden-dsa/`, `std02-arron-algo/`), in the
+ * default package, so it is pulled in here as an extra source directory instead of being copied.
+ * The headless simulation of the LWJGL game (`anderson.app.lwjgl`, no GL imports) is pulled in the same way.
+ *
+ * Usage (from `ydls-java/`):
+ *      ```
+ *      gradle :benchmark:jmh
+ *      gradle :benchmark:jmh -PjmhIncludes=SortBenchmark -PjmhResults=results/baseline.json
+ *      ```
+ */
+
+plugins {
+    id("ydjs.java-library-conventions")
+
+    // JMH (Java Microbenchmark Harness): `https://github.com/melix/jmh-gradle-plugin`
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+sourceSets {
+    main {
+        java {
+            srcDir("../../std01-jayden-dsa")
+            srcDir("../../std02-arron-algo")
+            srcDir("../../std04-anderson-dsa")
+            srcDir("../app/src/main/java")
+            include("AlgorithmAPSecond.java", "ParallelSort.java", "AdaptiveSort.java", "FastMath.java")
+            include("MyArrayList.java")
+            include("Main.java", "Matrix.java", "MatrixKernels.java", "ScalarKernels.java", "LUDecomposition.java", "VectorKernels.java")
+            include("anderson/app/lwjgl/World.java", "anderson/app/lwjgl/InputState.java", "anderson/app/lwjgl/SpatialGrid.java",
+                    "anderson/app/lwjgl/EntityStore.java", "anderson/app/lwjgl/Player.java", "anderson/app/lwjgl/Platform.java",
+                    "anderson/app/lwjgl/TextBoxMessage.java")
+        }
+    }
+}
+
+// VectorKernels.java uses the Vector API, which is an incubator module in JDK 17
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+
+    // `-PjmhIncludes=<regex>` runs a subset, e.g. `-PjmhIncludes=SortBenchmark.*quickSort`
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(2)
+    timeUnit.set("ns")
+    // prepended, so benchmarks can still append their own flags with @Fork(jvmArgsAppend = ...)
+    jvmArgsPrepend.set(listOf("--add-modules=jdk.incubator.vector"))
+
+    // allocation rate (MB/sec) and bytes/op next to the time score
+    profilers.set(listOf("gc"))
+
+    // JSON results, so two commits can be diffed (e.g. with `https://jmh.morethan.io`)
+    resultFormat.set("JSON")
+    resultsFile.set(file(findProperty("jmhResults") ?: "build/results/jmh/results.json"))
+}
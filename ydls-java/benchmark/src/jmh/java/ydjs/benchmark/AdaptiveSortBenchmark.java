@@ -0,0 +1,56 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code AdaptiveSort} (std02-arron-algo) against the in-place quick sort of {@code AlgorithmAPSecond}.
+ * <p>
+ * {@code RANDOM} keys span {@code [0, n)}, so the adaptive sort picks counting sort;
+ * {@code WIDE} keys span the whole {@code int} range and go to radix sort.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AdaptiveSortBenchmark {
+    /** {@code Class.method} of a static {@code int[] sort(int[])} */
+    @Param({"AdaptiveSort.sort", "AdaptiveSort.radixSort", "AlgorithmAPSecond.quickSort"})
+    public String algorithm;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "FEW_UNIQUE", "WIDE"})
+    public Distribution distribution;
+
+    private int[] source;
+    private int[] work;
+    private MethodHandle sort;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = distribution.generate(size, 42L);
+        work = new int[size];
+        int dot = algorithm.indexOf('.');
+        sort = Sorts.find(algorithm.substring(0, dot), algorithm.substring(dot + 1));
+    }
+
+    @Benchmark
+    public int[] sort(Elements elements) throws Throwable {
+        System.arraycopy(source, 0, work, 0, size);
+        int[] sorted = (int[]) sort.invokeExact(work);
+        elements.elements += size;
+        return sorted;
+    }
+}
@@ -0,0 +1,51 @@
+package ydjs.benchmark;
+
+import java.util.Random;
+
+/**
+ * Input shapes used by the sorting benchmarks.
+ * <p>
+ * Each distribution is generated from a fixed seed, so every fork (and every commit)
+ * sorts exactly the same data.
+ * </p>
+ */
+public enum Distribution {
+    /** uniformly random values in {@code [0, n)} */
+    RANDOM,
+    /** {@code 0, 1, 2, ..., n-1} */
+    SORTED,
+    /** {@code n-1, n-2, ..., 0} */
+    REVERSED,
+    /** random values drawn from only 16 distinct keys */
+    FEW_UNIQUE,
+    /** ascending to the middle, then descending: {@code 0, 1, ..., n/2, ..., 1, 0} */
+    ORGAN_PIPE,
+    /** uniformly random values over the whole {@code int} range, negatives included */
+    WIDE;
+
+    private static final int FEW_UNIQUE_KEYS = 16;
+
+    /**
+     * Generates {@code n} integers of this distribution.
+     *
+     * @param n    number of elements
+     * @param seed random seed (ignored by the deterministic shapes)
+     * @return a new array of length {@code n}
+     */
+    public int[] generate(int n, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            switch (this) {
+                case RANDOM:     values[i] = random.nextInt(Math.max(n, 1)); break;
+                case SORTED:     values[i] = i; break;
+                case REVERSED:   values[i] = n - 1 - i; break;
+                case FEW_UNIQUE: values[i] = random.nextInt(FEW_UNIQUE_KEYS); break;
+                case ORGAN_PIPE: values[i] = Math.min(i, n - 1 - i); break;
+                case WIDE:       values[i] = random.nextInt(); break;
+                default: throw new IllegalStateException("Unknown distribution: " + this);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,28 @@
+package ydjs.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH counter of processed elements.
+ * <p>
+ * Benchmarks add the number of elements they touched on every call. JMH normalizes
+ * {@link AuxCounters.Type#OPERATIONS} counters like the primary score, so in
+ * {@code Mode.AverageTime} the {@code elements} line reads as <b>ns/element</b>,
+ * which stays comparable across different {@code size} parameters.
+ * </p>
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Elements {
+    /** elements processed during the current iteration */
+    public long elements;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        elements = 0;
+    }
+}
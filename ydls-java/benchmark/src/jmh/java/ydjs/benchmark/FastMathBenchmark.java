@@ -0,0 +1,57 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The exact {@code BigInteger} paths of {@code FastMath} (std02-arron-algo):
+ * fibonacci by fast doubling, factorial by a split product and 3<sup>n</sup> by squaring.
+ * <p>
+ * {@code elements} counts result bits, so its ns/element shows how far each function
+ * is from linear in the size of its result.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class FastMathBenchmark {
+    /** {@code static BigInteger fibonacciBig(int)}, {@code factorialBig(int)} */
+    static final MethodType BIG_FUNCTION = MethodType.methodType(BigInteger.class, int.class);
+
+    @Param({"fibonacci", "factorial", "power"})
+    public String function;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int n;
+
+    private MethodHandle compute;
+
+    @Setup
+    public void setUp() {
+        if (function.equals("power")) {
+            MethodHandle power = Sorts.find("FastMath", "power", BIG_FUNCTION.insertParameterTypes(0, BigInteger.class));
+            compute = MethodHandles.insertArguments(power, 0, BigInteger.valueOf(3));
+        } else {
+            compute = Sorts.find("FastMath", function + "Big", BIG_FUNCTION);
+        }
+    }
+
+    @Benchmark
+    public BigInteger compute(Elements elements) throws Throwable {
+        BigInteger result = (BigInteger) compute.invokeExact(n);
+        elements.elements += result.bitLength();
+        return result;
+    }
+}
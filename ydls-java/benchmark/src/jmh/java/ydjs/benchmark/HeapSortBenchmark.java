@@ -0,0 +1,57 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code AlgorithmAPSecond.heapSort(int[], int)} by heap arity.
+ * <p>
+ * 1e5 ints (400 KB) still fit in a typical L2 cache, 1e6 and 1e7 do not; that is where
+ * the 4-ary and 8-ary layouts are expected to pull ahead of the binary heap.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HeapSortBenchmark {
+    @Param({"2", "4", "8"})
+    public int arity;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    private int[] source;
+    private int[] work;
+    private MethodHandle sort;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = distribution.generate(size, 42L);
+        work = new int[size];
+        MethodType type = MethodType.methodType(int[].class, int[].class, int.class);
+        sort = MethodHandles.insertArguments(Sorts.find("AlgorithmAPSecond", "heapSort", type), 1, arity);
+    }
+
+    @Benchmark
+    public int[] sort(Elements elements) throws Throwable {
+        System.arraycopy(source, 0, work, 0, size);
+        int[] sorted = (int[]) sort.invokeExact(work);
+        elements.elements += size;
+        return sorted;
+    }
+}
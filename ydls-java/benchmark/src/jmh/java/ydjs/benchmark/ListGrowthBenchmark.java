@@ -0,0 +1,73 @@
+package ydjs.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Filling a {@code MyArrayList} (std04-anderson-dsa) with {@code size} elements.
+ * <p>
+ * The values are boxed once in {@link #setUp()}, so only the list's own work is measured.
+ * Run with the {@code gc} profiler (on by default): {@code gc.alloc.rate.norm} is the number
+ * of bytes allocated per fill, i.e. the final array plus every intermediate copy.
+ * </p>
+ * <ul>
+ *   <li>{@code grow-2.0} / {@code grow-1.5}: start at capacity 10 and let {@code add} resize</li>
+ *   <li>{@code presized}: {@code new MyArrayList<>(size)}, no resize at all</li>
+ *   <li>{@code addAll}: one {@code addAll(Collection)}, a single resize and block copy</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ListGrowthBenchmark {
+    @Param({"grow-2.0", "grow-1.5", "presized", "addAll"})
+    public String strategy;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+    private Collection<Integer> asList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        asList = Arrays.asList(values);
+    }
+
+    @Benchmark
+    public Object fill(Elements elements, Blackhole blackhole) throws Throwable {
+        Object list;
+        switch (strategy) {
+            case "grow-2.0": list = (Object) Lists.NEW.invokeExact(10, 2.0); break;
+            case "grow-1.5": list = (Object) Lists.NEW.invokeExact(10, 1.5); break;
+            case "presized": list = (Object) Lists.NEW.invokeExact(size, 2.0); break;
+            case "addAll":
+                list = (Object) Lists.NEW.invokeExact(10, 2.0);
+                blackhole.consume((boolean) Lists.ADD_ALL.invokeExact(list, asList));
+                elements.elements += size;
+                return list;
+            default: throw new IllegalStateException("Unknown strategy: " + strategy);
+        }
+        for (Integer value : values) {
+            Lists.ADD.invokeExact(list, (Object) value);
+        }
+        elements.elements += size;
+        return list;
+    }
+}
@@ -0,0 +1,69 @@
+package ydjs.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Removing every other element of a {@code MyArrayList} (std04-anderson-dsa):
+ * one {@code removeIf} compaction pass against a loop of {@code remove(int)} calls,
+ * each of which shifts the whole tail.
+ * <p>
+ * The list is rebuilt before every invocation ({@link Level#Invocation}), which is only
+ * accurate because a single removal pass takes far longer than the JMH timer overhead.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ListRemoveBenchmark {
+    private static final Predicate<Integer> ODD = v -> (v & 1) != 0;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Integer[] values;
+    private Object list;
+
+    @Setup(Level.Trial)
+    public void box() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() throws Throwable {
+        list = (Object) Lists.NEW.invokeExact(size, 2.0);
+        for (Integer value : values) {
+            Lists.ADD.invokeExact(list, (Object) value);
+        }
+    }
+
+    @Benchmark
+    public int removeIf(Elements elements) throws Throwable {
+        boolean changed = (boolean) Lists.REMOVE_IF.invokeExact(list, ODD);
+        elements.elements += size;
+        return (int) Lists.SIZE.invokeExact(list);
+    }
+
+    @Benchmark
+    public int removeLoop(Elements elements) throws Throwable {
+        // removing index k shifts the next odd value (2k + 1) into index k + 1
+        for (int k = 1; k <= size / 2; k++) {
+            Object removed = (Object) Lists.REMOVE.invokeExact(list, k);
+        }
+        elements.elements += size;
+        return (int) Lists.SIZE.invokeExact(list);
+    }
+}
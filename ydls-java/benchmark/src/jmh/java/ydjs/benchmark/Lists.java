@@ -0,0 +1,53 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Method handles for {@code MyArrayList} (std04-anderson-dsa).
+ * <p>
+ * Like {@link Sorts}, the default-package class is resolved through {@link MethodHandle}s.
+ * The handles are {@code static final}, so the JIT inlines them and a call costs the same
+ * as a direct one. Lists are passed around as {@code Object}.
+ * </p>
+ */
+final class Lists {
+    /** {@code new MyArrayList<>(int initialCapacity, double growthFactor)} as {@code (int, double)Object} */
+    static final MethodHandle NEW;
+    /** {@code void add(T)} as {@code (Object, Object)void} */
+    static final MethodHandle ADD;
+    /** {@code boolean addAll(Collection)} as {@code (Object, Collection)boolean} */
+    static final MethodHandle ADD_ALL;
+    /** {@code T remove(int)} as {@code (Object, int)Object} */
+    static final MethodHandle REMOVE;
+    /** {@code boolean removeIf(Predicate)} as {@code (Object, Predicate)boolean} */
+    static final MethodHandle REMOVE_IF;
+    /** {@code int size()} as {@code (Object)int} */
+    static final MethodHandle SIZE;
+
+    static {
+        try {
+            Class<?> owner = Class.forName("MyArrayList");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            NEW = lookup.findConstructor(owner, MethodType.methodType(void.class, int.class, double.class))
+                .asType(MethodType.methodType(Object.class, int.class, double.class));
+            ADD = lookup.findVirtual(owner, "add", MethodType.methodType(void.class, Object.class))
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            ADD_ALL = lookup.findVirtual(owner, "addAll", MethodType.methodType(boolean.class, Collection.class))
+                .asType(MethodType.methodType(boolean.class, Object.class, Collection.class));
+            REMOVE = lookup.findVirtual(owner, "remove", MethodType.methodType(Object.class, int.class))
+                .asType(MethodType.methodType(Object.class, Object.class, int.class));
+            REMOVE_IF = lookup.findVirtual(owner, "removeIf", MethodType.methodType(boolean.class, Predicate.class))
+                .asType(MethodType.methodType(boolean.class, Object.class, Predicate.class));
+            SIZE = lookup.findVirtual(owner, "size", MethodType.methodType(int.class))
+                .asType(MethodType.methodType(int.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Lists() {}
+}
@@ -0,0 +1,100 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+
+/**
+ * Method handles for the {@code Matrix} class in {@code std01-jayden-dsa/Main.java}.
+ * <p>
+ * {@code Matrix} is package-private in the default package, so it is looked up with
+ * {@link MethodHandles#privateLookupIn}, which the unnamed module allows. Matrices are
+ * passed around as {@code Object}.
+ * </p>
+ */
+final class Matrices {
+    /** {@code new Matrix(double[][])} as {@code (double[][])Object} */
+    static final MethodHandle NEW;
+    /** {@code Matrix multiply(Matrix)} as {@code (Object, Object)Object} */
+    static final MethodHandle MULTIPLY;
+    /** {@code Matrix add(Matrix)} as {@code (Object, Object)Object} */
+    static final MethodHandle ADD;
+    /** {@code Matrix scalarMultiply(double)} as {@code (Object, double)Object} */
+    static final MethodHandle SCALAR_MULTIPLY;
+    /** {@code Matrix transpose()} as {@code (Object)Object} */
+    static final MethodHandle TRANSPOSE;
+    /** {@code Matrix withExecutor(Executor)} as {@code (Object, Executor)Object} */
+    static final MethodHandle WITH_EXECUTOR;
+
+    /** {@code static MatrixKernels scalar()} / {@code vector()} as {@code ()Object}; vector may return null */
+    static final MethodHandle SCALAR_KERNELS;
+    static final MethodHandle VECTOR_KERNELS;
+    /** {@code void add(double[] a, double[] b, double[] result, int from, int to)} with an {@code Object} receiver */
+    static final MethodHandle KERNEL_ADD;
+    /** {@code void scale(double[] a, double scalar, double[] result, int from, int to)} with an {@code Object} receiver */
+    static final MethodHandle KERNEL_SCALE;
+    /** {@code double dot(double[] a, int aFrom, double[] b, int bFrom, int length)} with an {@code Object} receiver */
+    static final MethodHandle KERNEL_DOT;
+    /** {@code void multiplyBlocked(double[] a, double[] b, double[] c, int m, int p, int rowFrom, int rowTo)} with an {@code Object} receiver */
+    static final MethodHandle KERNEL_MULTIPLY;
+
+    static {
+        try {
+            Class<?> owner = Class.forName("Matrix");
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            NEW = lookup.findConstructor(owner, MethodType.methodType(void.class, double[][].class))
+                .asType(MethodType.methodType(Object.class, double[][].class));
+            MULTIPLY = lookup.findVirtual(owner, "multiply", MethodType.methodType(owner, owner))
+                .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            ADD = lookup.findVirtual(owner, "add", MethodType.methodType(owner, owner))
+                .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            SCALAR_MULTIPLY = lookup.findVirtual(owner, "scalarMultiply", MethodType.methodType(owner, double.class))
+                .asType(MethodType.methodType(Object.class, Object.class, double.class));
+            TRANSPOSE = lookup.findVirtual(owner, "transpose", MethodType.methodType(owner))
+                .asType(MethodType.methodType(Object.class, Object.class));
+            WITH_EXECUTOR = lookup.findVirtual(owner, "withExecutor", MethodType.methodType(owner, Executor.class))
+                .asType(MethodType.methodType(Object.class, Object.class, Executor.class));
+
+            Class<?> kernels = Class.forName("MatrixKernels");
+            MethodHandles.Lookup kernelLookup = MethodHandles.privateLookupIn(kernels, MethodHandles.lookup());
+            SCALAR_KERNELS = kernelLookup.findStatic(kernels, "scalar", MethodType.methodType(kernels))
+                .asType(MethodType.methodType(Object.class));
+            VECTOR_KERNELS = kernelLookup.findStatic(kernels, "vector", MethodType.methodType(kernels))
+                .asType(MethodType.methodType(Object.class));
+            KERNEL_ADD = virtual(kernelLookup, kernels, "add",
+                MethodType.methodType(void.class, double[].class, double[].class, double[].class, int.class, int.class));
+            KERNEL_SCALE = virtual(kernelLookup, kernels, "scale",
+                MethodType.methodType(void.class, double[].class, double.class, double[].class, int.class, int.class));
+            KERNEL_DOT = virtual(kernelLookup, kernels, "dot",
+                MethodType.methodType(double.class, double[].class, int.class, double[].class, int.class, int.class));
+            KERNEL_MULTIPLY = virtual(kernelLookup, kernels, "multiplyBlocked",
+                MethodType.methodType(void.class, double[].class, double[].class, double[].class, int.class, int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Matrices() {}
+
+    /** Finds an instance method and widens its receiver to {@code Object}. */
+    private static MethodHandle virtual(MethodHandles.Lookup lookup, Class<?> owner, String name, MethodType type)
+            throws ReflectiveOperationException {
+        MethodHandle handle = lookup.findVirtual(owner, name, type);
+        return handle.asType(handle.type().changeParameterType(0, Object.class));
+    }
+
+    /**
+     * Fills a {@code rows x cols} array with uniform values in {@code [-1, 1)}.
+     *
+     * @param seed random seed, so every fork multiplies the same data
+     */
+    static double[][] random(int rows, int cols, long seed) {
+        java.util.Random random = new java.util.Random(seed);
+        double[][] m = new double[rows][cols];
+        for (double[] row : m) {
+            for (int j = 0; j < cols; j++) row[j] = random.nextDouble() * 2 - 1;
+        }
+        return m;
+    }
+}
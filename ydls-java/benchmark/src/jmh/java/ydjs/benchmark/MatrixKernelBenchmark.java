@@ -0,0 +1,77 @@
+package ydjs.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Scalar against Vector API ({@code VectorKernels.java}) kernels of the std01-jayden-dsa
+ * {@code Matrix}, single-threaded.
+ * <p>
+ * {@code size} is the length of the vectors for {@code add}, {@code scale} and {@code dot},
+ * and the edge of the square matrices for {@code multiply}. The {@code elements} counter is
+ * per element, or per multiply-add for {@code multiply}. A trial with {@code kernels=vector}
+ * fails in setup if the Vector API is not available.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MatrixKernelBenchmark {
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    @Param({"add", "scale", "dot", "multiply"})
+    public String operation;
+
+    @Param({"256", "1024"})
+    public int size;
+
+    private Object kernel;
+    private double[] a;
+    private double[] b;
+    private double[] result;
+    private int length;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        kernel = "vector".equals(kernels) ? (Object) Matrices.VECTOR_KERNELS.invokeExact() : (Object) Matrices.SCALAR_KERNELS.invokeExact();
+        if (kernel == null) throw new IllegalStateException("Vector API kernels are not available");
+        length = "multiply".equals(operation) ? size * size : size;
+        java.util.Random random = new java.util.Random(3);
+        a = random.doubles(length).toArray();
+        b = random.doubles(length).toArray();
+        result = new double[length];
+    }
+
+    @Benchmark
+    public Object run(Elements elements) throws Throwable {
+        switch (operation) {
+            case "add":
+                elements.elements += length;
+                Matrices.KERNEL_ADD.invokeExact(kernel, a, b, result, 0, length);
+                return result;
+            case "scale":
+                elements.elements += length;
+                Matrices.KERNEL_SCALE.invokeExact(kernel, a, 1.5, result, 0, length);
+                return result;
+            case "dot":
+                elements.elements += length;
+                return (double) Matrices.KERNEL_DOT.invokeExact(kernel, a, 0, b, 0, length);
+            case "multiply":
+                elements.elements += (long) size * size * size;
+                java.util.Arrays.fill(result, 0);
+                Matrices.KERNEL_MULTIPLY.invokeExact(kernel, a, b, result, size, size, 0, size);
+                return result;
+            default: throw new IllegalStateException("Unknown operation: " + operation);
+        }
+    }
+}
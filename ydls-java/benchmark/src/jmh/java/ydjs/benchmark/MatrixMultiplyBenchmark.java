@@ -0,0 +1,68 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Square {@code size x size} matrix multiply (std01-jayden-dsa/Main.java).
+ * <ul>
+ *   <li>{@code textbook}: {@code Main.multiply(double[][], double[][])}, the i-j-k loop</li>
+ *   <li>{@code blocked}: {@code Matrix.multiply}, flat row-major storage, tiled i-k-j with k unrolled by 4</li>
+ * </ul>
+ * The {@code elements} counter reports ns per multiply-add ({@code size³} per call).
+ * The forks run with {@code -Dmatrix.kernels=scalar}, so {@code blocked} is the scalar tiled
+ * loop even though the build adds the Vector API module; MatrixKernelBenchmark compares
+ * it with the vector kernels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(jvmArgsAppend = "-Dmatrix.kernels=scalar")
+public class MatrixMultiplyBenchmark {
+    private static final MethodType ARRAY_MULTIPLY = MethodType.methodType(double[][].class, double[][].class, double[][].class);
+
+    @Param({"textbook", "blocked"})
+    public String algorithm;
+
+    @Param({"128", "512", "1024"})
+    public int size;
+
+    private double[][] a;
+    private double[][] b;
+    private Object matrixA;
+    private Object matrixB;
+    private MethodHandle textbook;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        a = Matrices.random(size, size, 1L);
+        b = Matrices.random(size, size, 2L);
+        // single-threaded, like the textbook loop; MatrixParallelBenchmark covers the thread scaling
+        matrixA = (Object) Matrices.WITH_EXECUTOR.invokeExact((Object) Matrices.NEW.invokeExact(a), (Executor) null);
+        matrixB = (Object) Matrices.NEW.invokeExact(b);
+        textbook = Sorts.find("Main", "multiply", ARRAY_MULTIPLY);
+    }
+
+    @Benchmark
+    public Object multiply(Elements elements) throws Throwable {
+        elements.elements += (long) size * size * size;
+        switch (algorithm) {
+            case "textbook": return (double[][]) textbook.invokeExact(a, b);
+            case "blocked":  return (Object) Matrices.MULTIPLY.invokeExact(matrixA, matrixB);
+            default: throw new IllegalStateException("Unknown algorithm: " + algorithm);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ydjs.benchmark;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Thread scaling of the {@code Matrix} operations (std01-jayden-dsa/Main.java) that split
+ * their rows into bands on the matrix's executor.
+ * <p>
+ * Each trial gives the matrices a dedicated {@link ForkJoinPool} of {@code threads} workers,
+ * so the common pool (and the other benchmarks) do not interfere. The {@code elements}
+ * counter is per element of the result, or per multiply-add for {@code multiply}; compare
+ * it across {@code threads} for the speed-up.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MatrixParallelBenchmark {
+    @Param({"multiply", "add", "scalarMultiply", "transpose"})
+    public String operation;
+
+    @Param({"1024", "2048"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private Object a;
+    private Object b;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        pool = new ForkJoinPool(threads);
+        a = (Object) Matrices.WITH_EXECUTOR.invokeExact((Object) Matrices.NEW.invokeExact(Matrices.random(size, size, 1L)), (Executor) pool);
+        b = (Object) Matrices.NEW.invokeExact(Matrices.random(size, size, 2L));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Object run(Elements elements) throws Throwable {
+        long cells = (long) size * size;
+        switch (operation) {
+            case "multiply":
+                elements.elements += cells * size;
+                return (Object) Matrices.MULTIPLY.invokeExact(a, b);
+            case "add":
+                elements.elements += cells;
+                return (Object) Matrices.ADD.invokeExact(a, b);
+            case "scalarMultiply":
+                elements.elements += cells;
+                return (Object) Matrices.SCALAR_MULTIPLY.invokeExact(a, 1.5);
+            case "transpose":
+                elements.elements += cells;
+                return (Object) Matrices.TRANSPOSE.invokeExact(a);
+            default: throw new IllegalStateException("Unknown operation: " + operation);
+        }
+    }
+}
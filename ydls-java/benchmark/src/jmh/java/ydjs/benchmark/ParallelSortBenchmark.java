@@ -0,0 +1,91 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * {@code ParallelSort} (std02-arron-algo) against {@link Arrays#parallelSort}, for int[] and double[].
+ * <p>
+ * The JDK baseline is run inside a {@link ForkJoinPool} of the same {@code parallelism}, so its
+ * subtasks are executed by that pool's workers rather than by the common pool.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ParallelSortBenchmark {
+    @Param({"mergeSort", "quickSort", "Arrays.parallelSort"})
+    public String algorithm;
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    private int[] intSource, intWork;
+    private double[] doubleSource, doubleWork;
+    private AutoCloseable sorter;
+    private ForkJoinPool pool;
+    private MethodHandle sortInts, sortDoubles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        intSource = random.ints(size).toArray();
+        doubleSource = random.doubles(size).toArray();
+        intWork = new int[size];
+        doubleWork = new double[size];
+        if (algorithm.equals("Arrays.parallelSort")) {
+            pool = new ForkJoinPool(parallelism);
+        } else {
+            sorter = Sorts.newParallelSort(parallelism);
+            sortInts = Sorts.bind(sorter, algorithm, Sorts.INT_SORT);
+            sortDoubles = Sorts.bind(sorter, algorithm, Sorts.DOUBLE_SORT);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (sorter != null) sorter.close();
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] ints(Elements elements) throws Throwable {
+        System.arraycopy(intSource, 0, intWork, 0, size);
+        elements.elements += size;
+        if (pool != null) {
+            pool.submit(() -> Arrays.parallelSort(intWork)).join();
+            return intWork;
+        }
+        return (int[]) sortInts.invokeExact(intWork);
+    }
+
+    @Benchmark
+    public double[] doubles(Elements elements) throws Throwable {
+        System.arraycopy(doubleSource, 0, doubleWork, 0, size);
+        elements.elements += size;
+        if (pool != null) {
+            pool.submit(() -> Arrays.parallelSort(doubleWork)).join();
+            return doubleWork;
+        }
+        return (double[]) sortDoubles.invokeExact(doubleWork);
+    }
+}
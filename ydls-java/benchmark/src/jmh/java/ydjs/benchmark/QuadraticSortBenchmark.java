@@ -0,0 +1,54 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * O(n²) sorts of {@code AlgorithmAPSecond} (std02-arron-algo).
+ * <p>
+ * Kept apart from {@link SortBenchmark} because 1e5+ elements already take seconds per call,
+ * so the size axis stops at 1e4 here.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class QuadraticSortBenchmark {
+    @Param({"bubbleSort", "selectionSort", "insertionSort"})
+    public String algorithm;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public Distribution distribution;
+
+    private int[] source;
+    private int[] work;
+    private MethodHandle sort;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = distribution.generate(size, 42L);
+        work = new int[size];
+        sort = Sorts.find("AlgorithmAPSecond", algorithm);
+    }
+
+    @Benchmark
+    public int[] sort(Elements elements) throws Throwable {
+        System.arraycopy(source, 0, work, 0, size);
+        int[] sorted = (int[]) sort.invokeExact(work);
+        elements.elements += size;
+        return sorted;
+    }
+}
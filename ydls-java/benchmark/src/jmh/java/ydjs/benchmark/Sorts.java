@@ -0,0 +1,84 @@
+package ydjs.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Looks up the student sorting methods.
+ * <p>
+ * Student classes such as {@code AlgorithmAPSecond} live in the default package, which a
+ * named package cannot import. They are resolved once per trial through a {@link MethodHandle},
+ * so the per-call cost is a single {@code invokeExact}.
+ * </p>
+ */
+final class Sorts {
+    /** {@code static int[] sort(int[] nums)} */
+    static final MethodType INT_SORT = MethodType.methodType(int[].class, int[].class);
+    /** {@code double[] sort(double[] nums)} */
+    static final MethodType DOUBLE_SORT = MethodType.methodType(double[].class, double[].class);
+
+    private Sorts() {}
+
+    /**
+     * Finds a static {@code int[] method(int[])} on a default-package class.
+     *
+     * @param className  simple name of the class, e.g. {@code "AlgorithmAPSecond"}
+     * @param methodName name of the sort, e.g. {@code "quickSort"}
+     * @return a handle of type {@link #INT_SORT}
+     * @throws IllegalArgumentException if the class or method does not exist
+     */
+    static MethodHandle find(String className, String methodName) {
+        return find(className, methodName, INT_SORT);
+    }
+
+    /**
+     * Finds a static method of the given type on a default-package class.
+     *
+     * @param className  simple name of the class, e.g. {@code "AlgorithmAPSecond"}
+     * @param methodName name of the method, e.g. {@code "heapSort"}
+     * @param type       the method's parameter and return types
+     * @return a handle of {@code type}
+     * @throws IllegalArgumentException if the class or method does not exist
+     */
+    static MethodHandle find(String className, String methodName, MethodType type) {
+        try {
+            Class<?> owner = Class.forName(className);
+            return MethodHandles.publicLookup().findStatic(owner, methodName, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No method " + className + "." + methodName + type, e);
+        }
+    }
+
+    /**
+     * Creates a {@code ParallelSort} (std02-arron-algo) with its own pool.
+     *
+     * @param parallelism number of worker threads
+     * @return the sorter; close it to shut its pool down
+     */
+    static AutoCloseable newParallelSort(int parallelism) {
+        try {
+            Class<?> owner = Class.forName("ParallelSort");
+            return (AutoCloseable) owner.getConstructor(int.class).newInstance(parallelism);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No ParallelSort(int)", e);
+        }
+    }
+
+    /**
+     * Finds an instance sort method and binds it to {@code sorter}.
+     *
+     * @param sorter     the object to call the method on
+     * @param methodName name of the sort, e.g. {@code "mergeSort"}
+     * @param type       {@link #INT_SORT} or {@link #DOUBLE_SORT}
+     * @return a handle of {@code type}
+     * @throws IllegalArgumentException if the method does not exist
+     */
+    static MethodHandle bind(Object sorter, String methodName, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(sorter.getClass(), methodName, type).bindTo(sorter);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No sort " + sorter.getClass().getName() + "." + methodName + type, e);
+        }
+    }
+}
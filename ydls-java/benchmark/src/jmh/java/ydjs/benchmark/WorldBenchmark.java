@@ -0,0 +1,60 @@
+package ydjs.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import anderson.app.lwjgl.InputState;
+import anderson.app.lwjgl.World;
+
+/**
+ * One second of play (60 ticks) of the headless {@code World} of the LWJGL game
+ * (app/src/main/java/anderson/app/lwjgl), with {@code mobs} mobs chasing an idle player:
+ * mob movement, the spatial grid rebuild, the player collision query and, with
+ * {@code separation}, the mob-mob separation pass.
+ * <p>
+ * Mobs that reach the player are removed, so the world has no steady state to average over.
+ * Each measurement is a single shot of {@link #TICKS} ticks on a freshly spawned world
+ * ({@link Level#Iteration} setup); the score is the time for the whole second.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = WorldBenchmark.TICKS)
+@Measurement(iterations = 20, batchSize = WorldBenchmark.TICKS)
+@State(Scope.Thread)
+public class WorldBenchmark {
+    /** ticks per measurement: one second of play */
+    static final int TICKS = 60;
+
+    @Param({"1000", "10000", "100000"})
+    public int mobs;
+
+    @Param({"false", "true"})
+    public boolean separation;
+
+    private World world;
+
+    @Setup(Level.Iteration)
+    public void spawn() {
+        world = new World(World.Difficulty.NIGHTMARE, 42);
+        world.setMobSeparation(separation);
+        world.spawnMobsA(mobs);
+    }
+
+    @Benchmark
+    public int step() {
+        world.step(InputState.NONE);
+        return world.getMobCount();
+    }
+}
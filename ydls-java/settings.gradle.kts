@@ -11,4 +11,4 @@ plugins {
 }
 
 rootProject.name = "ydjs"
-include("app", "list", "utilities")     // List your submodules here
\ No newline at end of file
+include("app", "list", "utilities", "benchmark")     // List your submodules here
\ No newline at end of file